@@ -0,0 +1,151 @@
+package seedu.notus.benchmark;
+
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.notebook.Notebook;
+import seedu.notus.data.tag.Tag;
+import seedu.notus.data.tag.TagManager;
+import seedu.notus.data.timetable.DailyEvent;
+import seedu.notus.data.timetable.Event;
+import seedu.notus.data.timetable.MonthlyEvent;
+import seedu.notus.data.timetable.RecurringEvent;
+import seedu.notus.data.timetable.Timetable;
+import seedu.notus.data.timetable.WeeklyEvent;
+import seedu.notus.data.timetable.YearlyEvent;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+//@@author Chongjx
+/**
+ * Builds the data used by the benchmarks. The data is generated from a fixed seed so that every run measures the
+ * same notebook, timetable and tags.
+ */
+final class BenchmarkData {
+    static final int BENCHMARK_YEAR = 2020;
+    static final String TITLE_PREFIX = "Note ";
+    static final String TAG_PREFIX = "Tag";
+
+    private static final long SEED = 2113L;
+    private static final int TAG_COUNT = 16;
+    private static final int CONTENT_LINES = 5;
+    private static final int EVENT_TYPES = 5;
+    private static final String[] WORDS = {"lecture", "tutorial", "java", "assertion", "junit", "gradle",
+        "exception", "parser", "storage", "timetable"};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates tags that cycle through all the tag colors.
+     *
+     * @return Tags named Tag0, Tag1, ...
+     */
+    static ArrayList<Tag> createTags() {
+        String[] colors = {Tag.COLOR_RED_STRING, Tag.COLOR_GREEN_STRING, Tag.COLOR_BLUE_STRING,
+            Tag.COLOR_YELLOW_STRING, Tag.COLOR_MAGENTA_STRING, Tag.COLOR_CYAN_STRING, Tag.COLOR_WHITE_STRING};
+        ArrayList<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < TAG_COUNT; i++) {
+            tags.add(new Tag(TAG_PREFIX + i, colors[i % colors.length]));
+        }
+        return tags;
+    }
+
+    /**
+     * Creates a notebook of notes with unique shuffled titles. Every fourth note is pinned and every note has up to
+     * two tags.
+     *
+     * @param size Number of notes in the notebook.
+     * @param tagManager TagManager to register the tags of the notes in.
+     * @return Notebook with the notes.
+     */
+    static Notebook createNotebook(int size, TagManager tagManager) {
+        Random random = new Random(SEED);
+        ArrayList<Tag> tags = createTags();
+        for (Tag tag : tags) {
+            tagManager.createTag(tag, false);
+        }
+
+        ArrayList<Integer> titleNumbers = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            titleNumbers.add(i);
+        }
+        Collections.shuffle(titleNumbers, random);
+
+        Notebook notebook = new Notebook();
+        for (int i = 0; i < size; i++) {
+            ArrayList<String> content = new ArrayList<>();
+            for (int line = 0; line < CONTENT_LINES; line++) {
+                content.add(createSentence(random));
+            }
+            Note note = new Note(TITLE_PREFIX + titleNumbers.get(i), content, i % 4 == 0, false);
+            tagManager.tagObject(note, tags.get(i % tags.size()));
+            if (i % 3 == 0) {
+                tagManager.tagObject(note, tags.get((i + 1) % tags.size()));
+            }
+            notebook.addNote(note);
+        }
+        return notebook;
+    }
+
+    /**
+     * Creates a timetable with an even mix of non-recurring, daily, weekly, monthly and yearly events spread across
+     * the benchmark year. Recurring events never stop recurring, so they also have reminders due today. Every event has
+     * a reminder one day and one week before it.
+     *
+     * @param size Number of events in the timetable.
+     * @return Timetable with the events.
+     */
+    static Timetable createTimetable(int size) {
+        Random random = new Random(SEED);
+        Timetable timetable = new Timetable();
+        for (int i = 0; i < size; i++) {
+            LocalDateTime start = LocalDateTime.of(BENCHMARK_YEAR, 1 + random.nextInt(12), 1 + random.nextInt(28),
+                    random.nextInt(22), 0);
+            timetable.addEvent(createEvent(i, start, start.plusHours(1 + random.nextInt(2))));
+        }
+        return timetable;
+    }
+
+    /**
+     * Creates an event of a type that depends on the index.
+     *
+     * @param index Index of the event.
+     * @param start Start date time of the event.
+     * @param end End date time of the event.
+     * @return Created event.
+     */
+    static Event createEvent(int index, LocalDateTime start, LocalDateTime end) {
+        String title = "Event " + index;
+        HashMap<String, ArrayList<Integer>> reminderPeriods = new HashMap<>();
+        reminderPeriods.put(Event.REMINDER_DAY, new ArrayList<>(List.of(1)));
+        reminderPeriods.put(Event.REMINDER_WEEK, new ArrayList<>(List.of(1)));
+        LocalDate endRecurrence = RecurringEvent.DEFAULT_END_RECURRENCE;
+
+        switch (index % EVENT_TYPES) {
+        case 1:
+            return new DailyEvent(title, start, end, true, endRecurrence, reminderPeriods, new ArrayList<>());
+        case 2:
+            return new WeeklyEvent(title, start, end, true, endRecurrence, reminderPeriods, new ArrayList<>());
+        case 3:
+            return new MonthlyEvent(title, start, end, true, endRecurrence, reminderPeriods, new ArrayList<>());
+        case 4:
+            return new YearlyEvent(title, start, end, true, endRecurrence, reminderPeriods, new ArrayList<>());
+        default:
+            return new Event(title, start, end, true, false, reminderPeriods, new ArrayList<>());
+        }
+    }
+
+    private static String createSentence(Random random) {
+        StringBuilder sentence = new StringBuilder();
+        int wordCount = 5 + random.nextInt(20);
+        for (int i = 0; i < wordCount; i++) {
+            sentence.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return sentence.toString().trim();
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.notus.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.notebook.Notebook;
+import seedu.notus.data.tag.TagManager;
+import seedu.notus.ui.Formatter;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+//@@author Chongjx
+/**
+ * Measures the rendering of the note list, as done by list-n, and of messages with one row per element. The cost
+ * is expected to grow linearly with the size of the output.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FormatterBenchmark {
+    private static final String HEADER = "Here are the list of notes:";
+    private static final String PINNED_HEADER = "Pinned notes:";
+    private static final String UNPINNED_HEADER = "Unpinned notes:";
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private Notebook notebook;
+    private ArrayList<Note> pinnedNotes;
+    private ArrayList<Note> unpinnedNotes;
+    private ArrayList<String> messages;
+    private Note longNote;
+    private String longColoredLine;
+
+    @Setup
+    public void setUp() {
+        notebook = BenchmarkData.createNotebook(size, new TagManager());
+        pinnedNotes = notebook.getPinnedNotes();
+        unpinnedNotes = notebook.getUnpinnedNotes();
+
+        messages = new ArrayList<>();
+        messages.add(HEADER);
+        ArrayList<String> content = new ArrayList<>();
+        for (Note note : notebook.getNotes()) {
+            messages.add(note.getTitle() + " " + note.getTagsName());
+            content.addAll(note.getContent());
+        }
+        longNote = new Note(BenchmarkData.TITLE_PREFIX + size, content, false, false);
+
+        StringBuilder line = new StringBuilder();
+        for (int i = 1; i < messages.size(); i++) {
+            line.append(messages.get(i)).append(' ');
+        }
+        longColoredLine = line.toString();
+    }
+
+    @Benchmark
+    public String formatNotes() {
+        return Formatter.formatNotes(HEADER, notebook.getNotes(), notebook);
+    }
+
+    @Benchmark
+    public String formatPinnedAndUnpinnedNotes() {
+        return Formatter.formatNotes(PINNED_HEADER, UNPINNED_HEADER, pinnedNotes, unpinnedNotes, notebook);
+    }
+
+    @Benchmark
+    public String formatNote() {
+        return Formatter.formatNote(HEADER, longNote);
+    }
+
+    @Benchmark
+    public String formatString() {
+        return Formatter.formatString(messages, true);
+    }
+
+    @Benchmark
+    public String formatLongColoredLine() {
+        return Formatter.formatString(longColoredLine);
+    }
+}
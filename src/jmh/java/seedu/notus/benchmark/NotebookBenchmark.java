@@ -0,0 +1,67 @@
+package seedu.notus.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.notebook.Notebook;
+import seedu.notus.data.tag.TagManager;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+//@@author Chongjx
+/**
+ * Measures the note lookups and sorting of the Notebook.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NotebookBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    public int size;
+
+    private Notebook notebook;
+    private String lastTitle;
+
+    @Setup
+    public void setUp() {
+        notebook = BenchmarkData.createNotebook(size, new TagManager());
+        lastTitle = notebook.getNote(size - 1).getTitle();
+    }
+
+    @Benchmark
+    public Note getNoteByTitle() {
+        return notebook.getNote(lastTitle, false);
+    }
+
+    @Benchmark
+    public int getNoteIndex() {
+        return notebook.getNoteIndex(notebook.getNote(size - 1));
+    }
+
+    @Benchmark
+    public ArrayList<Note> findNotes() {
+        return notebook.findNotes("1");
+    }
+
+    @Benchmark
+    public ArrayList<Note> getSortedList() {
+        return notebook.getSortedList(true, null);
+    }
+
+    @Benchmark
+    public ArrayList<Note> getSortedListPinned() {
+        return notebook.getSortedList(false, true);
+    }
+
+    @Benchmark
+    public ArrayList<Note> getPinnedNotes() {
+        return notebook.getPinnedNotes();
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.notus.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.notus.command.Command;
+import seedu.notus.util.parser.ParserManager;
+
+import java.util.concurrent.TimeUnit;
+
+//@@author Chongjx
+/**
+ * Measures the parsing of user input into commands. The size is the number of tags in each command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserBenchmark {
+    @Param({"1", "10", "100"})
+    public int size;
+
+    private ParserManager parserManager;
+    private String tagNoteInput;
+    private String listNoteInput;
+    private String addEventInput;
+
+    @Setup
+    public void setUp() {
+        parserManager = new ParserManager();
+        StringBuilder tagPrefixes = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            tagPrefixes.append(" /tag ").append(BenchmarkData.TAG_PREFIX).append(i);
+        }
+        tagNoteInput = "tag-n /i 1" + tagPrefixes;
+        listNoteInput = "list-n /sort up" + tagPrefixes;
+        addEventInput = "add-e /t CS2113 Tutorial /timing 2020-10-30 13:00 /end 2020-10-30 19:00 /repeat weekly"
+                + " /remind 1-day 3-day" + tagPrefixes;
+    }
+
+    @Benchmark
+    public Command parseTagNote() {
+        return parserManager.parseCommand(tagNoteInput);
+    }
+
+    @Benchmark
+    public Command parseListNote() {
+        return parserManager.parseCommand(listNoteInput);
+    }
+
+    @Benchmark
+    public Command parseAddEvent() {
+        return parserManager.parseCommand(addEventInput);
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.notus.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.notebook.Notebook;
+import seedu.notus.data.tag.Tag;
+import seedu.notus.data.tag.TagManager;
+import seedu.notus.data.tag.TaggableObject;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+//@@author Chongjx
+/**
+ * Measures the tag lookups and the tagging of objects by the TagManager.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TagManagerBenchmark {
+    private static final String TAG_STRING = "Tagged: ";
+    private static final String UNTAG_STRING = "Untagged: ";
+
+    @Param({"10", "100", "1000", "10000"})
+    public int size;
+
+    private TagManager tagManager;
+    private Note note;
+    private ArrayList<Note> notes;
+    private ArrayList<Tag> tags;
+    private String lastTagName;
+
+    @Setup
+    public void setUp() {
+        tagManager = new TagManager();
+        Notebook notebook = BenchmarkData.createNotebook(size, tagManager);
+        notes = notebook.getNotes();
+        note = notes.get(size - 1);
+        tags = BenchmarkData.createTags();
+        lastTagName = tags.get(tags.size() - 1).getTagName().toLowerCase();
+    }
+
+    @Benchmark
+    public Tag getTag() {
+        return tagManager.getTag(lastTagName);
+    }
+
+    @Benchmark
+    public ArrayList<TaggableObject> getTaggedObjects() {
+        return tagManager.getTaggedObjects(lastTagName);
+    }
+
+    @Benchmark
+    public ArrayList<String> getAllTagsName() {
+        return tagManager.getAllTagsName();
+    }
+
+    /** Toggles the tags twice so that the note ends up with the tags it started with. */
+    @Benchmark
+    public ArrayList<String> tagAndUntagNote() {
+        tagManager.tagAndUntag(note, tags, TAG_STRING, UNTAG_STRING);
+        return tagManager.tagAndUntag(note, tags, TAG_STRING, UNTAG_STRING);
+    }
+
+    /** Toggles the first tag twice on every note so that the notes end up with the tags they started with. */
+    @Benchmark
+    public int tagAndUntagAllNotes() {
+        ArrayList<Tag> firstTag = new ArrayList<>(tags.subList(0, 1));
+        tagManager.tagAndUntag(notes, firstTag);
+        return tagManager.tagAndUntag(notes, firstTag);
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.notus.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.notus.data.timetable.Event;
+import seedu.notus.data.timetable.EventClash;
+import seedu.notus.data.timetable.FreeSlotFinder;
+import seedu.notus.data.timetable.Reminder;
+import seedu.notus.data.timetable.TimeSlot;
+import seedu.notus.data.timetable.Timetable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+//@@author Chongjx
+/**
+ * Measures the queries of the Timetable, which expand the recurring events on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TimetableBenchmark {
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private Timetable timetable;
+    private LocalDate monthStart;
+    private LocalDate monthEnd;
+    private Event probeEvent;
+
+    @Setup
+    public void setUp() {
+        timetable = BenchmarkData.createTimetable(size);
+        monthStart = LocalDate.of(BenchmarkData.BENCHMARK_YEAR, 6, 1);
+        monthEnd = monthStart.withDayOfMonth(monthStart.lengthOfMonth());
+        LocalDateTime probeStart = LocalDateTime.of(BenchmarkData.BENCHMARK_YEAR, 6, 15, 10, 0);
+        probeEvent = BenchmarkData.createEvent(0, probeStart, probeStart.plusHours(2));
+    }
+
+    @Benchmark
+    public ArrayList<Event> getAllEventsOfMonth() {
+        return timetable.getAllEvents(monthStart, monthEnd);
+    }
+
+    @Benchmark
+    public HashMap<Month, HashMap<Integer, ArrayList<Event>>> getYearTimetable() {
+        return timetable.getYearTimetable(BenchmarkData.BENCHMARK_YEAR);
+    }
+
+    @Benchmark
+    public ArrayList<Reminder> getReminders() {
+        return timetable.getReminders();
+    }
+
+    @Benchmark
+    public ArrayList<Event> getClashingEvents() {
+        return timetable.getClashingEvents(probeEvent);
+    }
+
+    @Benchmark
+    public ArrayList<EventClash> getClashesOfMonth() {
+        return timetable.getClashes(monthStart, monthEnd);
+    }
+
+    @Benchmark
+    public ArrayList<TimeSlot> findFreeSlotsOfYear() {
+        LocalDate yearStart = LocalDate.of(BenchmarkData.BENCHMARK_YEAR, 1, 1);
+        return new FreeSlotFinder(timetable).findFreeSlots(yearStart, yearStart.plusYears(1).minusDays(1), 90,
+                Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.notus;
+
+import com.diogonunes.jcolor.Attribute;
+import seedu.notus.command.Command;
+import seedu.notus.command.ExitCommand;
+import seedu.notus.command.IncorrectCommand;
+import seedu.notus.command.MoreCommand;
+import seedu.notus.command.PagedCommand;
+import seedu.notus.data.notebook.Notebook;
+import seedu.notus.data.tag.TagManager;
+import seedu.notus.data.timetable.Timetable;
+import seedu.notus.storage.StorageManager;
+import seedu.notus.util.metrics.Metrics;
+import seedu.notus.util.parser.Parser;
+import seedu.notus.util.parser.ParserManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.LineNumberReader;
+import java.io.PrintStream;
+
+import static com.diogonunes.jcolor.Ansi.generateCode;
+import static seedu.notus.ui.Formatter.LS;
+
+//@@author Chongjx
+/**
+ * Represents a BatchRunner. Executes the commands of a script without prompting the user and commits all the
+ * changes to the storage files once the whole script has been executed.
+ */
+public class BatchRunner {
+    private static final String COMMENT_PREFIX = "#";
+    private static final String INVALID_LINE_FORMAT = "Line %d: %s";
+    private static final String SUMMARY_FORMAT = "Batch completed: %d command(s) executed, %d failed, %d invalid.";
+    /** Color of the messages of unsuccessful commands. */
+    private static final String FAILURE_COLOR = generateCode(Attribute.RED_TEXT());
+    private static final String ESCAPE_CODE_REGEX = "\u001B\\[[0-9;]*m";
+    private static final String ROW_END_REGEX = "\\s*\\|$";
+
+    private final ParserManager parserManager;
+    private final Notebook notebook;
+    private final Timetable timetable;
+    private final TagManager tagManager;
+    private final StorageManager storageManager;
+    private final PrintStream out;
+
+    private int executedCount = 0;
+    private int failedCount = 0;
+    private int invalidCount = 0;
+
+    public BatchRunner(ParserManager parserManager, Notebook notebook, Timetable timetable,
+                       TagManager tagManager, StorageManager storageManager, PrintStream out) {
+        this.parserManager = parserManager;
+        this.notebook = notebook;
+        this.timetable = timetable;
+        this.tagManager = tagManager;
+        this.storageManager = storageManager;
+        this.out = out;
+    }
+
+    /**
+     * Executes every command read until the end of the script or an exit command. Blank lines and lines
+     * starting with # are skipped. Note contents are read from the lines following the command, up to /end.
+     * Only invalid commands, commands that fail to execute and a final summary are printed.
+     *
+     * @param reader Source of the commands, one per line.
+     * @throws IOException if unable to read the script or save to the file.
+     */
+    public void run(BufferedReader reader) throws IOException {
+        LineNumberReader script = new LineNumberReader(reader);
+        storageManager.deferSaves();
+        Parser.setContentReader(script);
+        PagedCommand pendingPage = null;
+        try {
+            String line;
+            while ((line = script.readLine()) != null) {
+                int lineNumber = script.getLineNumber();
+                String userCommandText = line.trim();
+                if (userCommandText.isEmpty() || userCommandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                Command command = parserManager.parseCommand(userCommandText);
+                if (ExitCommand.isExit(command)) {
+                    break;
+                }
+
+                if (command instanceof IncorrectCommand) {
+                    invalidCount++;
+                    out.println(String.format(INVALID_LINE_FORMAT, lineNumber, ((IncorrectCommand) command).message));
+                    continue;
+                }
+
+                if (command instanceof MoreCommand) {
+                    ((MoreCommand) command).setPagedCommand(pendingPage);
+                }
+                command.setData(notebook, timetable, tagManager, storageManager);
+                long startNanos = System.nanoTime();
+                String result = command.execute();
+                Metrics.recordCommand(command.getClass().getSimpleName(), System.nanoTime() - startNanos);
+                pendingPage = PagedCommand.getPendingPage(command);
+
+                String failureMessage = getFailureMessage(result);
+                if (failureMessage != null) {
+                    failedCount++;
+                    out.println(String.format(INVALID_LINE_FORMAT, lineNumber, failureMessage));
+                    continue;
+                }
+                executedCount++;
+            }
+        } finally {
+            Parser.setContentReader(null);
+            // Changes of a transaction that is not committed are discarded
+            try {
+                storageManager.rollbackTransaction();
+            } finally {
+                storageManager.commitDeferredSaves();
+            }
+        }
+        out.println(String.format(SUMMARY_FORMAT, executedCount, failedCount, invalidCount));
+    }
+
+    /**
+     * Returns the message of a command that failed to execute. Like the messages of invalid commands, the messages
+     * of unsuccessful executions are colored red.
+     *
+     * @param result Output of the executed command.
+     * @return Row of the output holding the first unsuccessful message, null if the execution is successful.
+     */
+    private static String getFailureMessage(String result) {
+        int start = result == null ? -1 : result.indexOf(FAILURE_COLOR);
+        if (start < 0) {
+            return null;
+        }
+        int end = result.indexOf(LS, start);
+        String row = result.substring(start, end < 0 ? result.length() : end);
+        return row.replaceAll(ESCAPE_CODE_REGEX, "").replaceAll(ROW_END_REGEX, "").trim();
+    }
+
+    public int getExecutedCount() {
+        return executedCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public int getInvalidCount() {
+        return invalidCount;
+    }
+}
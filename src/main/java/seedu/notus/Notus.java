@@ -3,6 +3,8 @@ package seedu.notus;
 import org.fusesource.jansi.AnsiConsole;
 import seedu.notus.command.Command;
 import seedu.notus.command.ExitCommand;
+import seedu.notus.command.MoreCommand;
+import seedu.notus.command.PagedCommand;
 import seedu.notus.data.exception.SystemException;
 import seedu.notus.data.notebook.Notebook;
 import seedu.notus.data.tag.TagManager;
@@ -11,9 +13,13 @@ import seedu.notus.storage.StorageManager;
 import seedu.notus.ui.AsciiArt;
 import seedu.notus.ui.InterfaceManager;
 import seedu.notus.ui.Formatter;
+import seedu.notus.util.metrics.Metrics;
 import seedu.notus.util.parser.ParserManager;
 
+import java.io.BufferedReader;
+import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 
 import static seedu.notus.storage.StorageManager.LOGS_DIR;
 
@@ -33,10 +39,15 @@ public class Notus {
             + "Type \"help\" if you need to see a list of commands and their usages.";
     private static final String ENTER_COMMAND_MSG = "Enter command:";
 
+    /** Command line flag to execute a script of commands. A source of "-" reads the script from stdin. */
+    public static final String BATCH_FLAG = "--batch";
+    public static final String STDIN_SOURCE = "-";
+
     /**
-     * Initializes the required managers.
+     * Initializes the required managers. The time taken by each phase is recorded in the Metrics.
      */
     private void init() {
+        long phaseStart = System.nanoTime();
         StorageManager.createDirectory(LOGS_DIR);
 
         this.interfaceManager = new InterfaceManager();
@@ -45,34 +56,45 @@ public class Notus {
         this.tagManager = new TagManager();
         this.parserManager = new ParserManager();
         this.storageManager = new StorageManager(timetable, parserManager, notebook, tagManager);
+        phaseStart = Metrics.recordStartupPhase("create_managers", phaseStart);
 
         try {
             storageManager.createFiles();
+            phaseStart = Metrics.recordStartupPhase("create_files", phaseStart);
 
             storageManager.loadAllNotes(false);
+            phaseStart = Metrics.recordStartupPhase("load_notes", phaseStart);
             storageManager.loadAllNotes(true);
+            phaseStart = Metrics.recordStartupPhase("load_archived_notes", phaseStart);
             storageManager.saveAllNoteDetails(false);
             storageManager.saveAllNoteDetails(true);
+            phaseStart = Metrics.recordStartupPhase("save_note_details", phaseStart);
             storageManager.loadTimetable();
+            Metrics.recordStartupPhase("load_timetable", phaseStart);
 
         } catch (SystemException exception) {
             interfaceManager.prints(exception.getMessage());
         } catch (IOException exception) {
             interfaceManager.prints("Unable to save to a file");
         }
-        interfaceManager.prints(WELCOME_MSG_STRING);
     }
 
     /** Reads the user command and executes it until the user exits the program. */
     private void runCommandLoop() {
         Command command;
+        // Listing whose next page is shown by the more command
+        PagedCommand pendingPage = null;
 
         do {
             interfaceManager.prints(ENTER_COMMAND_MSG);
             String userCommandText = interfaceManager.getUserCommandInput();
             command = parserManager.parseCommand(userCommandText);
+            if (command instanceof MoreCommand) {
+                ((MoreCommand) command).setPagedCommand(pendingPage);
+            }
             String result = executeCommand(command);
             interfaceManager.prints(result);
+            pendingPage = PagedCommand.getPendingPage(command);
         } while (!ExitCommand.isExit(command));
     }
 
@@ -81,19 +103,55 @@ public class Notus {
      */
     private void exit() {
         try {
+            // Changes of a transaction that is not committed are discarded
+            storageManager.rollbackTransaction();
             storageManager.saveAll();
         } catch (IOException exception) {
             interfaceManager.prints("Unable to save to a file");
         }
+        dumpMetrics();
     }
 
     /** Runs the program until termination. */
     private void run() {
         init();
+        interfaceManager.prints(WELCOME_MSG_STRING);
         runCommandLoop();
         exit();
     }
 
+    //@@author Chongjx
+    /**
+     * Runs all the commands in the script without user interaction and saves once at the end.
+     *
+     * @param source Path of the script, or "-" to read from stdin.
+     */
+    private void runBatch(String source) {
+        init();
+        BatchRunner batchRunner = new BatchRunner(parserManager, notebook, timetable, tagManager,
+                storageManager, System.out);
+
+        try (BufferedReader reader = STDIN_SOURCE.equals(source)
+                ? new BufferedReader(new InputStreamReader(System.in))
+                : new BufferedReader(new FileReader(source))) {
+            batchRunner.run(reader);
+        } catch (IOException exception) {
+            interfaceManager.prints("Unable to run the batch file: " + source);
+        }
+        dumpMetrics();
+    }
+
+    /**
+     * Dumps the Metrics of the session to the metrics file, so that they can be compared across runs.
+     */
+    private void dumpMetrics() {
+        try {
+            Metrics.dump();
+        } catch (IOException exception) {
+            interfaceManager.prints("Unable to save the statistics to: " + Metrics.DUMP_FILE_PATH);
+        }
+    }
+
     /**
      * Calls the execute function of the command.
      *
@@ -102,7 +160,10 @@ public class Notus {
      */
     private String executeCommand(Command command) {
         command.setData(notebook, timetable, tagManager, storageManager);
-        return command.execute();
+        long startNanos = System.nanoTime();
+        String result = command.execute();
+        Metrics.recordCommand(command.getClass().getSimpleName(), System.nanoTime() - startNanos);
+        return result;
     }
 
     /**
@@ -110,7 +171,11 @@ public class Notus {
      */
     public static void main(String[] args) {
         AnsiConsole.systemInstall();
-        new Notus().run();
+        if (args.length > 0 && args[0].equals(BATCH_FLAG)) {
+            new Notus().runBatch(args.length > 1 ? args[1] : STDIN_SOURCE);
+        } else {
+            new Notus().run();
+        }
         AnsiConsole.systemUninstall();
     }
 }
@@ -26,6 +26,7 @@ public class AddEventCommand extends Command {
     public static final LocalTime DEFAULT_EVENT_END_TIMING = LocalTime.of(23,59);
 
     private Event event;
+    private boolean isToCheckClashes = true;
 
     /**
      * Constructor that takes in the event to be written to the timetable.
@@ -36,6 +37,19 @@ public class AddEventCommand extends Command {
         this.event = event;
     }
 
+    //@@author Chongjx
+    /**
+     * Sets whether the event is checked against the timetable for clashes. Events loaded from the storage are added
+     * without the check, as the warnings are not shown, and their clashes are found all at once after loading.
+     *
+     * @param isToCheckClashes Whether to check for clashes.
+     */
+    public void setIsToCheckClashes(boolean isToCheckClashes) {
+        this.isToCheckClashes = isToCheckClashes;
+    }
+
+    //@@author brandonywl
+
     // Only scenario for the command to fail is when endDateTime < startDateTime
     @Override
     public String execute() {
@@ -52,7 +66,7 @@ public class AddEventCommand extends Command {
         }
 
         tagManager.rebindTags(event);
-        ArrayList<Event> clashes = timetable.getClashingEvents(event);
+        ArrayList<Event> clashes = isToCheckClashes ? timetable.getClashingEvents(event) : new ArrayList<>();
         timetable.addEvent(event);
 
         try {
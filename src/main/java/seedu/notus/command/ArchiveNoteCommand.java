@@ -1,11 +1,15 @@
 package seedu.notus.command;
 
 import seedu.notus.data.exception.SystemException;
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.notebook.NoteSelector;
 import seedu.notus.ui.Formatter;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.NoSuchElementException;
 
+import static seedu.notus.util.CommandMessage.BULK_ARCHIVE_NOTE_SUCCESSFUL_MESSAGE;
 import static seedu.notus.util.CommandMessage.ARCHIVE_NOTE_SUCCESSFUL_MESSAGE;
 import static seedu.notus.util.CommandMessage.FILE_WRITE_UNSUCCESSFUL_MESSAGE;
 import static seedu.notus.util.CommandMessage.INDEX_OUT_OF_RANGE_MESSAGE;
@@ -21,6 +25,7 @@ public class ArchiveNoteCommand extends Command {
 
     private int index;
     private String title = "";
+    private NoteSelector selector = null;
 
     /**
      * Constructs a ArchiveNoteCommand to archive a Note.
@@ -40,8 +45,22 @@ public class ArchiveNoteCommand extends Command {
         this.title = title;
     }
 
+    //@@author Chongjx
+    /**
+     * Constructs a ArchiveNoteCommand to archive all the selected Notes at once.
+     *
+     * @param selector selects the items to be archived.
+     */
+    public ArchiveNoteCommand(NoteSelector selector) {
+        this.selector = selector;
+    }
+
+    //@@author R-Ramana
     @Override
     public String execute() {
+        if (selector != null) {
+            return executeBulk();
+        }
 
         try {
             // If there is no title, archive note by index. Else archive by title.
@@ -78,4 +97,36 @@ public class ArchiveNoteCommand extends Command {
             return Formatter.formatString(NOTE_DOES_NOT_EXIST_MESSAGE);
         }
     }
+
+    //@@author Chongjx
+    /**
+     * Archives all the selected notes, saving the notebook files once. The content files are moved first, and only the
+     * notes whose files were moved are archived.
+     *
+     * @return Number of notes archived, and the titles of the notes that could not be archived.
+     */
+    private String executeBulk() {
+        ArrayList<Note> selectedNotes;
+        try {
+            selectedNotes = selector.select(notebook, tagManager, false);
+        } catch (IndexOutOfBoundsException exception) {
+            return Formatter.formatString(INDEX_OUT_OF_RANGE_MESSAGE);
+        }
+
+        if (selectedNotes.isEmpty()) {
+            return Formatter.formatString(NOTE_DOES_NOT_EXIST_MESSAGE);
+        }
+        // The notes whose files could not be moved are not archived, so the notebook still matches the files
+        ArrayList<Note> archivedNotes = storageManager.moveNoteContentFiles(selectedNotes, true);
+        notebook.archiveNotes(archivedNotes);
+
+        try {
+            storageManager.saveAllNoteDetails(false);
+            storageManager.saveAllNoteDetails(true);
+        } catch (IOException exception) {
+            return Formatter.formatString(FILE_WRITE_UNSUCCESSFUL_MESSAGE);
+        }
+
+        return formatBulkResult(BULK_ARCHIVE_NOTE_SUCCESSFUL_MESSAGE, selectedNotes, archivedNotes);
+    }
 }
@@ -0,0 +1,23 @@
+package seedu.notus.command;
+
+import seedu.notus.ui.Formatter;
+
+import static seedu.notus.util.CommandMessage.BEGIN_TRANSACTION_SUCCESSFUL_MESSAGE;
+import static seedu.notus.util.CommandMessage.TRANSACTION_IN_PROGRESS_MESSAGE;
+
+//@@author Chongjx
+/**
+ * Begins a transaction. Changes made after this command are saved together on commit or reverted on rollback.
+ */
+public class BeginCommand extends Command {
+
+    public static final String COMMAND_WORD = "begin";
+
+    @Override
+    public String execute() {
+        if (!storageManager.beginTransaction()) {
+            return Formatter.formatString(TRANSACTION_IN_PROGRESS_MESSAGE);
+        }
+        return Formatter.formatString(BEGIN_TRANSACTION_SUCCESSFUL_MESSAGE);
+    }
+}
@@ -1,10 +1,19 @@
 package seedu.notus.command;
 
 import com.diogonunes.jcolor.Attribute;
+import seedu.notus.data.notebook.Note;
 import seedu.notus.data.notebook.Notebook;
 import seedu.notus.data.tag.TagManager;
 import seedu.notus.data.timetable.Timetable;
 import seedu.notus.storage.StorageManager;
+import seedu.notus.ui.Formatter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import static seedu.notus.util.CommandMessage.BULK_NOTES_NOT_PROCESSED_MESSAGE;
 
 /**
  * Represents an executable command.
@@ -39,4 +48,34 @@ public abstract class Command {
         this.tagManager = tagManager;
         this.storageManager = storageManager;
     }
+
+    //@@author Chongjx
+    /**
+     * Formats the result of a bulk command, listing the titles of the selected notes that were not processed.
+     *
+     * @param message Message followed by the number of processed notes.
+     * @param selectedNotes Notes selected by the command.
+     * @param processedNotes Notes that were processed.
+     * @return Formatted result.
+     */
+    protected static String formatBulkResult(String message, ArrayList<Note> selectedNotes,
+                                             ArrayList<Note> processedNotes) {
+        String processedMessage = message + processedNotes.size();
+        if (processedNotes.size() == selectedNotes.size()) {
+            return Formatter.formatString(processedMessage);
+        }
+
+        Set<Note> processedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        processedSet.addAll(processedNotes);
+        StringBuilder skippedTitles = new StringBuilder();
+        for (Note note : selectedNotes) {
+            if (!processedSet.contains(note)) {
+                skippedTitles.append(skippedTitles.length() == 0 ? "" : ", ").append(note.getTitle());
+            }
+        }
+        ArrayList<String> messages = new ArrayList<>();
+        messages.add(processedMessage);
+        messages.add(BULK_NOTES_NOT_PROCESSED_MESSAGE + skippedTitles);
+        return Formatter.formatString(messages, false);
+    }
 }
@@ -0,0 +1,30 @@
+package seedu.notus.command;
+
+import seedu.notus.ui.Formatter;
+
+import java.io.IOException;
+
+import static seedu.notus.util.CommandMessage.COMMIT_TRANSACTION_SUCCESSFUL_MESSAGE;
+import static seedu.notus.util.CommandMessage.FILE_WRITE_UNSUCCESSFUL_MESSAGE;
+import static seedu.notus.util.CommandMessage.NO_TRANSACTION_MESSAGE;
+
+//@@author Chongjx
+/**
+ * Commits the transaction in progress, saving all of its changes at once.
+ */
+public class CommitCommand extends Command {
+
+    public static final String COMMAND_WORD = "commit";
+
+    @Override
+    public String execute() {
+        try {
+            if (!storageManager.commitTransaction()) {
+                return Formatter.formatString(NO_TRANSACTION_MESSAGE);
+            }
+        } catch (IOException exception) {
+            return Formatter.formatString(FILE_WRITE_UNSUCCESSFUL_MESSAGE);
+        }
+        return Formatter.formatString(COMMIT_TRANSACTION_SUCCESSFUL_MESSAGE);
+    }
+}
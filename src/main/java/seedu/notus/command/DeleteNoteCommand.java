@@ -3,11 +3,16 @@ package seedu.notus.command;
 //@@author Nazryl
 
 import seedu.notus.data.exception.SystemException;
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.notebook.NoteSelector;
 import seedu.notus.ui.Formatter;
 
 import java.io.IOException;
+import java.util.ArrayList;
 
+import static seedu.notus.util.CommandMessage.BULK_DELETE_NOTE_SUCCESSFUL_MESSAGE;
 import static seedu.notus.util.CommandMessage.DELETE_NOTE_SUCCESSFUL_MESSAGE;
+import static seedu.notus.util.CommandMessage.INDEX_OUT_OF_RANGE_MESSAGE;
 import static seedu.notus.util.CommandMessage.FILE_WRITE_UNSUCCESSFUL_MESSAGE;
 import static seedu.notus.util.CommandMessage.NOTE_DOES_NOT_EXIST_MESSAGE;
 
@@ -21,6 +26,7 @@ public class DeleteNoteCommand extends Command {
 
     private int index;
     private String title = "";
+    private NoteSelector selector = null;
 
     /**
      * Constructs a DeleteNoteCommand to delete a Note.
@@ -40,8 +46,23 @@ public class DeleteNoteCommand extends Command {
         this.title = title;
     }
 
+    //@@author Chongjx
+    /**
+     * Constructs a DeleteNoteCommand to delete all the selected Notes at once.
+     *
+     * @param selector selects the items to be deleted.
+     */
+    public DeleteNoteCommand(NoteSelector selector) {
+        this.selector = selector;
+    }
+
+    //@@author Nazryl
     @Override
     public String execute() {
+        if (selector != null) {
+            return executeBulk();
+        }
+
         boolean isDeleted;
         String deletedTitle = "";
 
@@ -74,4 +95,35 @@ public class DeleteNoteCommand extends Command {
             return Formatter.formatString(exception.getMessage());
         }
     }
+
+    //@@author Chongjx
+    /**
+     * Deletes all the selected notes, saving the notebook file once. The content files are deleted first, and only the
+     * notes whose files were deleted are removed from the notebook.
+     *
+     * @return Number of notes deleted, and the titles of the notes that could not be deleted.
+     */
+    private String executeBulk() {
+        ArrayList<Note> selectedNotes;
+        try {
+            selectedNotes = selector.select(notebook, tagManager, false);
+        } catch (IndexOutOfBoundsException exception) {
+            return Formatter.formatString(INDEX_OUT_OF_RANGE_MESSAGE);
+        }
+
+        if (selectedNotes.isEmpty()) {
+            return Formatter.formatString(NOTE_DOES_NOT_EXIST_MESSAGE);
+        }
+        // The notes whose files could not be deleted are kept, so the notebook still matches the files
+        ArrayList<Note> deletedNotes = storageManager.deleteNoteContentFiles(selectedNotes, false);
+        notebook.deleteNotes(deletedNotes);
+
+        try {
+            storageManager.saveAllNoteDetails(false);
+        } catch (IOException exception) {
+            return Formatter.formatString(FILE_WRITE_UNSUCCESSFUL_MESSAGE);
+        }
+
+        return formatBulkResult(BULK_DELETE_NOTE_SUCCESSFUL_MESSAGE, selectedNotes, deletedNotes);
+    }
 }
@@ -92,6 +92,8 @@ public class EditEventCommand extends Command {
         ArrayList<String> results = new ArrayList<>();
         results.add(PROCESSING_EDIT_MESSAGE);
         Event event = timetable.getEvent(index);
+        // The event is edited in place, so any listing rendered before the edit is outdated
+        timetable.markModified();
 
         editTitle(event, results);
         editTimings(event, results);
@@ -430,7 +432,7 @@ public class EditEventCommand extends Command {
     }
 
     private void checkClashes(Event event, ArrayList<String> results) {
-        timetable.deleteEvent(index);
+        // The event is still stored, but is not compared to itself
         ArrayList<Event> clashes = timetable.getClashingEvents(event);
         String error = "";
         for (Event clashEvent : clashes) {
@@ -443,6 +445,5 @@ public class EditEventCommand extends Command {
         if (!error.isBlank()) {
             results.add(error);
         }
-        timetable.addEvent(index, event);
     }
 }
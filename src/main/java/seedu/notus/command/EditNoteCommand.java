@@ -52,6 +52,8 @@ public class EditNoteCommand extends Command {
         } catch (IndexOutOfBoundsException exception) {
             return Formatter.formatString(NOTE_DOES_NOT_EXIST_MESSAGE);
         }
+        // The note is edited in place, so any listing rendered before the edit is outdated
+        notebook.markContentModified();
 
         // Set title
         if (!newNote.getTitle().isBlank()) {
@@ -62,6 +64,7 @@ public class EditNoteCommand extends Command {
                 return Formatter.formatString(NOTE_EXIST_MESSAGE);
             }
             oldNote.setTitle(newNote.getTitle());
+            notebook.markModified(oldNote);
         }
 
         // Set new lines
@@ -13,6 +13,7 @@ import static seedu.notus.util.CommandMessage.EXIT_MESSAGE;
 public class ExitCommand extends Command {
 
     public static final String COMMAND_WORD = "exit";
+    public static final String COMMAND_ALIAS = "quit";
 
     @Override
     public String execute() {
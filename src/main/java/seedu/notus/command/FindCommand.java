@@ -2,17 +2,11 @@ package seedu.notus.command;
 
 import seedu.notus.data.notebook.Note;
 import seedu.notus.ui.Formatter;
+import seedu.notus.util.logging.Log;
+import seedu.notus.util.logging.LogService;
 
-import java.io.IOException;
 import java.util.ArrayList;
-import java.util.logging.ConsoleHandler;
-import java.util.logging.FileHandler;
-import java.util.logging.Level;
-import java.util.logging.LogManager;
-import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
 
-import static seedu.notus.storage.StorageManager.LOGS_DIR;
 import static seedu.notus.util.CommandMessage.FIND_NOTE_SUCCESSFUL_MESSAGE;
 import static seedu.notus.util.CommandMessage.FIND_NOTE_UNSUCCESSFUL_MESSAGE;
 
@@ -20,8 +14,8 @@ import static seedu.notus.util.CommandMessage.FIND_NOTE_UNSUCCESSFUL_MESSAGE;
 /**
  * Finds Notes in the Notebook.(Possible to add find in event too)
  */
-public class FindCommand extends Command {
-    private static final Logger LOGGER = Logger.getLogger("FindCommand");
+public class FindCommand extends PagedCommand {
+    private static final Log LOGGER = LogService.getLog("FindCommand");
 
     public static final String COMMAND_WORD = "find-n";
 
@@ -44,40 +38,18 @@ public class FindCommand extends Command {
      */
     @Override
     public String execute() {
-        setupLogger();
-        LOGGER.log(Level.INFO, "Logger Setup, will proceed to execute FindCommand.");
+        LOGGER.info("Logger Setup, will proceed to execute FindCommand.");
 
         ArrayList<Note> filteredNotes = notebook.findNotes(keywords);
 
-        LOGGER.log(Level.INFO, "Filtered Notes into an ArrayList of notes. "
+        LOGGER.info("Filtered Notes into an ArrayList of notes. "
                 + "Filtered Notes only has notes with title containing the keyword.");
 
         if (filteredNotes.isEmpty()) {
-            LOGGER.log(Level.INFO, "Filtered notes is empty.");
+            LOGGER.info("Filtered notes is empty.");
             return Formatter.formatString(FIND_NOTE_UNSUCCESSFUL_MESSAGE);
         }
-        LOGGER.log(Level.INFO, "Filtered notes will be returned.");
-        return Formatter.formatNotes(FIND_NOTE_SUCCESSFUL_MESSAGE, filteredNotes, notebook);
-    }
-
-    /**
-     * Sets up Logger files and gets ready to log messages to the file.
-     */
-    public void setupLogger() {
-        LogManager.getLogManager().reset();
-        LOGGER.setLevel(Level.INFO);
-
-        ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(Level.SEVERE);
-        LOGGER.addHandler(consoleHandler);
-
-        try {
-            FileHandler fileHandler = new FileHandler(LOGS_DIR + "/FindCommand.log");
-            fileHandler.setFormatter(new SimpleFormatter());
-            fileHandler.setLevel(Level.INFO);
-            LOGGER.addHandler(fileHandler);
-        } catch (IOException error) {
-            LOGGER.log(Level.SEVERE, "File logger not working.", error);
-        }
+        LOGGER.info("Filtered notes will be returned.");
+        return formatNoteList(FIND_NOTE_SUCCESSFUL_MESSAGE, filteredNotes);
     }
 }
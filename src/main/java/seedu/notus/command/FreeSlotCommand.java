@@ -0,0 +1,60 @@
+package seedu.notus.command;
+
+import seedu.notus.data.timetable.FreeSlotFinder;
+import seedu.notus.data.timetable.TimeSlot;
+import seedu.notus.ui.Formatter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import static seedu.notus.util.CommandMessage.FREE_SLOT_FORMAT;
+import static seedu.notus.util.CommandMessage.FREE_SLOTS_MESSAGE;
+import static seedu.notus.util.CommandMessage.NO_FREE_SLOTS_MESSAGE;
+
+//@@author Chongjx
+/**
+ * Lists the earliest free slots of at least a given length in the Timetable.
+ */
+public class FreeSlotCommand extends Command {
+
+    public static final String COMMAND_WORD = "free-e";
+    public static final int DEFAULT_SLOT_LIMIT = 10;
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int minutes;
+    private final int slotLimit;
+
+    /**
+     * Constructs a FreeSlotCommand to find free slots in a time period.
+     *
+     * @param startDate Start of the time period. Inclusive of the date.
+     * @param endDate End of the time period. Inclusive of the date.
+     * @param minutes Shortest length of a free slot.
+     * @param slotLimit Most free slots to list.
+     */
+    public FreeSlotCommand(LocalDate startDate, LocalDate endDate, int minutes, int slotLimit) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.minutes = minutes;
+        this.slotLimit = slotLimit;
+    }
+
+    @Override
+    public String execute() {
+        ArrayList<TimeSlot> freeSlots = new FreeSlotFinder(timetable).findFreeSlots(startDate, endDate, minutes,
+                slotLimit);
+        if (freeSlots.isEmpty()) {
+            return Formatter.formatString(String.format(NO_FREE_SLOTS_MESSAGE, minutes, startDate, endDate));
+        }
+
+        ArrayList<String> results = new ArrayList<>();
+        results.add(String.format(FREE_SLOTS_MESSAGE, minutes, startDate, endDate));
+        for (TimeSlot freeSlot : freeSlots) {
+            results.add(String.format(FREE_SLOT_FORMAT, freeSlot.getStartDateTime().toLocalDate(),
+                    freeSlot.getStartDateTime().toLocalTime(), freeSlot.getEndDateTime().toLocalTime(),
+                    freeSlot.getLengthInMinutes()));
+        }
+        return Formatter.formatString(results, true);
+    }
+}
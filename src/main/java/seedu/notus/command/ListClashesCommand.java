@@ -0,0 +1,56 @@
+package seedu.notus.command;
+
+import seedu.notus.data.timetable.Event;
+import seedu.notus.data.timetable.EventClash;
+import seedu.notus.ui.Formatter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import static seedu.notus.util.CommandMessage.CLASH_FORMAT;
+import static seedu.notus.util.CommandMessage.LIST_CLASHES_MESSAGE;
+import static seedu.notus.util.CommandMessage.NO_CLASHES_MESSAGE;
+
+//@@author Chongjx
+/**
+ * Lists the events in the Timetable that clash with each other in a time period.
+ */
+public class ListClashesCommand extends Command {
+
+    public static final String COMMAND_WORD = "clashes-e";
+    /** Longest time period that can be checked, as every recurring event is repeated across the whole period. */
+    public static final int MAX_PERIOD_IN_DAYS = 366;
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Constructs a ListClashesCommand to list the clashes in a time period.
+     *
+     * @param startDate Start of the time period. Inclusive of the date.
+     * @param endDate End of the time period. Inclusive of the date.
+     */
+    public ListClashesCommand(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public String execute() {
+        ArrayList<EventClash> clashes = timetable.getClashes(startDate, endDate);
+        if (clashes.isEmpty()) {
+            return Formatter.formatString(String.format(NO_CLASHES_MESSAGE, startDate, endDate));
+        }
+
+        ArrayList<String> results = new ArrayList<>();
+        results.add(String.format(LIST_CLASHES_MESSAGE, startDate, endDate));
+        for (EventClash clash : clashes) {
+            Event firstEvent = clash.getFirstEvent();
+            Event secondEvent = clash.getSecondEvent();
+            results.add(String.format(CLASH_FORMAT, secondEvent.getStartDate(),
+                    firstEvent.getTitle(), firstEvent.getStartTime(), firstEvent.getEndTime(),
+                    secondEvent.getTitle(), secondEvent.getStartTime(), secondEvent.getEndTime()));
+        }
+        return Formatter.formatString(results, true);
+    }
+}
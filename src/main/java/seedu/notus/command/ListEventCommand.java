@@ -17,7 +17,7 @@ import static seedu.notus.util.CommandMessage.LIST_E_COMMAND_USAGE;
 /**
  * Lists all the Events in the Timetable. Can limit search to specific time periods.
  */
-public class ListEventCommand extends Command {
+public class ListEventCommand extends PagedCommand {
 
     public static final String COMMAND_WORD = "list-e";
     public static final int SMALLEST_YEAR = 1000;
@@ -69,15 +69,14 @@ public class ListEventCommand extends Command {
         this.month = 0;
     }
 
-    @Override
-    public String execute() {
+    private String listEvents() {
         // Just list all events, recurring or not, without repeat.
         if (year == 0) {
             ArrayList<Event> events = timetable.getEvents();
             if (events.size() == 0) {
                 return Formatter.formatString(LIST_EVENT_UNSUCCESSFUL_MESSAGE);
             }
-            return Formatter.formatTimetable(LIST_EVENT_SUCCESSFUL_MESSAGE, events);
+            return formatEventList(LIST_EVENT_SUCCESSFUL_MESSAGE, events);
         }
 
         // Display the whole year if no month, else display only that month.
@@ -93,4 +92,15 @@ public class ListEventCommand extends Command {
 
         return Formatter.formatTimetable(LIST_EVENT_SUCCESSFUL_TIME_PERIOD_MESSAGE, year, month, calendar);
     }
+
+    //@@author Chongjx
+    /**
+     * Lists the events. Listing the events again without modifying them reuses the earlier output.
+     *
+     * @return String value to be formatted and printed out to the CLI.
+     */
+    @Override
+    public String execute() {
+        return executeCached(COMMAND_WORD + " " + year + " " + month, this::listEvents);
+    }
 }
@@ -8,7 +8,6 @@ import seedu.notus.ui.Formatter;
 import java.util.ArrayList;
 import java.util.Map;
 
-import static seedu.notus.ui.Formatter.formatNotes;
 import static seedu.notus.util.CommandMessage.ARCHIVE_NOTES_MESSAGE;
 import static seedu.notus.util.CommandMessage.EMPTY_NOTEBOOK_MESSAGE;
 import static seedu.notus.util.CommandMessage.INVALID_TAG_MESSAGE;
@@ -20,7 +19,7 @@ import static seedu.notus.util.CommandMessage.UNPINNED_NOTES_MESSAGE;
 /**
  * Lists all the Notes in the Notebook.
  */
-public class ListNoteCommand extends Command {
+public class ListNoteCommand extends PagedCommand {
 
     public static final String COMMAND_WORD = "list-n";
 
@@ -93,8 +92,7 @@ public class ListNoteCommand extends Command {
      *
      * @return String value to be formatted and printed out to the CLI.
      */
-    @Override
-    public String execute() {
+    private String listNotes() {
 
         ArrayList<Note> notes = new ArrayList<>();
         ArrayList<Note> pinned;
@@ -104,7 +102,7 @@ public class ListNoteCommand extends Command {
         // no sorting, no viewing, no filtering of notes in the archived notebook.
         if (isArchived) {
             notes = notebook.getArchivedNotes();
-            return formatNotes(ARCHIVE_NOTES_MESSAGE, notes, notebook);
+            return formatNoteList(ARCHIVE_NOTES_MESSAGE, notes);
         }
 
         // if no /archive or /tags and there is no pinned notes at all this if-else block will be executed
@@ -121,7 +119,7 @@ public class ListNoteCommand extends Command {
                 return Formatter.formatString(EMPTY_NOTEBOOK_MESSAGE);
             }
 
-            return formatNotes(LIST_NOTES_MESSAGE, notes, notebook);
+            return formatNoteList(LIST_NOTES_MESSAGE, notes);
         }
 
         // if no /archive or /tags and there are pinned notes this if-else block will be executed
@@ -136,7 +134,7 @@ public class ListNoteCommand extends Command {
                 unpinned = notebook.getSortedList(isAscendingOrder, false);
             }
 
-            return formatNotes(PINNED_NOTES_MESSAGE, UNPINNED_NOTES_MESSAGE, pinned, unpinned, notebook);
+            return formatNoteList(PINNED_NOTES_MESSAGE, UNPINNED_NOTES_MESSAGE, pinned, unpinned);
         }
 
         // Obtaining ArrayList<String> of tags and parsing it to get an ArrayList<Tag> of tags
@@ -198,7 +196,7 @@ public class ListNoteCommand extends Command {
             } else {
                 sortedTaggedNotes = notes;
             }
-            return formatNotes(LIST_NOTES_MESSAGE, sortedTaggedNotes, notebook);
+            return formatNoteList(LIST_NOTES_MESSAGE, sortedTaggedNotes);
         }
 
         // if no /archive and there are both pinned notes and /tags
@@ -213,9 +211,24 @@ public class ListNoteCommand extends Command {
                 unpinned = notebook.getSortedList(isAscendingOrder, false, notes);
             }
 
-            return formatNotes(PINNED_NOTES_MESSAGE, UNPINNED_NOTES_MESSAGE, pinned, unpinned, notebook);
+            return formatNoteList(PINNED_NOTES_MESSAGE, UNPINNED_NOTES_MESSAGE, pinned, unpinned);
         }
 
-        return formatNotes(LIST_NOTES_MESSAGE, notes, notebook);
+        return formatNoteList(LIST_NOTES_MESSAGE, notes);
+    }
+
+    //@@author Chongjx
+    /**
+     * Lists the notes. Listing the notes again without modifying them reuses the earlier output.
+     *
+     * @return String value to be formatted and printed out to the CLI.
+     */
+    @Override
+    public String execute() {
+        return executeCached(getCacheKey(), this::listNotes);
+    }
+
+    private String getCacheKey() {
+        return COMMAND_WORD + " " + isArchived + " " + isSorted + " " + isAscendingOrder + " " + tags;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package seedu.notus.command;
+
+import seedu.notus.ui.Formatter;
+
+import static seedu.notus.util.CommandMessage.NO_MORE_PAGES_MESSAGE;
+
+//@@author Chongjx
+/**
+ * Shows the next page of the last paged listing.
+ */
+public class MoreCommand extends Command {
+
+    public static final String COMMAND_WORD = "more";
+
+    private PagedCommand pagedCommand = null;
+
+    public PagedCommand getPagedCommand() {
+        return pagedCommand;
+    }
+
+    /**
+     * Sets the listing whose next page is to be shown.
+     *
+     * @param pagedCommand Listing with a next page, or null if there is none.
+     */
+    public void setPagedCommand(PagedCommand pagedCommand) {
+        this.pagedCommand = pagedCommand;
+    }
+
+    @Override
+    public String execute() {
+        if (pagedCommand == null) {
+            return Formatter.formatString(NO_MORE_PAGES_MESSAGE);
+        }
+
+        pagedCommand.nextPage();
+        pagedCommand.setData(notebook, timetable, tagManager, storageManager);
+        return pagedCommand.execute();
+    }
+}
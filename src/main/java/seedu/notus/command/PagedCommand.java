@@ -0,0 +1,212 @@
+package seedu.notus.command;
+
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.timetable.Event;
+import seedu.notus.ui.Formatter;
+import seedu.notus.ui.Page;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static seedu.notus.util.CommandMessage.EMPTY_PAGE_MESSAGE;
+import static seedu.notus.util.CommandMessage.MORE_PAGES_MESSAGE;
+import static seedu.notus.util.CommandMessage.PAGE_HEADER;
+
+//@@author Chongjx
+/**
+ * Represents a command that lists items and can show them one page at a time. Without a page, every item is listed.
+ */
+public abstract class PagedCommand extends Command {
+
+    /** Outputs of the listings, shared by all the paged commands. */
+    private static final RenderCache RENDER_CACHE = new RenderCache();
+
+    private Page page = null;
+    private boolean hasNextPage = false;
+
+    public Page getPage() {
+        return page;
+    }
+
+    /**
+     * Sets the page of the listing to be shown.
+     *
+     * @param page Page to be shown, or null to show every item.
+     */
+    public void setPage(Page page) {
+        this.page = page;
+    }
+
+    /**
+     * Returns whether there are items after the page that was last shown.
+     *
+     * @return true if the listing has a next page.
+     */
+    public boolean hasNextPage() {
+        return hasNextPage;
+    }
+
+    /** Moves to the page after the page that was last shown. */
+    public void nextPage() {
+        assert page != null : "Only a paged listing has a next page";
+        page = page.next();
+    }
+
+    /**
+     * Returns the command whose next page can be shown with the more command after the command is executed.
+     *
+     * @param command Executed command.
+     * @return Paged command with a next page, null if there is none.
+     */
+    public static PagedCommand getPendingPage(Command command) {
+        Command shownCommand = command;
+        if (command instanceof MoreCommand) {
+            shownCommand = ((MoreCommand) command).getPagedCommand();
+        }
+
+        if (shownCommand instanceof PagedCommand && ((PagedCommand) shownCommand).hasNextPage()) {
+            return (PagedCommand) shownCommand;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the output of the listing. The output of an earlier listing with the same arguments and page is reused
+     * if the notebook, timetable and tags have not been modified since.
+     *
+     * @param key Arguments of the listing.
+     * @param renderer Renders the listing when there is no reusable output.
+     * @return Output of the listing.
+     */
+    protected String executeCached(String key, Supplier<String> renderer) {
+        String pageKey = page == null ? key : key + " " + page.getPageNumber() + "/" + page.getPageSize();
+        RenderCache.Entry entry = RENDER_CACHE.get(pageKey, notebook, timetable, tagManager);
+        if (entry != null) {
+            hasNextPage = entry.hasNextPage();
+            return entry.getOutput();
+        }
+
+        String output = renderer.get();
+        RENDER_CACHE.put(pageKey, notebook, timetable, tagManager, output, hasNextPage);
+        return output;
+    }
+
+    /**
+     * Formats the notes, or only the notes on the page when a page is set.
+     *
+     * @param header Header of the list of notes.
+     * @param notes Notes to be listed.
+     * @return Formatted notes.
+     */
+    protected String formatNoteList(String header, ArrayList<Note> notes) {
+        if (page == null) {
+            return Formatter.formatNotes(header, notes, notebook);
+        }
+
+        Iterator<Note> iterator = skipToPage(notes);
+        if (iterator == null) {
+            return formatEmptyPage();
+        }
+        String result = Formatter.formatNotes(getPageHeader(header), iterator, notebook, page.getPageSize());
+        return result + formatPageFooter(iterator.hasNext());
+    }
+
+    /**
+     * Formats the pinned notes followed by the unpinned notes, or only the notes on the page when a page is set. A
+     * page may contain both pinned and unpinned notes.
+     *
+     * @param pinnedHeader Header of the list of pinned notes.
+     * @param unpinnedHeader Header of the list of unpinned notes.
+     * @param pinned Pinned notes to be listed.
+     * @param unpinned Unpinned notes to be listed.
+     * @return Formatted notes.
+     */
+    protected String formatNoteList(String pinnedHeader, String unpinnedHeader,
+                                    ArrayList<Note> pinned, ArrayList<Note> unpinned) {
+        if (page == null) {
+            return Formatter.formatNotes(pinnedHeader, unpinnedHeader, pinned, unpinned, notebook);
+        }
+
+        int pinnedOnPage = Math.max(0, Math.min(pinned.size() - page.getStartIndex(), page.getPageSize()));
+        int unpinnedOnPage = Math.max(0, Math.min(pinned.size() + unpinned.size() - page.getStartIndex(),
+                page.getPageSize()) - pinnedOnPage);
+        if (pinnedOnPage + unpinnedOnPage == 0) {
+            hasNextPage = false;
+            return formatEmptyPage();
+        }
+
+        String result = "";
+        if (pinnedOnPage > 0) {
+            Iterator<Note> pinnedIterator = pinned.listIterator(page.getStartIndex());
+            result = Formatter.formatNotes(getPageHeader(pinnedHeader), pinnedIterator, notebook, pinnedOnPage);
+        }
+        if (unpinnedOnPage > 0) {
+            int unpinnedStartIndex = Math.max(0, page.getStartIndex() - pinned.size());
+            Iterator<Note> unpinnedIterator = unpinned.listIterator(unpinnedStartIndex);
+            result += Formatter.formatNotes(getPageHeader(unpinnedHeader), unpinnedIterator, notebook,
+                    unpinnedOnPage);
+        }
+        int shownCount = page.getStartIndex() + pinnedOnPage + unpinnedOnPage;
+        return result + formatPageFooter(shownCount < pinned.size() + unpinned.size());
+    }
+
+    /**
+     * Formats the events with their index, or only the events on the page when a page is set.
+     *
+     * @param header Header of the list of events.
+     * @param events Events to be listed.
+     * @return Formatted events.
+     */
+    protected String formatEventList(String header, ArrayList<Event> events) {
+        if (page == null) {
+            return Formatter.formatTimetable(header, events);
+        }
+
+        Iterator<Event> iterator = skipToPage(events);
+        if (iterator == null) {
+            return formatEmptyPage();
+        }
+        String result = Formatter.formatTimetable(getPageHeader(header), iterator, page.getStartIndex(),
+                page.getPageSize());
+        return result + formatPageFooter(iterator.hasNext());
+    }
+
+    /**
+     * Returns an iterator starting at the first item of the page, without walking the items before the page.
+     *
+     * @param items All the items of the listing.
+     * @param <T> Type of the items.
+     * @return Iterator from the first item of the page, null if the page has no items.
+     */
+    private <T> Iterator<T> skipToPage(List<T> items) {
+        if (page.getStartIndex() >= items.size()) {
+            hasNextPage = false;
+            return null;
+        }
+        return items.listIterator(page.getStartIndex());
+    }
+
+    private String getPageHeader(String header) {
+        return header + String.format(PAGE_HEADER, page.getPageNumber());
+    }
+
+    private String formatEmptyPage() {
+        return Formatter.formatString(String.format(EMPTY_PAGE_MESSAGE, page.getPageNumber()));
+    }
+
+    /**
+     * Records whether there are items after the page and prompts for the more command if there are.
+     *
+     * @param hasNextPage Whether there are items after the page.
+     * @return Formatted prompt, empty if the page is the last page.
+     */
+    private String formatPageFooter(boolean hasNextPage) {
+        this.hasNextPage = hasNextPage;
+        if (!hasNextPage) {
+            return "";
+        }
+        return Formatter.formatString(MORE_PAGES_MESSAGE);
+    }
+}
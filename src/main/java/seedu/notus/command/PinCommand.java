@@ -1,17 +1,17 @@
 package seedu.notus.command;
 
 import seedu.notus.data.notebook.Note;
+import seedu.notus.data.notebook.NoteSelector;
 import seedu.notus.ui.Formatter;
+import seedu.notus.util.logging.Log;
+import seedu.notus.util.logging.LogService;
 
 import java.io.IOException;
+import java.util.ArrayList;
 
-import java.util.logging.FileHandler;
-import java.util.logging.Level;
-import java.util.logging.LogManager;
-import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
-
-import static seedu.notus.storage.StorageManager.LOGS_DIR;
+import static seedu.notus.util.CommandMessage.BULK_PIN_NOTE_SUCCESSFUL_MESSAGE;
+import static seedu.notus.util.CommandMessage.FILE_WRITE_UNSUCCESSFUL_MESSAGE;
+import static seedu.notus.util.CommandMessage.INDEX_OUT_OF_RANGE_MESSAGE;
 import static seedu.notus.util.CommandMessage.NOTE_DOES_NOT_EXIST_MESSAGE;
 
 //@@author prachi2023
@@ -19,13 +19,14 @@ import static seedu.notus.util.CommandMessage.NOTE_DOES_NOT_EXIST_MESSAGE;
  * Pins or unpins a Note in the Notebook.
  */
 public class PinCommand extends Command {
-    private static final Logger LOGGER = Logger.getLogger("PinCommand");
+    private static final Log LOGGER = LogService.getLog("PinCommand");
 
     public static final String COMMAND_WORD = "pin-n";
 
     private int index;
     private String title;
     private boolean isPinByIndex;
+    private NoteSelector selector = null;
 
     /**
      * Constructs a PinCommand to pin or unpin a Note in the Notebook by the index.
@@ -36,9 +37,8 @@ public class PinCommand extends Command {
         this.index = index;
         this.title = null;
         this.isPinByIndex = true;
-        setupLogger();
 
-        LOGGER.log(Level.INFO, "New pinCommand object created.");
+        LOGGER.info("New pinCommand object created.");
     }
 
     /**
@@ -49,38 +49,53 @@ public class PinCommand extends Command {
     public PinCommand(String title) {
         this.title = title;
         this.isPinByIndex = false;
-        setupLogger();
 
-        LOGGER.log(Level.INFO, "New pinCommand object created.");
+        LOGGER.info("New pinCommand object created.");
+    }
+
+    //@@author Chongjx
+    /**
+     * Constructs a PinCommand to pin or unpin all the selected Notes at once.
+     *
+     * @param selector selects the Notes.
+     */
+    public PinCommand(NoteSelector selector) {
+        this.selector = selector;
+        LOGGER.info("New bulk pinCommand object created.");
     }
 
+    //@@author prachi2023
     @Override
     public String execute() {
+        if (selector != null) {
+            return executeBulk();
+        }
+
         Note note = null;
         if (isPinByIndex) {
             try {
                 note = notebook.getNotes().get(index);
             } catch (IndexOutOfBoundsException exception) {
-                LOGGER.log(Level.INFO, "Note does note exist. unable to find note with index" + index);
+                LOGGER.info("Note does note exist. unable to find note with index {0}", index);
                 return Formatter.formatString(NOTE_DOES_NOT_EXIST_MESSAGE);
             }
-            LOGGER.log(Level.INFO, "Note found using index");
+            LOGGER.info("Note found using index");
         } else {
             for (Note notes : notebook.getNotes()) {
                 if (notes.getTitle().equalsIgnoreCase(title)) {
                     note = notes;
-                    LOGGER.log(Level.INFO, "Note found using title of note");
+                    LOGGER.info("Note found using title of note");
                 }
             }
         }
 
         if (note == null) {
-            LOGGER.log(Level.INFO, "Note does not exist.");
+            LOGGER.info("Note does not exist.");
             return Formatter.formatString(NOTE_DOES_NOT_EXIST_MESSAGE);
         }
 
         note.togglePinned();
-        LOGGER.log(Level.INFO, "Pin status of note toggled");
+        LOGGER.info("Pin status of note toggled");
 
         try {
             storageManager.saveAllNoteDetails(false);
@@ -91,18 +106,38 @@ public class PinCommand extends Command {
         return Formatter.formatString(note.getTitle() + " " + note.getPinnedString());
     }
 
-    private void setupLogger() {
-        LogManager.getLogManager().reset();
-        LOGGER.setLevel(Level.INFO);
+    //@@author Chongjx
+    /**
+     * Toggles the pin status of all the selected notes, saving the notebook file once. The pin status is restored if
+     * the notebook file could not be saved.
+     *
+     * @return Number of notes pinned or unpinned.
+     */
+    private String executeBulk() {
+        ArrayList<Note> selectedNotes;
+        try {
+            selectedNotes = selector.select(notebook, tagManager, false);
+        } catch (IndexOutOfBoundsException exception) {
+            return Formatter.formatString(INDEX_OUT_OF_RANGE_MESSAGE);
+        }
+
+        if (selectedNotes.isEmpty()) {
+            return Formatter.formatString(NOTE_DOES_NOT_EXIST_MESSAGE);
+        }
+        for (Note note : selectedNotes) {
+            note.togglePinned();
+        }
+        LOGGER.info("Pin status of notes toggled: {0}", selectedNotes.size());
 
         try {
-            FileHandler fileHandler = new FileHandler(LOGS_DIR + "/PinCommand.log");
-            fileHandler.setFormatter(new SimpleFormatter());
-            fileHandler.setLevel(Level.INFO);
-            LOGGER.addHandler(fileHandler);
+            storageManager.saveAllNoteDetails(false);
         } catch (IOException exception) {
-            LOGGER.log(Level.SEVERE, "File logger not working.", exception);
+            // The pin status of the notes is restored, as it could not be saved
+            for (Note note : selectedNotes) {
+                note.togglePinned();
+            }
+            return Formatter.formatString(FILE_WRITE_UNSUCCESSFUL_MESSAGE);
         }
-
+        return Formatter.formatString(BULK_PIN_NOTE_SUCCESSFUL_MESSAGE + selectedNotes.size());
     }
 }
\ No newline at end of file
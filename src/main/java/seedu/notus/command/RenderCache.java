@@ -0,0 +1,106 @@
+package seedu.notus.command;
+
+import seedu.notus.data.notebook.Notebook;
+import seedu.notus.data.tag.TagManager;
+import seedu.notus.data.timetable.Timetable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+//@@author Chongjx
+/**
+ * Represents a cache of the output of listing commands. An output is reused as long as the command has the same
+ * arguments and the notebook, timetable and tags have the same generation as when the output was rendered. The least
+ * recently used output is evicted when the cache is full.
+ */
+public class RenderCache {
+    private static final int MAX_ENTRIES = 32;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Returns the output rendered for the key, if the data has not changed since it was rendered.
+     *
+     * @param key Command arguments the output was rendered for.
+     * @param notebook Notebook the command operates on.
+     * @param timetable Timetable the command operates on.
+     * @param tagManager TagManager the command operates on.
+     * @return Cached output, null if there is none or the data has changed.
+     */
+    public Entry get(String key, Notebook notebook, Timetable timetable, TagManager tagManager) {
+        Entry entry = entries.get(key);
+        if (entry == null || !entry.isRenderedFrom(notebook, timetable, tagManager)) {
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Stores the output rendered for the key, replacing any earlier output of the key.
+     *
+     * @param key Command arguments the output was rendered for.
+     * @param notebook Notebook the output was rendered from.
+     * @param timetable Timetable the output was rendered from.
+     * @param tagManager TagManager the output was rendered from.
+     * @param output Rendered output.
+     * @param hasNextPage Whether the listing has a page after the rendered page.
+     */
+    public void put(String key, Notebook notebook, Timetable timetable, TagManager tagManager, String output,
+                    boolean hasNextPage) {
+        entries.put(key, new Entry(notebook, timetable, tagManager, output, hasNextPage));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Represents an output in the cache, along with the data and the generation of the data it was rendered from.
+     */
+    public static class Entry {
+        private final Notebook notebook;
+        private final Timetable timetable;
+        private final TagManager tagManager;
+        private final long notebookGeneration;
+        private final long timetableGeneration;
+        private final long tagGeneration;
+        private final String output;
+        private final boolean hasNextPage;
+
+        private Entry(Notebook notebook, Timetable timetable, TagManager tagManager, String output,
+                      boolean hasNextPage) {
+            this.notebook = notebook;
+            this.timetable = timetable;
+            this.tagManager = tagManager;
+            this.notebookGeneration = notebook == null ? 0 : notebook.getGeneration();
+            this.timetableGeneration = timetable == null ? 0 : timetable.getGeneration();
+            this.tagGeneration = tagManager == null ? 0 : tagManager.getGeneration();
+            this.output = output;
+            this.hasNextPage = hasNextPage;
+        }
+
+        private boolean isRenderedFrom(Notebook notebook, Timetable timetable, TagManager tagManager) {
+            return this.notebook == notebook && this.timetable == timetable && this.tagManager == tagManager
+                    && (notebook == null || notebookGeneration == notebook.getGeneration())
+                    && (timetable == null || timetableGeneration == timetable.getGeneration())
+                    && (tagManager == null || tagGeneration == tagManager.getGeneration());
+        }
+
+        public String getOutput() {
+            return output;
+        }
+
+        public boolean hasNextPage() {
+            return hasNextPage;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.notus.command;
+
+import seedu.notus.ui.Formatter;
+
+import java.io.IOException;
+
+import static seedu.notus.util.CommandMessage.FILE_WRITE_UNSUCCESSFUL_MESSAGE;
+import static seedu.notus.util.CommandMessage.NO_TRANSACTION_MESSAGE;
+import static seedu.notus.util.CommandMessage.ROLLBACK_TRANSACTION_SUCCESSFUL_MESSAGE;
+
+//@@author Chongjx
+/**
+ * Reverts all the changes made during the transaction in progress.
+ */
+public class RollbackCommand extends Command {
+
+    public static final String COMMAND_WORD = "rollback";
+
+    @Override
+    public String execute() {
+        try {
+            if (!storageManager.rollbackTransaction()) {
+                return Formatter.formatString(NO_TRANSACTION_MESSAGE);
+            }
+        } catch (IOException exception) {
+            return Formatter.formatString(FILE_WRITE_UNSUCCESSFUL_MESSAGE);
+        }
+        return Formatter.formatString(ROLLBACK_TRANSACTION_SUCCESSFUL_MESSAGE);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.notus.command;
+
+import seedu.notus.ui.Formatter;
+import seedu.notus.util.metrics.Metrics;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import static seedu.notus.util.CommandMessage.STATS_DUMP_SUCCESSFUL_MESSAGE;
+import static seedu.notus.util.CommandMessage.STATS_DUMP_UNSUCCESSFUL_MESSAGE;
+import static seedu.notus.util.CommandMessage.STATS_MESSAGE;
+
+//@@author Chongjx
+/**
+ * Shows the latencies and counters kept by the Metrics, and dumps them to the metrics file.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    @Override
+    public String execute() {
+        ArrayList<String> statistics = Metrics.getSummary();
+        statistics.add(0, STATS_MESSAGE);
+
+        try {
+            Metrics.dump();
+            statistics.add(STATS_DUMP_SUCCESSFUL_MESSAGE + Metrics.DUMP_FILE_PATH);
+        } catch (IOException exception) {
+            statistics.add(STATS_DUMP_UNSUCCESSFUL_MESSAGE + Metrics.DUMP_FILE_PATH);
+        }
+        return Formatter.formatString(statistics, true);
+    }
+}
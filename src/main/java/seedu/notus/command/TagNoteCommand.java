@@ -1,17 +1,20 @@
 package seedu.notus.command;
 
 import seedu.notus.data.notebook.Note;
+import seedu.notus.data.notebook.NoteSelector;
 import seedu.notus.data.tag.Tag;
 import seedu.notus.ui.Formatter;
 
 import java.io.IOException;
 import java.util.ArrayList;
 
+import static seedu.notus.util.CommandMessage.BULK_TAG_NOTE_SUCCESSFUL_MESSAGE;
 import static seedu.notus.util.CommandMessage.TAG_MESSAGE;
 import static seedu.notus.util.CommandMessage.UNTAG_MESSAGE;
 import static seedu.notus.util.CommandMessage.TAG_HEADER;
 import static seedu.notus.util.CommandMessage.FILE_WRITE_UNSUCCESSFUL_MESSAGE;
 import static seedu.notus.util.CommandMessage.INDEX_OUT_OF_RANGE_MESSAGE;
+import static seedu.notus.util.CommandMessage.NOTE_DOES_NOT_EXIST_MESSAGE;
 
 //@@author Chongjx
 /**
@@ -23,6 +26,7 @@ public class TagNoteCommand extends Command {
 
     private int index;
     private ArrayList<Tag> tags;
+    private NoteSelector selector = null;
 
     /**
      * Constructs a TagCommand to tag or untag a Note.
@@ -32,8 +36,20 @@ public class TagNoteCommand extends Command {
         this.tags = tags;
     }
 
+    /**
+     * Constructs a TagCommand to tag or untag all the selected Notes at once.
+     */
+    public TagNoteCommand(NoteSelector selector, ArrayList<Tag> tags) {
+        this.selector = selector;
+        this.tags = tags;
+    }
+
     @Override
     public String execute() {
+        if (selector != null) {
+            return executeBulk();
+        }
+
         try {
             assert index >= 0;
             Note note = notebook.getNotes().get(index);
@@ -53,4 +69,29 @@ public class TagNoteCommand extends Command {
             return Formatter.formatString(INDEX_OUT_OF_RANGE_MESSAGE);
         }
     }
+
+    /**
+     * Tags or untags all the selected notes, saving the notebook file once.
+     *
+     * @return Number of notes tagged or untagged.
+     */
+    private String executeBulk() {
+        ArrayList<Note> selectedNotes;
+        try {
+            selectedNotes = selector.select(notebook, tagManager, false);
+        } catch (IndexOutOfBoundsException exception) {
+            return Formatter.formatString(INDEX_OUT_OF_RANGE_MESSAGE);
+        }
+
+        if (selectedNotes.isEmpty()) {
+            return Formatter.formatString(NOTE_DOES_NOT_EXIST_MESSAGE);
+        }
+        int taggedCount = tagManager.tagAndUntag(selectedNotes, tags);
+        try {
+            storageManager.saveAllNoteDetails(false);
+        } catch (IOException e) {
+            return Formatter.formatString(FILE_WRITE_UNSUCCESSFUL_MESSAGE);
+        }
+        return Formatter.formatString(BULK_TAG_NOTE_SUCCESSFUL_MESSAGE + taggedCount);
+    }
 }
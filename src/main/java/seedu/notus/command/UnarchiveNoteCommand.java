@@ -1,14 +1,18 @@
 package seedu.notus.command;
 
 import seedu.notus.data.exception.SystemException;
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.notebook.NoteSelector;
 import seedu.notus.ui.Formatter;
 
+import static seedu.notus.util.CommandMessage.BULK_UNARCHIVE_NOTE_SUCCESSFUL_MESSAGE;
 import static seedu.notus.util.CommandMessage.FILE_WRITE_UNSUCCESSFUL_MESSAGE;
 import static seedu.notus.util.CommandMessage.INDEX_OUT_OF_RANGE_MESSAGE;
 import static seedu.notus.util.CommandMessage.NOTE_DOES_NOT_EXIST_MESSAGE;
 import static seedu.notus.util.CommandMessage.UNARCHIVE_NOTE_SUCCESSFUL_MESSAGE;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.NoSuchElementException;
 
 //@@author R-Ramana
@@ -21,6 +25,7 @@ public class UnarchiveNoteCommand extends Command {
 
     private int index;
     private String title = "";
+    private NoteSelector selector = null;
 
     /**
      * Constructs a UnarchiveNoteCommand to un-archive a Note.
@@ -40,8 +45,22 @@ public class UnarchiveNoteCommand extends Command {
         this.title = title;
     }
 
+    //@@author Chongjx
+    /**
+     * Constructs a UnarchiveNoteCommand to un-archive all the selected Notes at once.
+     *
+     * @param selector selects the items to be un-archived.
+     */
+    public UnarchiveNoteCommand(NoteSelector selector) {
+        this.selector = selector;
+    }
+
+    //@@author R-Ramana
     @Override
     public String execute() {
+        if (selector != null) {
+            return executeBulk();
+        }
 
         try {
             // If there is no title, un-archive note by index. Else un-archive by title.
@@ -79,4 +98,36 @@ public class UnarchiveNoteCommand extends Command {
             return Formatter.formatString(NOTE_DOES_NOT_EXIST_MESSAGE);
         }
     }
+
+    //@@author Chongjx
+    /**
+     * Un-archives all the selected notes, saving the notebook files once. The content files are moved first, and only
+     * the notes whose files were moved are un-archived.
+     *
+     * @return Number of notes un-archived, and the titles of the notes that could not be un-archived.
+     */
+    private String executeBulk() {
+        ArrayList<Note> selectedNotes;
+        try {
+            selectedNotes = selector.select(notebook, tagManager, true);
+        } catch (IndexOutOfBoundsException exception) {
+            return Formatter.formatString(INDEX_OUT_OF_RANGE_MESSAGE);
+        }
+
+        if (selectedNotes.isEmpty()) {
+            return Formatter.formatString(NOTE_DOES_NOT_EXIST_MESSAGE);
+        }
+        // The notes whose files could not be moved stay archived, so the notebook still matches the files
+        ArrayList<Note> unarchivedNotes = storageManager.moveNoteContentFiles(selectedNotes, false);
+        notebook.unarchiveNotes(unarchivedNotes);
+
+        try {
+            storageManager.saveAllNoteDetails(false);
+            storageManager.saveAllNoteDetails(true);
+        } catch (IOException exception) {
+            return Formatter.formatString(FILE_WRITE_UNSUCCESSFUL_MESSAGE);
+        }
+
+        return formatBulkResult(BULK_UNARCHIVE_NOTE_SUCCESSFUL_MESSAGE, selectedNotes, unarchivedNotes);
+    }
 }
@@ -2,24 +2,18 @@ package seedu.notus.command;
 
 import seedu.notus.data.notebook.Note;
 import seedu.notus.ui.Formatter;
+import seedu.notus.util.logging.Log;
+import seedu.notus.util.logging.LogService;
 
-import static seedu.notus.storage.StorageManager.LOGS_DIR;
 import static seedu.notus.util.CommandMessage.NOTE_DOES_NOT_EXIST_MESSAGE;
 import static seedu.notus.util.CommandMessage.VIEW_NOTE_SUCCESSFUL_MESSAGE;
 
-import java.io.IOException;
-import java.util.logging.FileHandler;
-import java.util.logging.Level;
-import java.util.logging.LogManager;
-import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
-
 //@@author prachi2023
 /**
  * Views a specific Note in the Notebook.
  */
 public class ViewNoteCommand extends Command {
-    private static final Logger LOGGER = Logger.getLogger("ViewNoteCommand");
+    private static final Log LOGGER = LogService.getLog("ViewNoteCommand");
 
     public static final String COMMAND_WORD = "view-n";
 
@@ -37,8 +31,7 @@ public class ViewNoteCommand extends Command {
         this.title = null;
         this.isViewByIndex = true;
 
-        setupLogger();
-        LOGGER.log(Level.INFO, "New ViewNoteCommand object created using index.");
+        LOGGER.info("New ViewNoteCommand object created using index.");
     }
 
     /**
@@ -50,8 +43,7 @@ public class ViewNoteCommand extends Command {
         this.title = title;
         this.isViewByIndex = false;
 
-        setupLogger();
-        LOGGER.log(Level.INFO, "New ViewNoteCommand object created using title.");
+        LOGGER.info("New ViewNoteCommand object created using title.");
     }
 
     @Override
@@ -62,40 +54,25 @@ public class ViewNoteCommand extends Command {
             try {
                 note = notebook.getNotes().get(index);
             } catch (IndexOutOfBoundsException exception) {
-                LOGGER.log(Level.INFO, "Note does note exist. unable to find note with index" + index);
+                LOGGER.info("Note does note exist. unable to find note with index {0}", index);
                 return Formatter.formatString(NOTE_DOES_NOT_EXIST_MESSAGE);
             }
-            LOGGER.log(Level.INFO, "Note found using index");
+            LOGGER.info("Note found using index");
             noteExists = true;
         } else {
             for (Note notes : notebook.getNotes()) {
                 if (notes.getTitle().equalsIgnoreCase(title)) {
                     note = notes;
                     noteExists = true;
-                    LOGGER.log(Level.INFO, "Note found using title of note");
+                    LOGGER.info("Note found using title of note");
                 }
             }
         }
         if (!noteExists) {
-            LOGGER.log(Level.INFO, "Note does not exist.");
+            LOGGER.info("Note does not exist.");
             return Formatter.formatString(NOTE_DOES_NOT_EXIST_MESSAGE);
         }
 
         return Formatter.formatNote(VIEW_NOTE_SUCCESSFUL_MESSAGE, note);
     }
-
-    private void setupLogger() {
-        LogManager.getLogManager().reset();
-        LOGGER.setLevel(Level.INFO);
-
-        try {
-            FileHandler fileHandler = new FileHandler(LOGS_DIR + "/ViewNoteCommand.log");
-            fileHandler.setFormatter(new SimpleFormatter());
-            fileHandler.setLevel(Level.INFO);
-            LOGGER.addHandler(fileHandler);
-        } catch (IOException exception) {
-            LOGGER.log(Level.SEVERE, "File logger not working.", exception);
-        }
-
-    }
 }
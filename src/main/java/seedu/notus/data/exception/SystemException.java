@@ -72,6 +72,14 @@ public class SystemException extends Exception {
         EXCEPTION_EDIT_REMINDER_SET("Please indicate only one edit type for reminder!"
                 + " Either add, drop or clear."),
         EXCEPTION_SEARCH_DATE_OUT_OF_RANGE("Your query is out of range for our system."),
+        EXCEPTION_INVALID_DATE_FORMAT("Your input has a wrong format for the date input. "
+                + "Please follow the yyyy-MM-dd format with the \"-\""),
+        EXCEPTION_INVALID_CLASH_PERIOD("The end date must not be before the start date, "
+                + "and the period can be at most a year long."),
+        EXCEPTION_INVALID_FREE_PERIOD("The end date must not be before the start date, "
+                + "and the period must be shorter than ten years."),
+        EXCEPTION_INVALID_DURATION("Please specify the duration of the free slot in minutes, "
+                + "as a positive number shorter than a day."),
         EXCEPTION_MISSING_RECURRING_TYPE("Please indicate whether you would like to have the event "
                 + "repeat daily, weekly, monthly or yearly"),
         EXCEPTION_MISSING_EDIT_RECURRING_TYPE("Please indicate whether you would like to have the event "
@@ -88,7 +96,9 @@ public class SystemException extends Exception {
 
         // General exception type
         EXCEPTION_INVALID_INDEX_FORMAT("Invalid index format!"),
-        EXCEPTION_INVALID_INDEX_VALUE("Invalid index value!");
+        EXCEPTION_INVALID_INDEX_VALUE("Invalid index value!"),
+        EXCEPTION_INVALID_PAGE_VALUE("Page and limit must be positive integers!"),
+        EXCEPTION_PAGE_WITH_TIMING("Pages are only available when listing all the events, without a timing!");
 
         /** The exception message. */
         private final String exceptionMessage;
@@ -3,6 +3,11 @@ package seedu.notus.data.notebook;
 import seedu.notus.data.tag.Tag;
 import seedu.notus.data.tag.TaggableObject;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.ArrayList;
 
 import static seedu.notus.util.PrefixSyntax.PREFIX_ARCHIVE;
@@ -18,10 +23,17 @@ import static seedu.notus.ui.Formatter.LS;
  */
 public class Note extends TaggableObject {
 
+    /** Orders titles by their letters and accents, but not by their case. */
+    private static final Collator TITLE_COLLATOR = createTitleCollator();
+
     private String title;
+    /** Key the note is sorted by, made from the title once instead of on every comparison. */
+    private CollationKey sortKey;
     private ArrayList<String> content;
     private Boolean isPinned;
     private boolean isArchived;
+    /** Notebook listing the note, which is notified when the note is pinned or unpinned. */
+    private Notebook notebook;
 
     /**
      * Constructs a Note object with its title, content and pinned status provided.
@@ -33,6 +45,7 @@ public class Note extends TaggableObject {
     public Note(String title, ArrayList<String> content, Boolean isPinned, boolean isArchived) {
         super();
         this.title = title;
+        this.sortKey = createSortKey(title);
         this.content = content;
         this.isPinned = isPinned;
         this.isArchived = isArchived;
@@ -65,6 +78,7 @@ public class Note extends TaggableObject {
      */
     public void setTitle(String title) {
         this.title = title;
+        this.sortKey = createSortKey(title);
     }
 
     /**
@@ -77,12 +91,12 @@ public class Note extends TaggableObject {
     }
 
     public String getContentString() {
-        String contentString = "";
+        StringBuilder contentString = new StringBuilder();
 
         for (String information: content) {
-            contentString += information + LS;
+            contentString.append(information).append(LS);
         }
-        return contentString;
+        return contentString.toString();
     }
 
     /**
@@ -105,8 +119,16 @@ public class Note extends TaggableObject {
         return (isPinned ? "Pinned" : "Unpinned");
     }
 
+    public void setPinned(boolean isPinned) {
+        boolean isChanged = this.isPinned != isPinned;
+        this.isPinned = isPinned;
+        if (isChanged && notebook != null) {
+            notebook.updatePinned(this);
+        }
+    }
+
     public void togglePinned() {
-        isPinned = !isPinned;
+        setPinned(!isPinned);
     }
 
     public void toggleArchived() {
@@ -126,16 +148,79 @@ public class Note extends TaggableObject {
     }
 
     public String toSaveString() {
-        String noteDetails = "";
-        String tagDetails = "";
+        StringWriter noteDetails = new StringWriter();
+        try {
+            writeSaveString(noteDetails);
+        } catch (IOException exception) {
+            // A StringWriter does not throw IOException
+            throw new AssertionError(exception);
+        }
+        return noteDetails.toString();
+    }
+
+    //@@author Chongjx
+    /**
+     * Writes the content of the note line by line, without building the whole content as a String first.
+     *
+     * @param writer Writer to write the content to.
+     * @throws IOException if unable to write the content.
+     */
+    public void writeContent(Writer writer) throws IOException {
+        for (String information: content) {
+            writer.write(information);
+            writer.write(LS);
+        }
+    }
 
-        for (Tag tag: this.tags) {
-            tagDetails += PREFIX_DELIMITER + PREFIX_TAG + " " + tag.toSaveString() + " ";
+    /**
+     * Writes the details of the note, the same as toSaveString, without building them as a String first.
+     *
+     * @param writer Writer to write the details to.
+     * @throws IOException if unable to write the details.
+     */
+    public void writeSaveString(Writer writer) throws IOException {
+        writer.write(PREFIX_DELIMITER + PREFIX_TITLE + " ");
+        writer.write(title + " ");
+        writer.write(PREFIX_DELIMITER + PREFIX_PIN + " ");
+        writer.write(isPinned + " ");
+        for (Tag tag: tags) {
+            writer.write(PREFIX_DELIMITER + PREFIX_TAG + " ");
+            writer.write(tag.toSaveString());
+            writer.write(" ");
         }
-        noteDetails += PREFIX_DELIMITER + PREFIX_TITLE + " " + this.title + " "
-                    + PREFIX_DELIMITER + PREFIX_PIN + " " + this.isPinned + " "
-                    + tagDetails + LS;
+        writer.write(LS);
+    }
+
+    /**
+     * Sets the notebook listing the note.
+     *
+     * @param notebook Notebook listing the note, null if the note is no longer listed.
+     */
+    Notebook getNotebook() {
+        return notebook;
+    }
+
+    void setNotebook(Notebook notebook) {
+        this.notebook = notebook;
+    }
+
+    /**
+     * Gets the key the note is sorted by. Notes are sorted by title in the order of the default locale, ignoring the
+     * case of the title.
+     *
+     * @return Collation key of the title.
+     */
+    public CollationKey getSortKey() {
+        return sortKey;
+    }
+
+    private static CollationKey createSortKey(String title) {
+        return (title == null) ? null : TITLE_COLLATOR.getCollationKey(title);
+    }
 
-        return noteDetails;
+    private static Collator createTitleCollator() {
+        Collator collator = Collator.getInstance();
+        collator.setStrength(Collator.SECONDARY);
+        return collator;
     }
 }
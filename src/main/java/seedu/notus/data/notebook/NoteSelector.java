@@ -0,0 +1,71 @@
+package seedu.notus.data.notebook;
+
+import seedu.notus.data.tag.TagManager;
+import seedu.notus.data.tag.TaggableObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+//@@author Chongjx
+/**
+ * Represents a NoteSelector. Selects the notes that a bulk command operates on, either by a range of indexes or by
+ * a tag.
+ */
+public class NoteSelector {
+    private final int startIndex;
+    private final int endIndex;
+    private final String tagName;
+
+    /**
+     * Constructs a NoteSelector that selects the notes within an inclusive range of indexes.
+     *
+     * @param startIndex Index of the first note.
+     * @param endIndex Index of the last note.
+     */
+    public NoteSelector(int startIndex, int endIndex) {
+        assert startIndex >= 0 && startIndex <= endIndex;
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+        this.tagName = null;
+    }
+
+    /**
+     * Constructs a NoteSelector that selects the notes tagged with the tag name.
+     *
+     * @param tagName Name of the tag.
+     */
+    public NoteSelector(String tagName) {
+        this.startIndex = 0;
+        this.endIndex = 0;
+        this.tagName = tagName;
+    }
+
+    /**
+     * Returns the selected notes.
+     *
+     * @param notebook Notebook to select from.
+     * @param tagManager TagManager to look up the tagged notes.
+     * @param isArchive Whether to select from the archived notes.
+     * @return Selected notes.
+     * @throws IndexOutOfBoundsException if the range is not within the notebook.
+     */
+    public ArrayList<Note> select(Notebook notebook, TagManager tagManager, boolean isArchive) {
+        if (tagName == null) {
+            return notebook.getNotes(startIndex, endIndex, isArchive);
+        }
+
+        Set<TaggableObject> taggedObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+        taggedObjects.addAll(tagManager.getTaggedObjects(tagName));
+
+        // Deleted notes stay tagged, so only the notes still in the list are selected, in the order of the list
+        ArrayList<Note> selectedNotes = new ArrayList<>();
+        for (Note note : isArchive ? notebook.getArchivedNotes() : notebook.getNotes()) {
+            if (taggedObjects.contains(note)) {
+                selectedNotes.add(note);
+            }
+        }
+        return selectedNotes;
+    }
+}
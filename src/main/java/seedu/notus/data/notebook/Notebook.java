@@ -3,7 +3,10 @@ package seedu.notus.data.notebook;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 //@@author R-Ramana
@@ -14,6 +17,16 @@ public class Notebook {
 
     private ArrayList<Note> notes;
     private ArrayList<Note> archivedNotes;
+    private long generation = 0;
+    private final SortedNoteIndex sortedIndex = new SortedNoteIndex();
+    /** Generation of the notebook the sorted index is up to date with. */
+    private long indexedGeneration;
+    /** Pinned and unpinned notes, each in the order of the notebook. */
+    private final ArrayList<Note> pinnedNotes = new ArrayList<>();
+    private final ArrayList<Note> unpinnedNotes = new ArrayList<>();
+    private int pinnedCount = 0;
+    /** Whether the pinned and unpinned notes must be split again, as the notes were replaced since. */
+    private boolean isPartitionOutdated = false;
 
     /**
      * Creates a new list of notes.
@@ -21,6 +34,7 @@ public class Notebook {
     public Notebook() {
         notes = new ArrayList<>();
         archivedNotes = new ArrayList<>();
+        indexedGeneration = generation;
     }
 
     /**
@@ -30,6 +44,8 @@ public class Notebook {
      */
     public Notebook(ArrayList<Note> notes) {
         this.notes = notes;
+        indexedGeneration = generation - 1;
+        listNotes(notes);
     }
 
     /**
@@ -41,35 +57,41 @@ public class Notebook {
         return this.notes;
     }
 
+    //@@author Chongjx
+    /**
+     * Returns the notes within an inclusive range of indexes.
+     *
+     * @param startIndex Index of the first note.
+     * @param endIndex Index of the last note.
+     * @param isArchive Whether to select from the archived notes.
+     * @return Notes within the range, in the order of the notebook.
+     * @throws IndexOutOfBoundsException if the range is not within the notebook.
+     */
+    public ArrayList<Note> getNotes(int startIndex, int endIndex, boolean isArchive) {
+        ArrayList<Note> noteList = isArchive ? archivedNotes : notes;
+        return new ArrayList<>(noteList.subList(startIndex, endIndex + 1));
+    }
+
+    //@@author R-Ramana
     /**
      * Checks if any note in the notebook is pinned.
-     * Method exits the moment there is a pinned note.
+     * The number of pinned notes is kept up to date, so the notes are not checked.
      *
      * @return boolean value - true if any note is pinned and false otherwise.
      */
     public boolean checkPinned() {
-        for (Note note : notes) {
-            if (note.getPinned()) {
-                return true;
-            }
-        }
-        return false;
+        return pinnedCount > 0;
     }
 
     /**
      * Gets all the pinned notes from the notebook.
-     * Adds all the notes that are pinned to another ArrayList.
+     * The pinned notes are kept apart from the unpinned notes, so only the pinned notes are copied.
      *
      * @return noteList ArrayList containing all the pinned notes.
      */
     public ArrayList<Note> getPinnedNotes() {
-        ArrayList<Note> noteList = new ArrayList<>();
-        for (Note note : notes) {
-            if (note.getPinned()) {
-                noteList.add(note);
-            }
-        }
-        return noteList;
+        splitPinnedNotes();
+        return new ArrayList<>(pinnedNotes);
     }
 
     /**
@@ -91,18 +113,13 @@ public class Notebook {
 
     /**
      * Gets all the unpinned notes from the notebook.
-     * Adds all the notes that are unpinned to another ArrayList.
+     * The unpinned notes are kept apart from the pinned notes, so only the unpinned notes are copied.
      *
      * @return noteList ArrayList containing all the unpinned notes.
      */
     public ArrayList<Note> getUnpinnedNotes() {
-        ArrayList<Note> noteList = new ArrayList<>();
-        for (Note note : notes) {
-            if (!note.getPinned()) {
-                noteList.add(note);
-            }
-        }
-        return noteList;
+        splitPinnedNotes();
+        return new ArrayList<>(unpinnedNotes);
     }
 
     /**
@@ -136,35 +153,11 @@ public class Notebook {
      * @return sortedNotes ArrayList containing the sorted notes.
      */
     public ArrayList<Note> getSortedList(Boolean isAscendingOrder, Boolean isPinned) {
-        ArrayList<Note> sortedNotes;
-
-        if (isPinned == null) {
-            // Takes the notes in the notebook and sorts them according to title, alphabetically (a-z)
-            sortedNotes = (ArrayList<Note>) notes.stream()
-                    .filter(Objects::nonNull)
-                    .sorted(Comparator.comparing(a -> a.getTitle().toLowerCase()))
-                    .collect(Collectors.toList());
-        } else if (!isPinned) {
-            // Takes only the unpinned notes in the notebook and sorts them according to title, alphabetically (a-z)
-            sortedNotes = (ArrayList<Note>) notes.stream()
-                    .filter(Objects::nonNull)
-                    .filter((s) -> !s.getPinned())
-                    .sorted(Comparator.comparing(a -> a.getTitle().toLowerCase()))
-                    .collect(Collectors.toList());
-        } else {
-            // Takes only the pinned notes in the notebook and sorts them according to title, alphabetically (a-z)
-            sortedNotes = (ArrayList<Note>) notes.stream()
-                    .filter(Objects::nonNull)
-                    .filter(Note::getPinned)
-                    .sorted(Comparator.comparing(a -> a.getTitle().toLowerCase()))
-                    .collect(Collectors.toList());
+        if (indexedGeneration != generation) {
+            sortedIndex.rebuild(notes);
+            indexedGeneration = generation;
         }
-
-        if (!isAscendingOrder) {
-            Collections.reverse(sortedNotes);
-        }
-
-        return sortedNotes;
+        return sortedIndex.getSortedNotes(isAscendingOrder, isPinned);
     }
 
     /**
@@ -188,21 +181,21 @@ public class Notebook {
             // Takes the notes in the notebook and sorts them according to title, alphabetically (a-z)
             sortedNotes = (ArrayList<Note>) noteArrayList.stream()
                     .filter(Objects::nonNull)
-                    .sorted(Comparator.comparing(a -> a.getTitle().toLowerCase()))
+                    .sorted(Comparator.comparing(Note::getSortKey))
                     .collect(Collectors.toList());
         } else if (isPinned) {
             // Takes only the pinned notes in the notebook and sorts them according to title, alphabetically (a-z)
             sortedNotes = (ArrayList<Note>) noteArrayList.stream()
                     .filter(Objects::nonNull)
                     .filter(Note::getPinned)
-                    .sorted(Comparator.comparing(a -> a.getTitle().toLowerCase()))
+                    .sorted(Comparator.comparing(Note::getSortKey))
                     .collect(Collectors.toList());
         } else {
             // Takes only the unpinned notes in the notebook and sorts them according to title, alphabetically (a-z)
             sortedNotes = (ArrayList<Note>) noteArrayList.stream()
                     .filter(Objects::nonNull)
                     .filter((s) -> !s.getPinned())
-                    .sorted(Comparator.comparing(a -> a.getTitle().toLowerCase()))
+                    .sorted(Comparator.comparing(Note::getSortKey))
                     .collect(Collectors.toList());
         }
 
@@ -267,7 +260,10 @@ public class Notebook {
             archivedNotes.add(note);
         } else {
             notes.add(note);
+            sortedIndex.add(note);
+            listNote(note);
         }
+        markIndexModified();
     }
 
     /**
@@ -277,7 +273,10 @@ public class Notebook {
      * @return if the note is deleted.
      */
     public boolean deleteNote(int index) {
-        notes.remove(index);
+        Note deletedNote = notes.remove(index);
+        sortedIndex.remove(deletedNote);
+        unlistNote(deletedNote);
+        markIndexModified();
         return true;
     }
 
@@ -288,7 +287,19 @@ public class Notebook {
      * @return if the note is deleted.
      */
     public boolean deleteNote(String title) {
-        return notes.removeIf(note -> note.getTitle().equalsIgnoreCase(title));
+        boolean isDeleted = false;
+        Iterator<Note> iterator = notes.iterator();
+        while (iterator.hasNext()) {
+            Note note = iterator.next();
+            if (note.getTitle().equalsIgnoreCase(title)) {
+                iterator.remove();
+                sortedIndex.remove(note);
+                unlistNote(note);
+                isDeleted = true;
+            }
+        }
+        markIndexModified();
+        return isDeleted;
     }
 
     /**
@@ -298,9 +309,39 @@ public class Notebook {
      * @param note refers to the note to be added.
      */
     public void setNotes(int index, Note note) {
-        notes.set(index, note);
+        Note replacedNote = notes.set(index, note);
+        sortedIndex.remove(replacedNote);
+        sortedIndex.add(note);
+        if (replacedNote != note) {
+            unlistNote(replacedNote);
+            note.setNotebook(this);
+            if (note.getPinned()) {
+                pinnedCount++;
+            }
+            // The note is not added at the end of the notebook
+            insertIntoPartition(note);
+        }
+        markIndexModified();
+    }
+
+    //@@author Chongjx
+    /**
+     * Replaces all the notes in the notebook. Used to revert the notebook to an earlier state.
+     *
+     * @param notes Unarchived notes.
+     * @param archivedNotes Archived notes.
+     */
+    public void restoreNotes(ArrayList<Note> notes, ArrayList<Note> archivedNotes) {
+        for (Note note : this.notes) {
+            note.setNotebook(null);
+        }
+        this.notes = notes;
+        this.archivedNotes = archivedNotes;
+        listNotes(notes);
+        markModified();
     }
 
+    //@@author R-Ramana
     /**
      * Archives the specified note based on the index value.
      * Archiving is done by removing the note from notes and adding it to a separate archivedNotes notebook.
@@ -314,6 +355,9 @@ public class Notebook {
         archivedNotes.add(archivedNote);
         archivedNote.toggleArchived();
         notes.remove(index);
+        sortedIndex.remove(archivedNote);
+        unlistNote(archivedNote);
+        markIndexModified();
 
         return archivedNote.getTitle();
     }
@@ -340,6 +384,24 @@ public class Notebook {
         return isDeleted;
     }
 
+    //@@author Chongjx
+    /**
+     * Archives all the specified notes in a single pass over the notebook.
+     *
+     * @param notesToArchive Unarchived notes to be archived.
+     */
+    public void archiveNotes(ArrayList<Note> notesToArchive) {
+        ArrayList<Note> archivedNotesToAdd = removeSelectedNotes(notes, notesToArchive);
+        for (Note note : archivedNotesToAdd) {
+            note.setArchived(true);
+            sortedIndex.remove(note);
+            unlistNote(note);
+        }
+        archivedNotes.addAll(archivedNotesToAdd);
+        markIndexModified();
+    }
+
+    //@@author R-Ramana
     /**
      * Un-archives the specified note based on the index value.
      * Un-archiving is done by removing the note from archivedNotes and adding it to notes.
@@ -353,6 +415,9 @@ public class Notebook {
         notes.add(unarchivedNote);
         unarchivedNote.toggleArchived();
         archivedNotes.remove(unarchivedNote);
+        sortedIndex.add(unarchivedNote);
+        listNote(unarchivedNote);
+        markIndexModified();
 
         return unarchivedNote.getTitle();
     }
@@ -374,11 +439,60 @@ public class Notebook {
         if (isDeleted) {
             notes.add(unarchivedNote);
             unarchivedNote.toggleArchived();
+            sortedIndex.add(unarchivedNote);
+            listNote(unarchivedNote);
+            markIndexModified();
         }
 
         return isDeleted;
     }
 
+    //@@author Chongjx
+    /**
+     * Un-archives all the specified notes in a single pass over the archived notes.
+     *
+     * @param notesToUnarchive Archived notes to be un-archived.
+     */
+    public void unarchiveNotes(ArrayList<Note> notesToUnarchive) {
+        ArrayList<Note> unarchivedNotes = removeSelectedNotes(archivedNotes, notesToUnarchive);
+        for (Note note : unarchivedNotes) {
+            note.setArchived(false);
+            sortedIndex.add(note);
+            listNote(note);
+        }
+        notes.addAll(unarchivedNotes);
+        markIndexModified();
+    }
+
+    /**
+     * Removes all the specified notes in a single pass over the notebook.
+     *
+     * @param notesToDelete Unarchived notes to be removed.
+     */
+    public void deleteNotes(ArrayList<Note> notesToDelete) {
+        for (Note note : removeSelectedNotes(notes, notesToDelete)) {
+            sortedIndex.remove(note);
+            unlistNote(note);
+        }
+        markIndexModified();
+    }
+
+    /**
+     * Removes the selected notes from a list in a single pass. Selected notes that are not in the list are skipped.
+     *
+     * @param noteList List to remove the notes from.
+     * @param selectedNotes Notes to be removed.
+     * @return Notes that were removed, in the order of the list.
+     */
+    private static ArrayList<Note> removeSelectedNotes(ArrayList<Note> noteList, ArrayList<Note> selectedNotes) {
+        Set<Note> noteSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        noteSet.addAll(selectedNotes);
+        ArrayList<Note> removedNotes = new ArrayList<>();
+        noteList.removeIf(note -> noteSet.contains(note) && removedNotes.add(note));
+        return removedNotes;
+    }
+
+    //@@author R-Ramana
     public ArrayList<Note> getArchivedNotes() {
         return archivedNotes;
     }
@@ -404,4 +518,177 @@ public class Notebook {
     public int getArchivedNoteSize() {
         return archivedNotes.size();
     }
+
+    //@@author Chongjx
+    /**
+     * Returns the generation of the notebook. The generation changes whenever the notes are modified, so output
+     * rendered from the notebook can be reused until the generation changes.
+     *
+     * @return Generation of the notebook.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Records that the notes are modified. To be called after a note in the notebook is modified directly. The sorted
+     * notes are rebuilt the next time they are needed.
+     */
+    public void markModified() {
+        generation++;
+    }
+
+    /**
+     * Records that the content of a note in the notebook is modified directly. The title is unchanged, so the sorted
+     * notes are kept.
+     */
+    public void markContentModified() {
+        markIndexModified();
+    }
+
+    /**
+     * Records that the note is modified. To be called after the note is modified directly. Only the note is moved
+     * within the sorted notes.
+     *
+     * @param note Note that was modified.
+     */
+    public void markModified(Note note) {
+        sortedIndex.update(note);
+        markIndexModified();
+    }
+
+    /**
+     * Moves a note in the notebook that was pinned or unpinned to the pinned or unpinned notes, keeping its place in
+     * the order of the notebook.
+     *
+     * @param note Note that was pinned or unpinned.
+     */
+    void updatePinned(Note note) {
+        pinnedCount += note.getPinned() ? 1 : -1;
+        if (!isPartitionOutdated) {
+            ArrayList<Note> oldPartition = note.getPinned() ? unpinnedNotes : pinnedNotes;
+            oldPartition.removeIf(listedNote -> listedNote == note);
+            insertIntoPartition(note);
+        }
+        markIndexModified();
+    }
+
+    /**
+     * Inserts a note of the notebook into the pinned or unpinned notes, after the notes that come before it in the
+     * notebook. Every other note must already be in the partition matching its pinned status.
+     *
+     * @param note Note to be inserted.
+     */
+    private void insertIntoPartition(Note note) {
+        if (isPartitionOutdated) {
+            return;
+        }
+
+        int position = 0;
+        for (Note listedNote : notes) {
+            if (listedNote == note) {
+                break;
+            }
+            if (listedNote.getPinned() == note.getPinned()) {
+                position++;
+            }
+        }
+        ArrayList<Note> partition = note.getPinned() ? pinnedNotes : unpinnedNotes;
+        partition.add(position, note);
+    }
+
+    /**
+     * Adds a note that was added at the end of the notebook to the pinned or unpinned notes.
+     *
+     * @param note Note that was added.
+     */
+    private void listNote(Note note) {
+        note.setNotebook(this);
+        if (note.getPinned()) {
+            pinnedCount++;
+            pinnedNotes.add(note);
+        } else {
+            unpinnedNotes.add(note);
+        }
+    }
+
+    private void listNotes(ArrayList<Note> notesToList) {
+        pinnedCount = 0;
+        for (Note note : notesToList) {
+            note.setNotebook(this);
+            if (note.getPinned()) {
+                pinnedCount++;
+            }
+        }
+        isPartitionOutdated = true;
+    }
+
+    /**
+     * Removes a note that was removed from the notebook from the pinned or unpinned notes. Notes that are not listed
+     * in this notebook are left alone.
+     *
+     * @param note Note that was removed.
+     */
+    private void unlistNote(Note note) {
+        if (note.getNotebook() != this) {
+            return;
+        }
+        note.setNotebook(null);
+        if (note.getPinned()) {
+            pinnedCount--;
+        }
+        if (!isPartitionOutdated) {
+            ArrayList<Note> partition = note.getPinned() ? pinnedNotes : unpinnedNotes;
+            partition.removeIf(listedNote -> listedNote == note);
+        }
+    }
+
+    /**
+     * Splits the notes into the pinned and unpinned notes again if the notes were replaced since.
+     */
+    private void splitPinnedNotes() {
+        if (!isPartitionOutdated) {
+            return;
+        }
+
+        pinnedNotes.clear();
+        unpinnedNotes.clear();
+        for (Note note : notes) {
+            if (note.getPinned()) {
+                pinnedNotes.add(note);
+            } else {
+                unpinnedNotes.add(note);
+            }
+        }
+        isPartitionOutdated = false;
+    }
+
+    /**
+     * Returns whether the pinned and unpinned notes are up to date with the notes, so that listing them needs no split.
+     *
+     * @return true if the pinned and unpinned notes are up to date.
+     */
+    boolean isPartitionUpToDate() {
+        return !isPartitionOutdated;
+    }
+
+    /**
+     * Returns whether the sorted notes are up to date with the notes, so that listing them needs no rebuild.
+     *
+     * @return true if the sorted notes are up to date.
+     */
+    boolean isSortedIndexUpToDate() {
+        return indexedGeneration == generation;
+    }
+
+    /**
+     * Records that the notes are modified after the sorted index has been updated with the modification.
+     */
+    private void markIndexModified() {
+        boolean isIndexUpToDate = isSortedIndexUpToDate();
+        generation++;
+        if (isIndexUpToDate) {
+            indexedGeneration = generation;
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package seedu.notus.data.notebook;
+
+import java.text.CollationKey;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+//@@author Chongjx
+/**
+ * Represents the notes of a notebook sorted alphabetically by the sort key of their title. The index is updated as notes
+ * are added and removed, so the sorted notes can be listed in either order without sorting them again.
+ */
+class SortedNoteIndex {
+    /** Notes by their sort key. Notes with the same sort key are kept in the order they were added. */
+    private final TreeMap<CollationKey, ArrayList<Note>> notesByTitle = new TreeMap<>();
+    /** Sort key each note was indexed with, as the title of the note may have changed since. */
+    private final IdentityHashMap<Note, CollationKey> indexedTitles = new IdentityHashMap<>();
+
+    /**
+     * Adds a note to the index.
+     *
+     * @param note Note to be added.
+     */
+    void add(Note note) {
+        CollationKey title = note.getSortKey();
+        notesByTitle.computeIfAbsent(title, key -> new ArrayList<>()).add(note);
+        indexedTitles.put(note, title);
+    }
+
+    /**
+     * Removes a note from the index.
+     *
+     * @param note Note to be removed.
+     * @return true if the note was in the index.
+     */
+    boolean remove(Note note) {
+        CollationKey title = indexedTitles.remove(note);
+        if (title == null) {
+            return false;
+        }
+
+        ArrayList<Note> notesWithTitle = notesByTitle.get(title);
+        notesWithTitle.removeIf(indexedNote -> indexedNote == note);
+        if (notesWithTitle.isEmpty()) {
+            notesByTitle.remove(title);
+        }
+        return true;
+    }
+
+    /**
+     * Moves a note in the index after its title has changed.
+     *
+     * @param note Note that was modified.
+     */
+    void update(Note note) {
+        if (remove(note)) {
+            add(note);
+        }
+    }
+
+    /**
+     * Replaces the index with the notes.
+     *
+     * @param notes Notes to be indexed.
+     */
+    void rebuild(List<Note> notes) {
+        notesByTitle.clear();
+        indexedTitles.clear();
+        for (Note note : notes) {
+            if (note != null) {
+                add(note);
+            }
+        }
+    }
+
+    /**
+     * Returns the indexed notes in alphabetical order, walking the index once.
+     *
+     * @param isAscendingOrder Whether the notes are listed a-z, or z-a otherwise.
+     * @param isPinned null to list all the notes, otherwise only the pinned or only the unpinned notes are listed.
+     * @return Sorted notes.
+     */
+    ArrayList<Note> getSortedNotes(boolean isAscendingOrder, Boolean isPinned) {
+        NavigableMap<CollationKey, ArrayList<Note>> orderedNotes = isAscendingOrder ? notesByTitle
+                : notesByTitle.descendingMap();
+        ArrayList<Note> sortedNotes = new ArrayList<>(indexedTitles.size());
+
+        for (Map.Entry<CollationKey, ArrayList<Note>> entry : orderedNotes.entrySet()) {
+            ArrayList<Note> notesWithTitle = entry.getValue();
+            ListIterator<Note> iterator = notesWithTitle.listIterator(isAscendingOrder ? 0 : notesWithTitle.size());
+            while (isAscendingOrder ? iterator.hasNext() : iterator.hasPrevious()) {
+                Note note = isAscendingOrder ? iterator.next() : iterator.previous();
+                if (isPinned == null || note.getPinned() == isPinned) {
+                    sortedNotes.add(note);
+                }
+            }
+        }
+        return sortedNotes;
+    }
+}
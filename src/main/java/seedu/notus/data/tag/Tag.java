@@ -1,8 +1,5 @@
 package seedu.notus.data.tag;
 
-import com.diogonunes.jcolor.Attribute;
-import static com.diogonunes.jcolor.Ansi.colorize;
-
 //@@author Chongjx
 /**
  * Represents a tag with respective color bind to it.
@@ -18,7 +15,12 @@ public class Tag {
     public static final String COLOR_WHITE_STRING = "WHITE";
 
     private String tagName;
-    private Attribute tagAttribute;
+    private TagColor tagColor;
+
+    /** Colored label of the tag. Rendered on first use and cleared when the name or color changes. */
+    private String label;
+    /** Save string of the tag. Built on first use and cleared when the name or color changes. */
+    private String saveString;
 
     /**
      * Overloaded constructor to take in the color of the tag.
@@ -27,19 +29,18 @@ public class Tag {
      * @param tagColor Color of the tag to be set.
      */
     public Tag(String tagName, String tagColor) {
-        setTagName(tagName);
-        setTagColor(tagColor);
+        this(tagName, TagColor.fromString(tagColor));
     }
 
     /**
-     * Overloaded constructor to take in the ansi value of the color of the tag.
+     * Overloaded constructor to take in the TagColor of the tag.
      *
      * @param tagName Name of the tag to be set.
-     * @param attribute Attribute of the color to be set.
+     * @param tagColor Color of the tag to be set.
      */
-    public Tag(String tagName, int attribute) {
+    public Tag(String tagName, TagColor tagColor) {
         setTagName(tagName);
-        setTagAttribute(Attribute.BACK_COLOR(attribute));
+        setTagColor(tagColor);
     }
 
     /** Getter function for the name of the tag. */
@@ -50,72 +51,56 @@ public class Tag {
     /** Setter function for the name of the tag. */
     public void setTagName(String tagName) {
         this.tagName = tagName;
+        clearRenderedStrings();
     }
 
-    /** Setter function for the color of the tag. */
+    /** Getter function for the color of the tag. */
+    public TagColor getTagColor() {
+        return tagColor;
+    }
+
+    /** Setter function for the color of the tag, by its name. Unknown colors are white. */
     public void setTagColor(String tagColor) {
-        switch (tagColor.toUpperCase()) {
-        case COLOR_RED_STRING:
-            this.tagAttribute = Attribute.BRIGHT_RED_TEXT();
-            break;
-        case COLOR_GREEN_STRING:
-            this.tagAttribute = Attribute.BRIGHT_GREEN_TEXT();
-            break;
-        case COLOR_BLUE_STRING:
-            this.tagAttribute = Attribute.BRIGHT_BLUE_TEXT();
-            break;
-        case COLOR_YELLOW_STRING:
-            this.tagAttribute = Attribute.BRIGHT_YELLOW_TEXT();
-            break;
-        case COLOR_MAGENTA_STRING:
-            this.tagAttribute = Attribute.BRIGHT_MAGENTA_TEXT();
-            break;
-        case COLOR_CYAN_STRING:
-            this.tagAttribute = Attribute.BRIGHT_CYAN_TEXT();
-            break;
-        case COLOR_WHITE_STRING:
-        default:
-            this.tagAttribute = Attribute.BRIGHT_WHITE_TEXT();
-            break;
-        }
+        setTagColor(TagColor.fromString(tagColor));
     }
 
-    public Attribute getTagAttribute() {
-        return tagAttribute;
+    /** Setter function for the color of the tag. */
+    public void setTagColor(TagColor tagColor) {
+        this.tagColor = tagColor;
+        clearRenderedStrings();
     }
 
-    public void setTagAttribute(Attribute tagColor) {
-        this.tagAttribute = tagColor;
+    /**
+     * Clears the cached label and save string so that they are rebuilt with the new name or color.
+     */
+    private void clearRenderedStrings() {
+        label = null;
+        saveString = null;
     }
 
     /**
      * Overrides the parent class toString function to return the tag with its tag color.
      *
-     * @return tagName with its respective tag attribute.
+     * @return tagName with its respective tag color.
      */
     @Override
     public String toString() {
-        return colorize("[" + tagName + "]", tagAttribute);
+        if (label == null) {
+            label = tagColor.colorize("[" + tagName + "]");
+        }
+        return label;
     }
 
+    /**
+     * Returns the name and color of the tag to be saved. The string is only built once until the name or color of the
+     * tag changes.
+     *
+     * @return tagName followed by its color.
+     */
     public String toSaveString() {
-        String colorString = "";
-
-        if (tagAttribute.toString().equals(Attribute.BRIGHT_RED_TEXT().toString())) {
-            colorString = COLOR_RED_STRING;
-        } else if (tagAttribute.toString().equals(Attribute.BRIGHT_GREEN_TEXT().toString())) {
-            colorString = COLOR_GREEN_STRING;
-        } else if (tagAttribute.toString().equals(Attribute.BRIGHT_BLUE_TEXT().toString())) {
-            colorString = COLOR_BLUE_STRING;
-        } else if (tagAttribute.toString().equals(Attribute.BRIGHT_YELLOW_TEXT().toString())) {
-            colorString = COLOR_YELLOW_STRING;
-        } else if (tagAttribute.toString().equals(Attribute.BRIGHT_CYAN_TEXT().toString())) {
-            colorString = COLOR_CYAN_STRING;
-        } else if (tagAttribute.toString().equals(Attribute.BRIGHT_MAGENTA_TEXT().toString())) {
-            colorString = COLOR_MAGENTA_STRING;
-        } else if (tagAttribute.toString().equals(Attribute.BRIGHT_WHITE_TEXT().toString())) {
-            colorString = COLOR_WHITE_STRING;
+        if (saveString == null) {
+            saveString = tagName + " " + tagColor.getSaveName();
         }
-        return tagName + " " + colorString;
+        return saveString;
     }
 }
@@ -0,0 +1,72 @@
+package seedu.notus.data.tag;
+
+import com.diogonunes.jcolor.Attribute;
+
+import java.util.HashMap;
+
+import static com.diogonunes.jcolor.Ansi.RESET;
+import static com.diogonunes.jcolor.Ansi.generateCode;
+
+//@@author Chongjx
+/**
+ * Represents the colors a tag can have. The escape code and the name saved to the file of each color are computed
+ * once, so rendering and saving a tag do not build any Attribute.
+ */
+public enum TagColor {
+    RED(Tag.COLOR_RED_STRING, Attribute.BRIGHT_RED_TEXT()),
+    GREEN(Tag.COLOR_GREEN_STRING, Attribute.BRIGHT_GREEN_TEXT()),
+    BLUE(Tag.COLOR_BLUE_STRING, Attribute.BRIGHT_BLUE_TEXT()),
+    YELLOW(Tag.COLOR_YELLOW_STRING, Attribute.BRIGHT_YELLOW_TEXT()),
+    MAGENTA(Tag.COLOR_MAGENTA_STRING, Attribute.BRIGHT_MAGENTA_TEXT()),
+    CYAN(Tag.COLOR_CYAN_STRING, Attribute.BRIGHT_CYAN_TEXT()),
+    WHITE(Tag.COLOR_WHITE_STRING, Attribute.BRIGHT_WHITE_TEXT());
+
+    /** Colors by their saved name. */
+    private static final HashMap<String, TagColor> COLORS_BY_NAME = new HashMap<>();
+
+    static {
+        for (TagColor color : values()) {
+            COLORS_BY_NAME.put(color.saveName, color);
+        }
+    }
+
+    /** Name of the color used in the commands and the save file. */
+    private final String saveName;
+    /** Ansi escape code that starts the color. */
+    private final String prefix;
+
+    /**
+     * Constructor of a TagColor.
+     *
+     * @param saveName Name of the color used in the commands and the save file.
+     * @param attribute Attribute of the color.
+     */
+    TagColor(String saveName, Attribute attribute) {
+        this.saveName = saveName;
+        this.prefix = generateCode(attribute);
+    }
+
+    /**
+     * Returns the color with the name, ignoring the case. Unknown names are white.
+     *
+     * @param name Name of the color.
+     * @return Color with the name.
+     */
+    public static TagColor fromString(String name) {
+        return COLORS_BY_NAME.getOrDefault(name.toUpperCase(), WHITE);
+    }
+
+    public String getSaveName() {
+        return saveName;
+    }
+
+    /**
+     * Returns the text in the color.
+     *
+     * @param text Text to be colored.
+     * @return Text enclosed by the escape codes of the color.
+     */
+    public String colorize(String text) {
+        return prefix + text + RESET;
+    }
+}
@@ -1,29 +1,27 @@
 package seedu.notus.data.tag;
 
-import java.io.IOException;
+import seedu.notus.util.logging.Log;
+import seedu.notus.util.logging.LogService;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
-
-import java.util.logging.FileHandler;
-import java.util.logging.Level;
-import java.util.logging.LogManager;
-import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
-
-import static seedu.notus.storage.StorageManager.LOGS_DIR;
+import java.util.Set;
 
 //@@author Chongjx
 /**
  * Represents a TagManager. Manages the tags for the notes and events.
  */
 public class TagManager {
-    private static final Logger LOGGER = Logger.getLogger("TagManager");
+    private static final Log LOGGER = LogService.getLog("TagManager");
 
     private Map<Tag, ArrayList<TaggableObject>> tagMap;
+    private long generation = 0;
 
     public TagManager() {
-        setupLogger();
+        LOGGER.info("New tagManager object created.");
         tagMap = new HashMap<>();
     }
 
@@ -59,13 +57,15 @@ public class TagManager {
 
         // If the tag does not exist, creates it.
         if (existingTag == null) {
-            LOGGER.log(Level.INFO, "Creating a new tag: " + tag.getTagName());
+            LOGGER.info("Creating a new tag: {0}", tag.getTagName());
             tagMap.put(tag, new ArrayList<>());
+            markModified();
             return true;
         } else {
             if (overridesColor) {
-                LOGGER.log(Level.INFO, "Overriding an existing tag: " + existingTag.getTagName());
-                existingTag.setTagAttribute(tag.getTagAttribute());
+                LOGGER.info("Overriding an existing tag: {0}", existingTag.getTagName());
+                existingTag.setTagColor(tag.getTagColor());
+                markModified();
             }
             return false;
         }
@@ -99,9 +99,10 @@ public class TagManager {
      * @param tag Provided Tag.
      */
     public void tagObject(TaggableObject taggableObject, Tag tag) {
-        LOGGER.log(Level.INFO, "Adding tag to object: " + tag.getTagName());
+        LOGGER.info("Adding tag to object: {0}", tag.getTagName());
         tagMap.get(tag).add(taggableObject);
         taggableObject.getTags().add(tag);
+        markModified();
     }
 
     /**
@@ -111,9 +112,10 @@ public class TagManager {
      * @param tag Tag to be removed.
      */
     public void removeTag(TaggableObject taggableObject, Tag tag) {
-        LOGGER.log(Level.INFO, "Removing tag: " + tag.getTagName());
+        LOGGER.info("Removing tag: {0}", tag.getTagName());
         tagMap.get(tag).remove(taggableObject);
         taggableObject.getTags().remove(tag);
+        markModified();
     }
 
     /**
@@ -126,15 +128,16 @@ public class TagManager {
         Tag existingTag = getTag(tag.getTagName());
 
         if (existingTag == null) {
-            LOGGER.log(Level.INFO, "Tag does not exists, unable to delete: " + tag.getTagName());
+            LOGGER.info("Tag does not exists, unable to delete: {0}", tag.getTagName());
             return false;
         }
 
         for (TaggableObject taggableObject : tagMap.get(existingTag)) {
             taggableObject.getTags().remove(existingTag);
         }
-        LOGGER.log(Level.INFO, "Delete tag: " + tag.getTagName());
+        LOGGER.info("Delete tag: {0}", tag.getTagName());
         tagMap.remove(existingTag);
+        markModified();
         return true;
     }
 
@@ -189,13 +192,13 @@ public class TagManager {
         for (int i = 0; i < numTagsToCheck; ++i) {
             // always check against the tag of the first object
             Tag tag = taggableObject.getTags().get(0);
-            LOGGER.log(Level.INFO, "Attempt to match with existing tag: " + tag.getTagName());
+            LOGGER.info("Attempt to match with existing tag: {0}", tag.getTagName());
             // check if the tag exists in the database
             Tag existingTag = getTag(tag.getTagName());
             taggableObject.getTags().remove(tag);
 
             if (existingTag == null) {
-                LOGGER.log(Level.INFO, "Tag does not exist");
+                LOGGER.info("Tag does not exist");
                 // if the tag does not exist in the database, create the tag and tag to object
                 createTag(tag, false);
                 tagObject(taggableObject, tag);
@@ -203,6 +206,7 @@ public class TagManager {
                 tagObject(taggableObject, existingTag);
             }
         }
+        markModified();
     }
 
     /**
@@ -238,19 +242,72 @@ public class TagManager {
         return result;
     }
 
-    private void setupLogger() {
-        LogManager.getLogManager().reset();
-        LOGGER.setLevel(Level.INFO);
+    /**
+     * Tags or untags every object with the tags. Each tag is looked up once for all the objects, and the objects
+     * untagged are removed from the objects with the tag in one pass.
+     *
+     * @param taggableObjects Objects to be tagged or untagged.
+     * @param tags Tags to be added to or removed from each object.
+     * @return Number of objects that were tagged or untagged.
+     */
+    public int tagAndUntag(ArrayList<? extends TaggableObject> taggableObjects, ArrayList<Tag> tags) {
+        ArrayList<Tag> existingTags = new ArrayList<>();
+        for (Tag t : tags) {
+            // runs the create tag in case existing tag is null, if it is not null, updates the tag
+            createTag(t, false);
+            existingTags.add(getTag(t.getTagName()));
+        }
+
+        for (Tag existingTag : existingTags) {
+            LOGGER.info("Tagging or untagging objects with: {0}", existingTag.getTagName());
+            ArrayList<TaggableObject> taggedObjects = tagMap.get(existingTag);
+            Set<TaggableObject> untaggedObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (TaggableObject taggableObject : taggableObjects) {
+                if (taggableObject.getTags().remove(existingTag)) {
+                    untaggedObjects.add(taggableObject);
+                } else {
+                    taggableObject.getTags().add(existingTag);
+                    taggedObjects.add(taggableObject);
+                }
+            }
+            // The untagged objects are removed in a single pass over the objects with the tag
+            if (!untaggedObjects.isEmpty()) {
+                taggedObjects.removeIf(untaggedObjects::contains);
+            }
+        }
+        markModified();
+        return taggableObjects.size();
+    }
+
+    /**
+     * Returns all the objects tagged with the tag name.
+     *
+     * @param tagName Name of the tag.
+     * @return Tagged objects. Empty if the tag does not exist.
+     */
+    public ArrayList<TaggableObject> getTaggedObjects(String tagName) {
+        Tag existingTag = getTag(tagName);
 
-        try {
-            FileHandler fileHandler = new FileHandler(LOGS_DIR + "/TagManager.log");
-            fileHandler.setFormatter(new SimpleFormatter());
-            fileHandler.setLevel(Level.INFO);
-            LOGGER.addHandler(fileHandler);
-        } catch (IOException exception) {
-            LOGGER.log(Level.SEVERE, "File logger not working.", exception);
+        if (existingTag == null) {
+            return new ArrayList<>();
         }
+        return new ArrayList<>(tagMap.get(existingTag));
+    }
 
-        LOGGER.log(Level.INFO, "New tagManager object created.");
+    /**
+     * Returns the generation of the tags. The generation changes whenever a tag is created, deleted, recolored, added
+     * to or removed from an object, so output rendered with the tags can be reused until the generation changes.
+     *
+     * @return Generation of the tags.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Records that the tags are modified. To be called after the tag map is modified directly.
+     */
+    public void markModified() {
+        generation++;
     }
 }
\ No newline at end of file
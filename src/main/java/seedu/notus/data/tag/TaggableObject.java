@@ -22,11 +22,11 @@ public abstract class TaggableObject {
     }
 
     public String getTagsName() {
-        String tagsName = "";
+        StringBuilder tagsName = new StringBuilder();
 
         for (Tag t : tags) {
-            tagsName = tagsName.concat(t.toString()).concat(" ");
+            tagsName.append(t).append(" ");
         }
-        return tagsName;
+        return tagsName.toString();
     }
 }
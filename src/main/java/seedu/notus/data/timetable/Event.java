@@ -7,6 +7,7 @@ import seedu.notus.ui.Formatter;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.HashMap;
 
@@ -17,14 +18,23 @@ import java.util.HashMap;
 public class Event extends TaggableObject implements Comparable<Event> {
     public static final String REMINDER_DAY = "day";
     public static final String REMINDER_WEEK = "week";
+    /** Id of an event that is not stored in a timetable, such as a single recurrence of a recurring event. */
+    public static final int UNASSIGNED_ID = -1;
+
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final byte IS_TO_REMIND_FLAG = 1;
+    private static final byte IS_RECURRING_FLAG = 1 << 1;
+    private static final int DAYS_PER_WEEK = 7;
 
     private String title;
-    private LocalDateTime startDateTime;
-    private LocalDateTime endDateTime;
-    private Boolean isToRemind;
-    private Boolean isRecurring;
+    /** Start and end of the event in minutes since the epoch, as events are only timed to the minute. */
+    private long startMinute;
+    private long endMinute;
+    /** Whether the event is to be reminded of and whether it re-occurs, as bits. */
+    private byte flags;
     private HashMap<String, ArrayList<Integer>> reminderPeriods = new HashMap<>();
-    private ArrayList<Tag> tags = new ArrayList<>();
+    /** Id given by the timetable storing the event, used to find the event in the timetable without a search. */
+    private int id = UNASSIGNED_ID;
 
 
     /**
@@ -36,10 +46,8 @@ public class Event extends TaggableObject implements Comparable<Event> {
      */
     public Event(String title, LocalDateTime startDateTime, LocalDateTime endDateTime) {
         this.title = title;
-        this.startDateTime = startDateTime;
-        this.endDateTime = endDateTime;
-        this.isToRemind = false;
-        this.isRecurring = false;
+        this.startMinute = toEpochMinute(startDateTime);
+        this.endMinute = toEpochMinute(endDateTime);
     }
 
     /**
@@ -54,8 +62,8 @@ public class Event extends TaggableObject implements Comparable<Event> {
     public Event(String title, LocalDateTime startDateTime, LocalDateTime endDateTime,
                  boolean isToRemind, boolean isRecurring) {
         this(title, startDateTime, endDateTime);
-        this.isToRemind = isToRemind;
-        this.isRecurring = isRecurring;
+        setFlag(IS_TO_REMIND_FLAG, isToRemind);
+        setFlag(IS_RECURRING_FLAG, isRecurring);
     }
 
     /**
@@ -74,7 +82,9 @@ public class Event extends TaggableObject implements Comparable<Event> {
                  HashMap<String, ArrayList<Integer>> reminderPeriods, ArrayList<Tag> tags) {
         this(title, startDateTime, endDateTime, isToRemind, isRecurring);
         this.reminderPeriods = reminderPeriods;
-        this.tags = tags;
+        if (tags != null) {
+            setTags(tags);
+        }
     }
 
     /**
@@ -103,44 +113,44 @@ public class Event extends TaggableObject implements Comparable<Event> {
     }
 
     public LocalDateTime getStartDateTime() {
-        return startDateTime;
+        return toDateTime(startMinute);
     }
 
     public void setStartDateTime(LocalDateTime dateTime) {
-        startDateTime = dateTime;
+        startMinute = toEpochMinute(dateTime);
     }
 
     public LocalDate getStartDate() {
-        return startDateTime.toLocalDate();
+        return getStartDateTime().toLocalDate();
     }
 
     public LocalTime getStartTime() {
-        return startDateTime.toLocalTime();
+        return getStartDateTime().toLocalTime();
     }
 
     public LocalDateTime getEndDateTime() {
-        return endDateTime;
+        return toDateTime(endMinute);
     }
 
     public void setEndDateTime(LocalDateTime dateTime) {
-        endDateTime = dateTime;
+        endMinute = toEpochMinute(dateTime);
     }
 
     public LocalDate getEndDate() {
-        return endDateTime.toLocalDate();
+        return getEndDateTime().toLocalDate();
     }
 
 
     public LocalTime getEndTime() {
-        return endDateTime.toLocalTime();
+        return getEndDateTime().toLocalTime();
     }
 
     public String getStartDateTimeString() {
-        return getLocalDateTimeStringRep(startDateTime);
+        return getLocalDateTimeStringRep(getStartDateTime());
     }
 
     public String getEndDateTimeString() {
-        return getLocalDateTimeStringRep(endDateTime);
+        return getLocalDateTimeStringRep(getEndDateTime());
     }
 
     /**
@@ -154,11 +164,11 @@ public class Event extends TaggableObject implements Comparable<Event> {
     }
 
     public boolean getIsToRemind() {
-        return isToRemind;
+        return (flags & IS_TO_REMIND_FLAG) != 0;
     }
 
     public void setIsToRemind(boolean isToRemind) {
-        this.isToRemind = isToRemind;
+        setFlag(IS_TO_REMIND_FLAG, isToRemind);
     }
 
     public HashMap<String, ArrayList<Integer>> getReminderPeriods() {
@@ -170,30 +180,59 @@ public class Event extends TaggableObject implements Comparable<Event> {
     }
 
     public boolean getRecurring() {
-        return isRecurring;
+        return (flags & IS_RECURRING_FLAG) != 0;
     }
 
     public ArrayList<String> getReminderPeriodsString() {
         ArrayList<String> periods = new ArrayList<>();
 
-        ArrayList<Integer> dayRepeatPeriod = reminderPeriods.get(REMINDER_DAY);
-        ArrayList<Integer> weekRepeatPeriod = reminderPeriods.get(REMINDER_WEEK);
-        if (dayRepeatPeriod != null) {
-            dayRepeatPeriod.sort(Integer::compareTo);
-            for (Integer unit: dayRepeatPeriod) {
-                periods.add(unit + "-day");
-            }
+        // The set bits are read from the lowest up, so the periods come out sorted without sorting the lists
+        long dayRepeatPeriods = getPeriodBits(reminderPeriods.get(REMINDER_DAY));
+        long weekRepeatPeriods = getPeriodBits(reminderPeriods.get(REMINDER_WEEK));
+        for (long bits = dayRepeatPeriods; bits != 0; bits &= bits - 1) {
+            periods.add(Long.numberOfTrailingZeros(bits) + "-day");
         }
-
-        if (weekRepeatPeriod != null) {
-            weekRepeatPeriod.sort(Integer::compareTo);
-            for (Integer unit : weekRepeatPeriod) {
-                periods.add(unit + "-week");
-            }
+        for (long bits = weekRepeatPeriods; bits != 0; bits &= bits - 1) {
+            periods.add(Long.numberOfTrailingZeros(bits) + "-week");
         }
         return periods;
     }
 
+    //@@author Chongjx
+    /**
+     * Gets the number of days before the event that reminders go off on, as a bitset with bit n set if there is a
+     * reminder n days before the event. Reminders are at most a week before the event, so they fit in the bitset.
+     *
+     * @return Bitset of the reminder offsets in days. 0 if the event is not to be reminded of.
+     */
+    public long getReminderOffsets() {
+        if (!getIsToRemind()) {
+            return 0;
+        }
+        long offsets = getPeriodBits(reminderPeriods.get(REMINDER_DAY));
+        for (long bits = getPeriodBits(reminderPeriods.get(REMINDER_WEEK)); bits != 0; bits &= bits - 1) {
+            int days = Long.numberOfTrailingZeros(bits) * DAYS_PER_WEEK;
+            assert days < Long.SIZE : "Reminders are at most a week before the event";
+            offsets |= 1L << days;
+        }
+        return offsets;
+    }
+
+    private static long getPeriodBits(ArrayList<Integer> periods) {
+        long bits = 0;
+        if (periods == null) {
+            return bits;
+        }
+        for (int i = 0; i < periods.size(); i++) {
+            int period = periods.get(i);
+            assert period > 0 && period < Long.SIZE : "Reminder periods are validated by the parser";
+            bits |= 1L << period;
+        }
+        return bits;
+    }
+
+    //@@author brandonywl
+
     /**
      * Checks if the start and end date are the same date.
      *
@@ -222,46 +261,34 @@ public class Event extends TaggableObject implements Comparable<Event> {
 
     public ArrayList<LocalDate> getReminderDates() {
         ArrayList<LocalDate> dates = new ArrayList<>();
-        if (!isToRemind) {
+        long offsets = getReminderOffsets();
+        if (offsets == 0) {
             return dates;
         }
-        for (String unit : reminderPeriods.keySet()) {
-            ArrayList<Integer> timePeriodsInUnit = reminderPeriods.get(unit);
-            LocalDate date = this.startDateTime.toLocalDate();
-            for (Integer timePeriod : timePeriodsInUnit) {
-                switch (unit) {
-                case REMINDER_DAY:
-                    date = this.startDateTime.toLocalDate().plusDays(-timePeriod);
-                    break;
-                case REMINDER_WEEK:
-                    date = this.startDateTime.toLocalDate().plusWeeks(-timePeriod);
-                    break;
-                default:
-                    break;
-                }
-                dates.add(date);
-            }
+        LocalDate startDate = getStartDate();
+        // Furthest offset first, so that the dates are in ascending order
+        for (long bits = offsets; bits != 0; bits &= ~Long.highestOneBit(bits)) {
+            dates.add(startDate.minusDays(Long.SIZE - 1 - Long.numberOfLeadingZeros(bits)));
         }
-        dates.sort(LocalDate::compareTo);
         return dates;
     }
 
     public boolean occursDuringEvent(Event event) {
-        if (startDateTime.equals(endDateTime)
-                && (startDateTime.equals(event.startDateTime) || startDateTime.equals(event.endDateTime))) {
+        if (startMinute == endMinute
+                && (startMinute == event.startMinute || startMinute == event.endMinute)) {
             return true;
         }
-        if (checkClash(event.startDateTime, event.endDateTime, startDateTime)) {
-            return !startDateTime.equals(event.endDateTime);
+        if (checkClash(event.startMinute, event.endMinute, startMinute)) {
+            return startMinute != event.endMinute;
         }
-        if (checkClash(startDateTime, endDateTime, event.startDateTime)) {
-            return !event.startDateTime.equals(endDateTime);
+        if (checkClash(startMinute, endMinute, event.startMinute)) {
+            return event.startMinute != endMinute;
         }
         return false;
     }
 
-    private boolean checkClash(LocalDateTime startDateTime, LocalDateTime endDateTime, LocalDateTime timeToCheck) {
-        return (timeToCheck.compareTo(startDateTime) >= 0 && timeToCheck.compareTo(endDateTime) <= 0);
+    private boolean checkClash(long startMinute, long endMinute, long minuteToCheck) {
+        return (minuteToCheck >= startMinute && minuteToCheck <= endMinute);
     }
 
     /**
@@ -270,6 +297,7 @@ public class Event extends TaggableObject implements Comparable<Event> {
      * @return Reduced String representation of an Event.
      */
     public String toReminderString() {
+        LocalDateTime startDateTime = getStartDateTime();
         String titleString = "Event: " + title;
         String dateString = "Date: " + startDateTime.toLocalDate().toString()
                 + "\tTime: " + startDateTime.toLocalTime().toString();
@@ -278,11 +306,12 @@ public class Event extends TaggableObject implements Comparable<Event> {
 
     @Override
     public String toString() {
+        LocalDateTime startDateTime = getStartDateTime();
         String titleString = "Event: " + title;
         String dateString = "Date: " + startDateTime.toLocalDate().toString()
                 + "\tTime: " + startDateTime.toLocalTime().toString();
-        String remindString = "Reminder: " + isToRemind;
-        String repeatingString = "Repeating: " + isRecurring;
+        String remindString = "Reminder: " + getIsToRemind();
+        String repeatingString = "Repeating: " + getRecurring();
         String lineSeparator = Formatter.LS;
         return titleString + lineSeparator + dateString + lineSeparator + remindString
                 + lineSeparator + repeatingString;
@@ -290,7 +319,7 @@ public class Event extends TaggableObject implements Comparable<Event> {
 
     @Override
     public int compareTo(Event o) {
-        return startDateTime.compareTo(o.startDateTime);
+        return Long.compare(startMinute, o.startMinute);
     }
 
     @Override
@@ -301,4 +330,43 @@ public class Event extends TaggableObject implements Comparable<Event> {
         }
         return false;
     }
+
+    //@@author Chongjx
+    /**
+     * Returns the start of the event in minutes since the epoch. Cheaper to compare than the start date time, which
+     * is made on every call.
+     *
+     * @return Start of the event in epoch minutes.
+     */
+    public long getStartMinute() {
+        return startMinute;
+    }
+
+    public long getEndMinute() {
+        return endMinute;
+    }
+
+    private void setFlag(byte flag, boolean isSet) {
+        if (isSet) {
+            flags |= flag;
+        } else {
+            flags &= ~flag;
+        }
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_MINUTE;
+    }
+
+    private static LocalDateTime toDateTime(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    void setId(int id) {
+        this.id = id;
+    }
 }
@@ -0,0 +1,29 @@
+package seedu.notus.data.timetable;
+
+//@@author Chongjx
+/**
+ * Represents two occurrences of events whose timings overlap.
+ */
+public class EventClash {
+    private final Event firstEvent;
+    private final Event secondEvent;
+
+    /**
+     * Creates a clash between two events.
+     *
+     * @param firstEvent Event that starts first.
+     * @param secondEvent Event that starts at the same time or after the first event.
+     */
+    public EventClash(Event firstEvent, Event secondEvent) {
+        this.firstEvent = firstEvent;
+        this.secondEvent = secondEvent;
+    }
+
+    public Event getFirstEvent() {
+        return firstEvent;
+    }
+
+    public Event getSecondEvent() {
+        return secondEvent;
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.notus.data.timetable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+//@@author Chongjx
+/**
+ * Finds the free slots in a timetable. Every occurrence of the events in the time period is turned into a busy
+ * interval of minutes packed into a long, so that the intervals can be sorted as primitives and merged in one pass,
+ * even for periods of many years with many recurring events.
+ *
+ * <p>As events start and end on the same day, free slots do not run past the end of a day.</p>
+ */
+public class FreeSlotFinder {
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    /** Last minute of a day that a free slot can end at, the same as the latest end of an event. */
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59);
+    private static final int END_OF_DAY_MINUTE = END_OF_DAY.toSecondOfDay() / 60;
+    /** Bits holding the length of a busy interval, which is never longer than a day. */
+    private static final int LENGTH_BITS = 11;
+    private static final long LENGTH_MASK = (1L << LENGTH_BITS) - 1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Timetable timetable;
+
+    private long[] busyIntervals;
+    private int busyCount;
+
+    public FreeSlotFinder(Timetable timetable) {
+        this.timetable = timetable;
+    }
+
+    /**
+     * Finds the earliest free slots that are at least as long as the duration in a time period.
+     *
+     * @param startDate Start date of the time period (inclusive).
+     * @param endDate End date of the time period (inclusive).
+     * @param minutes Shortest length of a free slot.
+     * @param maxSlots Most free slots to find.
+     * @return Free slots in ascending order.
+     */
+    public ArrayList<TimeSlot> findFreeSlots(LocalDate startDate, LocalDate endDate, int minutes, int maxSlots) {
+        assert minutes > 0 && minutes < MINUTES_PER_DAY : "Free slots are shorter than a day";
+        collectBusyIntervals(startDate, endDate);
+        Arrays.sort(busyIntervals, 0, busyCount);
+
+        ArrayList<TimeSlot> freeSlots = new ArrayList<>();
+        long freeStart = 0;
+        for (int i = 0; i < busyCount && freeSlots.size() < maxSlots; i++) {
+            long busyStart = busyIntervals[i] >>> LENGTH_BITS;
+            long busyEnd = busyStart + (busyIntervals[i] & LENGTH_MASK);
+            if (busyStart - freeStart >= minutes) {
+                freeSlots.add(new TimeSlot(toDateTime(startDate, freeStart), toDateTime(startDate, busyStart)));
+            }
+            freeStart = Math.max(freeStart, busyEnd);
+        }
+        busyIntervals = null;
+        return freeSlots;
+    }
+
+    /**
+     * Collects the busy intervals of every occurrence of the stored events in the time period. The last minute of
+     * every day is also busy, so that no free slot runs into the next day.
+     *
+     * @param startDate Start date of the time period (inclusive).
+     * @param endDate End date of the time period (inclusive).
+     */
+    private void collectBusyIntervals(LocalDate startDate, LocalDate endDate) {
+        busyIntervals = new long[INITIAL_CAPACITY];
+        busyCount = 0;
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        for (long day = 0; day < days; day++) {
+            addBusyInterval(day * MINUTES_PER_DAY + END_OF_DAY_MINUTE, MINUTES_PER_DAY - END_OF_DAY_MINUTE);
+        }
+
+        for (Event event : timetable.getEvents()) {
+            if (event instanceof RecurringEvent) {
+                for (LocalDate date : ((RecurringEvent) event).getOccurrenceDates(startDate, endDate)) {
+                    addOccurrence(startDate, date, event);
+                }
+            } else if (!event.getStartDate().isBefore(startDate) && !event.getStartDate().isAfter(endDate)) {
+                addOccurrence(startDate, event.getStartDate(), event);
+            }
+        }
+    }
+
+    private void addOccurrence(LocalDate startDate, LocalDate date, Event event) {
+        int startMinute = Math.floorMod(event.getStartMinute(), MINUTES_PER_DAY);
+        int endMinute = Math.min(Math.floorMod(event.getEndMinute(), MINUTES_PER_DAY), END_OF_DAY_MINUTE);
+        long dayStart = ChronoUnit.DAYS.between(startDate, date) * MINUTES_PER_DAY;
+        addBusyInterval(dayStart + startMinute, Math.max(0, endMinute - startMinute));
+    }
+
+    private void addBusyInterval(long startMinute, int length) {
+        if (busyCount == busyIntervals.length) {
+            busyIntervals = Arrays.copyOf(busyIntervals, busyCount * 2);
+        }
+        busyIntervals[busyCount] = (startMinute << LENGTH_BITS) | length;
+        busyCount++;
+    }
+
+    private static LocalDateTime toDateTime(LocalDate startDate, long minute) {
+        return startDate.atStartOfDay().plusMinutes(minute);
+    }
+}
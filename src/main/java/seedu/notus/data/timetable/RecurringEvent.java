@@ -2,17 +2,22 @@ package seedu.notus.data.timetable;
 
 import seedu.notus.data.tag.Tag;
 import seedu.notus.ui.Formatter;
+import seedu.notus.util.metrics.FlightEvents;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 //@@author brandonywl
 public abstract class RecurringEvent extends Event {
     private LocalDate endRecurrenceDate;
-    private LocalTime endRecurrenceTime;
     private String recurrenceType;
 
     public static final LocalDate DEFAULT_END_RECURRENCE = LocalDate.of(3000, 12, 31);
@@ -23,6 +28,20 @@ public abstract class RecurringEvent extends Event {
     public static final String MONTHLY_RECURRENCE_TYPE = "monthly";
     public static final String YEARLY_RECURRENCE_TYPE = "yearly";
 
+    /** Most time periods whose occurrence dates are kept, enough for every month of a year and a few more. */
+    private static final int CACHED_PERIODS = 16;
+    /** Longest time period whose occurrence dates are kept, the longest month. Longer periods are found each time. */
+    private static final long MAX_CACHED_PERIOD_DAYS = 31;
+    private static final int EPOCH_DAY_BITS = 32;
+    private static final long EPOCH_DAY_MASK = (1L << EPOCH_DAY_BITS) - 1;
+
+    /**
+     * Occurrence dates of the recently queried time periods, keyed by the start and end date of the period, with the
+     * least recently queried period dropped first. Only made on the first query, as most events are never expanded,
+     * and dropped when the dates the event occurs on change.
+     */
+    private Map<Long, List<LocalDate>> occurrenceCache;
+
     /**
      * Constructor to create a recurring event. Default endRecurrenceDate is forever unless specified.
      *
@@ -43,7 +62,6 @@ public abstract class RecurringEvent extends Event {
             endRecurrenceDate = DEFAULT_END_RECURRENCE;
         }
         this.endRecurrenceDate = endRecurrenceDate;
-        this.endRecurrenceTime = DEFAULT_END_RECURRENCE_TIME;
         this.recurrenceType = recurrenceType;
     }
 
@@ -74,13 +92,28 @@ public abstract class RecurringEvent extends Event {
     }
 
     public String getEndRecurrenceDateTime() {
-        return endRecurrenceDate.toString() + " " + endRecurrenceTime.toString();
+        return endRecurrenceDate.toString() + " " + DEFAULT_END_RECURRENCE_TIME.toString();
     }
 
     public void setEndRecurrenceDate(LocalDate endRecurrenceDate) {
         this.endRecurrenceDate = endRecurrenceDate;
+        occurrenceCache = null;
     }
 
+    //@@author Chongjx
+    /**
+     * Sets the start date time. The cached occurrence dates are cleared, as the event may now occur on other dates.
+     *
+     * @param dateTime New start date time.
+     */
+    @Override
+    public void setStartDateTime(LocalDateTime dateTime) {
+        super.setStartDateTime(dateTime);
+        occurrenceCache = null;
+    }
+
+    //@@author brandonywl
+
     /**
      * Checks if the event should still re-occur at a specified date.
      *
@@ -100,24 +133,119 @@ public abstract class RecurringEvent extends Event {
      * @return ArrayList of this event at different dates at a specified interval within the time period.
      */
     public ArrayList<Event> getRecurrences(LocalDate startDate, LocalDate endDate) {
+        FlightEvents.ExpandRecurrences flightEvent = new FlightEvents.ExpandRecurrences();
+        flightEvent.begin();
+        boolean isCached = occurrenceCache != null && occurrenceCache.containsKey(getPeriodKey(startDate, endDate));
         ArrayList<Event> eventSet = new ArrayList<>();
-        while (startDate.compareTo(endDate) <= 0) {
-            if (checkAfterEndRecurrence(startDate)) {
-                return eventSet;
-            }
-            if (toReoccur(startDate)) {
-                LocalDateTime dateTime = LocalDateTime.of(startDate, getStartTime());
-                LocalDateTime endDateTime = dateTime.withHour(getEndTime().getHour());
-                endDateTime = endDateTime.withMinute(getEndTime().getMinute());
-                Event event = new Event(getTitle(), dateTime, endDateTime,
-                        getIsToRemind(), false, getReminderPeriods());
-                eventSet.add(event);
-            }
-            startDate = startDate.plusDays(1);
+        for (LocalDate date : getOccurrenceDates(startDate, endDate)) {
+            eventSet.add(getOccurrence(date));
+        }
+
+        flightEvent.end();
+        if (flightEvent.shouldCommit()) {
+            flightEvent.title = getTitle();
+            flightEvent.days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+            flightEvent.occurrences = eventSet.size();
+            flightEvent.isCached = isCached;
+            flightEvent.commit();
         }
         return eventSet;
     }
 
+    /**
+     * Creates a non-recurring event of this event occurring on a date. The occurrence shares the reminder periods
+     * of this event.
+     *
+     * @param date Date of the occurrence.
+     * @return Event of the occurrence.
+     */
+    Event getOccurrence(LocalDate date) {
+        LocalDateTime dateTime = LocalDateTime.of(date, getStartTime());
+        LocalDateTime endDateTime = dateTime.withHour(getEndTime().getHour());
+        endDateTime = endDateTime.withMinute(getEndTime().getMinute());
+        return new Event(getTitle(), dateTime, endDateTime, getIsToRemind(), false, getReminderPeriods());
+    }
+
+    //@@author Chongjx
+    /**
+     * Gets the dates that the event occurs on between the start and end date (inclusive). The dates of a recently
+     * queried time period of up to a month are reused until the start or end recurrence date of the event changes.
+     *
+     * @param startDate Start date of the time period to check (inclusive)
+     * @param endDate End date of the time period to check (inclusive)
+     * @return Unmodifiable dates of the occurrences in ascending order.
+     */
+    public List<LocalDate> getOccurrenceDates(LocalDate startDate, LocalDate endDate) {
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_CACHED_PERIOD_DAYS) {
+            return Collections.unmodifiableList(findOccurrenceDates(startDate, endDate));
+        }
+        if (occurrenceCache == null) {
+            occurrenceCache = new LinkedHashMap<>(CACHED_PERIODS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, List<LocalDate>> eldest) {
+                    return size() > CACHED_PERIODS;
+                }
+            };
+        }
+        return occurrenceCache.computeIfAbsent(getPeriodKey(startDate, endDate),
+                key -> Collections.unmodifiableList(findOccurrenceDates(startDate, endDate)));
+    }
+
+    private static long getPeriodKey(LocalDate startDate, LocalDate endDate) {
+        return (startDate.toEpochDay() << EPOCH_DAY_BITS) | (endDate.toEpochDay() & EPOCH_DAY_MASK);
+    }
+
+    /**
+     * Finds the dates that the event occurs on between the start and end date (inclusive). Steps from one occurrence
+     * to the next instead of checking every day in the time period.
+     *
+     * @param startDate Start date of the time period to check (inclusive)
+     * @param endDate End date of the time period to check (inclusive)
+     * @return Dates of the occurrences in ascending order.
+     */
+    private ArrayList<LocalDate> findOccurrenceDates(LocalDate startDate, LocalDate endDate) {
+        ArrayList<LocalDate> dates = new ArrayList<>();
+        LocalDate lastDate = checkAfterEndRecurrence(endDate) ? endRecurrenceDate : endDate;
+        LocalDate eventDate = getStartDate();
+        int steps = getStepsUntil(startDate);
+        LocalDate date = timeStep(eventDate, steps);
+        while (date.compareTo(lastDate) <= 0) {
+            dates.add(date);
+            steps++;
+            date = timeStep(eventDate, steps);
+        }
+        return dates;
+    }
+
+    /**
+     * Gets the fewest time steps from the start of the event to an occurrence that is not before the date. As time
+     * steps only move forward, the number of steps is found by doubling and then halving it.
+     *
+     * @param date Date to reach.
+     * @return Number of time steps.
+     */
+    private int getStepsUntil(LocalDate date) {
+        LocalDate eventDate = getStartDate();
+        if (!eventDate.isBefore(date)) {
+            return 0;
+        }
+        int highSteps = 1;
+        while (timeStep(eventDate, highSteps).isBefore(date)) {
+            highSteps *= 2;
+        }
+        int lowSteps = highSteps / 2;
+        while (lowSteps + 1 < highSteps) {
+            int steps = (lowSteps + highSteps) / 2;
+            if (timeStep(eventDate, steps).isBefore(date)) {
+                lowSteps = steps;
+            } else {
+                highSteps = steps;
+            }
+        }
+        return highSteps;
+    }
+
+    //@@author brandonywl
     /**
      * Check if the event is to reoccur on a specific date.
      *
@@ -0,0 +1,30 @@
+package seedu.notus.data.timetable;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+//@@author Chongjx
+/**
+ * Represents a period of time between a start and end date time.
+ */
+public class TimeSlot {
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endDateTime;
+
+    public TimeSlot(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+    }
+
+    public LocalDateTime getStartDateTime() {
+        return startDateTime;
+    }
+
+    public LocalDateTime getEndDateTime() {
+        return endDateTime;
+    }
+
+    public long getLengthInMinutes() {
+        return ChronoUnit.MINUTES.between(startDateTime, endDateTime);
+    }
+}
@@ -3,7 +3,9 @@ package seedu.notus.data.timetable;
 import java.time.LocalDate;
 import java.time.Month;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.PriorityQueue;
 
@@ -12,6 +14,10 @@ import java.util.PriorityQueue;
  * Represents a TimeTable object. Contains all the events.
  */
 public class Timetable {
+    private static final int INITIAL_ID_CAPACITY = 16;
+    /** Orders event occurrences by their start, then their end, then their title. */
+    private static final Comparator<Event> OCCURRENCE_ORDER = Comparator.comparingLong(Event::getStartMinute)
+            .thenComparingLong(Event::getEndMinute).thenComparing(Event::getTitle);
 
     private ArrayList<Event> events;
     private ArrayList<Event> nonRecurringEvents;
@@ -19,6 +25,14 @@ public class Timetable {
     private ArrayList<WeeklyEvent> weeklyEvents;
     private ArrayList<MonthlyEvent> monthlyEvents;
     private ArrayList<YearlyEvent> yearlyEvents;
+    private long generation = 0;
+
+    /** Position of every stored event in the list of its recurrence type, indexed by the id of the event. */
+    private int[] slots = new int[INITIAL_ID_CAPACITY];
+    /** Ids of deleted events, given to the next events added so that the ids stay small. */
+    private int[] freeIds = new int[INITIAL_ID_CAPACITY];
+    private int freeIdCount = 0;
+    private int nextId = 0;
 
     /**
      * Creates a new list of events.
@@ -59,8 +73,30 @@ public class Timetable {
 
     public void setEvents(ArrayList<Event> events) {
         this.events = events;
+        markModified();
+    }
+
+    //@@author Chongjx
+    /**
+     * Replaces all the events in the timetable. Used to revert the timetable to an earlier state.
+     *
+     * @param events Events to be stored.
+     */
+    public void restoreEvents(ArrayList<Event> events) {
+        this.events = new ArrayList<>();
+        nonRecurringEvents = new ArrayList<>();
+        dailyEvents = new ArrayList<>();
+        weeklyEvents = new ArrayList<>();
+        monthlyEvents = new ArrayList<>();
+        yearlyEvents = new ArrayList<>();
+        freeIdCount = 0;
+        nextId = 0;
+        for (Event event : events) {
+            addEvent(event);
+        }
     }
 
+    //@@author brandonywl
     /**
      * Method to allow a new event to be set at a specific index.
      *
@@ -68,8 +104,10 @@ public class Timetable {
      * @param event Event to set.
      */
     public void setEvent(int index, Event event) {
-        deleteEvent(index);
-        addEvent(index, event);
+        Event oldEvent = events.set(index, event);
+        unlistEvent(oldEvent);
+        listEvent(event);
+        markModified();
     }
 
     /**
@@ -89,42 +127,106 @@ public class Timetable {
      */
     public void addEvent(int index, Event event) {
         events.add(index, event);
+        listEvent(event);
+        markModified();
+    }
+
+    /**
+     * Removes an event from the timetable.
+     *
+     * @param index Index to be removed.
+     */
+    public void deleteEvent(int index) {
+        Event event = events.remove(index);
+        unlistEvent(event);
+        markModified();
+    }
+
+    //@@author Chongjx
+    /**
+     * Gives the event an id and adds it to the end of the list of its recurrence type.
+     *
+     * @param event Event to be listed.
+     */
+    private void listEvent(Event event) {
+        event.setId(allocateId());
         if (!event.getRecurring()) {
-            nonRecurringEvents.add(event);
+            listEvent(nonRecurringEvents, event);
         } else {
             if (event instanceof DailyEvent) {
-                dailyEvents.add((DailyEvent) event);
+                listEvent(dailyEvents, (DailyEvent) event);
             } else if (event instanceof WeeklyEvent) {
-                weeklyEvents.add((WeeklyEvent) event);
+                listEvent(weeklyEvents, (WeeklyEvent) event);
             } else if (event instanceof MonthlyEvent) {
-                monthlyEvents.add((MonthlyEvent) event);
+                listEvent(monthlyEvents, (MonthlyEvent) event);
             } else if (event instanceof YearlyEvent) {
-                yearlyEvents.add((YearlyEvent) event);
+                listEvent(yearlyEvents, (YearlyEvent) event);
             }
         }
     }
 
+    private <T extends Event> void listEvent(ArrayList<T> typeEvents, T event) {
+        slots[event.getId()] = typeEvents.size();
+        typeEvents.add(event);
+    }
+
     /**
-     * Removes an event from the timetable.
+     * Removes the event from the list of its recurrence type and frees its id. The slot of the event is looked up by
+     * its id instead of searching the list, and is filled by the last event of the list, so the removal takes
+     * constant time and never removes another event that is equal to it.
      *
-     * @param index Index to be removed.
+     * @param event Event to be unlisted.
      */
-    public void deleteEvent(int index) {
-        Event event = events.get(index);
-        events.remove(index);
+    private void unlistEvent(Event event) {
         if (event instanceof DailyEvent) {
-            dailyEvents.remove(event);
+            unlistEvent(dailyEvents, event);
         } else if (event instanceof WeeklyEvent) {
-            weeklyEvents.remove(event);
+            unlistEvent(weeklyEvents, event);
         } else if (event instanceof MonthlyEvent) {
-            monthlyEvents.remove(event);
+            unlistEvent(monthlyEvents, event);
         } else if (event instanceof YearlyEvent) {
-            yearlyEvents.remove(event);
+            unlistEvent(yearlyEvents, event);
         } else {
-            nonRecurringEvents.remove(event);
+            unlistEvent(nonRecurringEvents, event);
+        }
+        freeId(event.getId());
+        event.setId(Event.UNASSIGNED_ID);
+    }
+
+    private <T extends Event> void unlistEvent(ArrayList<T> typeEvents, Event event) {
+        int slot = slots[event.getId()];
+        if (slot >= typeEvents.size() || typeEvents.get(slot) != event) {
+            // The event was not listed, such as a recurring event of an unknown type
+            return;
         }
+        T lastEvent = typeEvents.remove(typeEvents.size() - 1);
+        if (lastEvent != event) {
+            typeEvents.set(slot, lastEvent);
+            slots[lastEvent.getId()] = slot;
+        }
+    }
+
+    private int allocateId() {
+        if (freeIdCount > 0) {
+            freeIdCount--;
+            return freeIds[freeIdCount];
+        }
+        if (nextId == slots.length) {
+            slots = Arrays.copyOf(slots, slots.length * 2);
+        }
+        return nextId++;
     }
 
+    private void freeId(int id) {
+        if (freeIdCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeIds.length * 2);
+        }
+        freeIds[freeIdCount] = id;
+        freeIdCount++;
+    }
+
+    //@@author brandonywl
+
     /**
      * Gets the timetable for a specified year. Includes multiple recurrent events.
      *
@@ -203,25 +305,44 @@ public class Timetable {
      * @return ArrayList of all events. Re-occurring events are initialized as a new event.
      */
     public ArrayList<Event> getAllEvents(LocalDate startDate, LocalDate endDate) {
+        return getAllEvents(startDate, endDate, null);
+    }
+
+    //@@author Chongjx
+    /**
+     * Gets all events, including re-occurring events, in a specified period except those of one stored event.
+     *
+     * @param startDate Start of time period. Inclusive of date.
+     * @param endDate End of time period. Inclusive of date.
+     * @param excludedEvent Stored event to leave out. Null if no event is left out.
+     * @return ArrayList of all events. Re-occurring events are initialized as a new event.
+     */
+    private ArrayList<Event> getAllEvents(LocalDate startDate, LocalDate endDate, Event excludedEvent) {
         ArrayList<Event> eventSet = new ArrayList<>();
-        eventSet.addAll(getNonRecurringEvents(startDate, endDate, nonRecurringEvents));
-        eventSet.addAll(getAllRecurringEvents(startDate, endDate,
+        eventSet.addAll(getNonRecurringEvents(startDate, endDate, nonRecurringEvents, excludedEvent));
+        eventSet.addAll(getAllRecurringEvents(startDate, endDate, excludedEvent,
                 dailyEvents, weeklyEvents, monthlyEvents, yearlyEvents));
         return eventSet;
     }
 
+    //@@author brandonywl
+
     /**
      * Given a set of events, check if they will occur during a time period specified by the start and end period.
      *
      * @param startDate Start date of period to check whether the event will occur. Inclusive of the date.
      * @param endDate End date to check whether the event will occur. Inclusive of the date.
      * @param nonRecurringSet Set of non-recurring events.
+     * @param excludedEvent Event to leave out. Null if no event is left out.
      * @return ArrayList of Events that occur between the specified time period.
      */
     private ArrayList<Event> getNonRecurringEvents(LocalDate startDate, LocalDate endDate,
-                                                   ArrayList<Event> nonRecurringSet) {
+                                                   ArrayList<Event> nonRecurringSet, Event excludedEvent) {
         ArrayList<Event> eventSet = new ArrayList<>();
         for (Event event : nonRecurringSet) {
+            if (event == excludedEvent) {
+                continue;
+            }
             LocalDate eventDate = event.getStartDate();
             if (eventDate.compareTo(startDate) >= 0 && eventDate.compareTo(endDate) <= 0) {
                 eventSet.add(event);
@@ -235,13 +356,17 @@ public class Timetable {
      *
      * @param startDate Start date of the period to check for recurrence. Inclusive of the date.
      * @param endDate End date of the period to check for recurrence. Inclusive of the date.
+     * @param excludedEvent Event to leave out. Null if no event is left out.
      * @param events List of events that are recurrent.
      * @return An ArrayList of Events of all events that will occur between the two specified time periods.
      */
-    private ArrayList<Event> getRecurringEvents(LocalDate startDate, LocalDate endDate,
+    private ArrayList<Event> getRecurringEvents(LocalDate startDate, LocalDate endDate, Event excludedEvent,
                                                   ArrayList<? extends RecurringEvent> events) {
         ArrayList<Event> eventList = new ArrayList<>();
         for (RecurringEvent event : events) {
+            if (event == excludedEvent) {
+                continue;
+            }
             eventList.addAll(event.getRecurrences(startDate, endDate));
         }
         return eventList;
@@ -253,63 +378,78 @@ public class Timetable {
      *
      * @param startDate Start of the time period. Inclusive.
      * @param endDate End of the time period. Inclusive.
+     * @param excludedEvent Event to leave out. Null if no event is left out.
      * @param eventsSet ArrayList of Events that should extend from RecurringEvent.
      * @return ArrayList of Events that will occur during the time period. If recurring events are set, they will be
      *      in the arraylist as a Event, not as an extension of RecurringEvent.
      */
     @SafeVarargs
-    private ArrayList<Event> getAllRecurringEvents(LocalDate startDate, LocalDate endDate,
+    private ArrayList<Event> getAllRecurringEvents(LocalDate startDate, LocalDate endDate, Event excludedEvent,
                                                   ArrayList<? extends RecurringEvent>... eventsSet) {
         ArrayList<Event> eventList = new ArrayList<>();
         for (ArrayList<? extends RecurringEvent> events : eventsSet) {
-            eventList.addAll(getRecurringEvents(startDate, endDate, events));
+            eventList.addAll(getRecurringEvents(startDate, endDate, excludedEvent, events));
         }
         return eventList;
     }
 
+    //@@author Chongjx
     /**
-     * Returns a PriorityQueue of Reminders from a set of events. PriorityQueue is sorted by their dates.
+     * A method that gets all reminders that should go off today. Every stored event is only checked on the dates
+     * that are as many days away as one of its reminders, so no other occurrences of recurring events are made.
      *
-     * @param setOfEvents Set of Events to search from.
-     * @return PriorityQueue of Reminder from all provided events.
+     * @return An ArrayList that contains all the reminders to go off today, ordered by the events they are for.
      */
-    private PriorityQueue<Reminder> getEventSetReminder(ArrayList<Event> setOfEvents) {
-        PriorityQueue<Reminder> reminders = new PriorityQueue<>(Reminder::compareTo);
-        for (Event event : setOfEvents) {
-            for (LocalDate reminderDate : event.getReminderDates()) {
-                reminders.add(new Reminder(event, reminderDate));
+    public ArrayList<Reminder> getReminders() {
+        LocalDate today = LocalDate.now();
+        ArrayList<Event> remindedEvents = new ArrayList<>();
+        for (Event event : nonRecurringEvents) {
+            long days = event.getStartDate().toEpochDay() - today.toEpochDay();
+            if (days > 0 && days < Long.SIZE && (event.getReminderOffsets() & (1L << days)) != 0) {
+                remindedEvents.add(event);
             }
         }
-        return reminders;
-    }
+        addRemindedOccurrences(today, remindedEvents, dailyEvents, weeklyEvents, monthlyEvents, yearlyEvents);
 
+        remindedEvents.sort(OCCURRENCE_ORDER);
+        ArrayList<Reminder> todayReminders = new ArrayList<>();
+        for (Event event : remindedEvents) {
+            todayReminders.add(new Reminder(event, today));
+        }
+        return todayReminders;
+    }
 
     /**
-     * A method that gets all reminders that should go off today. It takes in events for the next 1 month and gets all
-     * their reminders.
+     * Adds the occurrences of recurring events that are to be reminded of on a date.
      *
-     * @return An ArrayList that contains all the reminders to go off today.
+     * @param date Date of the reminders.
+     * @param remindedEvents List to add the occurrences to.
+     * @param eventsSet ArrayList of Events that should extend from RecurringEvent.
      */
-    public ArrayList<Reminder> getReminders() {
-        LocalDate today = LocalDate.now();
-        // As reminders are set to maximum 1 week earlier,
-        // we play it safe by looking for all 1 events in a one month time period.
-        LocalDate endDate = today.plusMonths(1);
-        ArrayList<Event> eventSet = getAllEvents(today, endDate);
-        ArrayList<Reminder> todayReminders = new ArrayList<>();
-        PriorityQueue<Reminder> reminders = getEventSetReminder(eventSet);
-        while (reminders.size() > 0 && reminders.peek().reminderDue(today)) {
-            Reminder reminder = reminders.poll();
-            assert reminder != null;
-            if (reminder.toRemind(today)) {
-                todayReminders.add(reminder);
+    @SafeVarargs
+    private void addRemindedOccurrences(LocalDate date, ArrayList<Event> remindedEvents,
+                                        ArrayList<? extends RecurringEvent>... eventsSet) {
+        for (ArrayList<? extends RecurringEvent> events : eventsSet) {
+            for (RecurringEvent event : events) {
+                long offsets = event.getReminderOffsets();
+                if (offsets == 0) {
+                    continue;
+                }
+                int furthestOffset = Long.SIZE - 1 - Long.numberOfLeadingZeros(offsets);
+                for (LocalDate occurrenceDate : event.getOccurrenceDates(date, date.plusDays(furthestOffset))) {
+                    long days = occurrenceDate.toEpochDay() - date.toEpochDay();
+                    if ((offsets & (1L << days)) != 0) {
+                        remindedEvents.add(event.getOccurrence(occurrenceDate));
+                    }
+                }
             }
         }
-        return todayReminders;
     }
 
+    //@@author brandonywl
     /**
      * Compares this event to all other events stored in the timetable and get all events that clashes.
+     * If the event is stored in the timetable, it is not compared to itself.
      *
      * @param event Event to be checked against the timetable
      * @return ArrayList of Events that clashes.
@@ -317,7 +457,7 @@ public class Timetable {
     public ArrayList<Event> getClashingEvents(Event event) {
         ArrayList<Event> clashedEvents = new ArrayList<>();
         LocalDate eventDate = event.getStartDate();
-        ArrayList<Event> eventsHappening = getAllEvents(eventDate, eventDate);
+        ArrayList<Event> eventsHappening = getAllEvents(eventDate, eventDate, event);
         for (Event storedEvent : eventsHappening) {
             if (event.occursDuringEvent(storedEvent)) {
                 clashedEvents.add(storedEvent);
@@ -325,4 +465,58 @@ public class Timetable {
         }
         return clashedEvents;
     }
+
+    //@@author Chongjx
+    /**
+     * Finds all the pairs of event occurrences that clash in a time period. The occurrences are sorted by their start
+     * and swept in that order, comparing each occurrence only to the occurrences that have not ended before it starts,
+     * instead of comparing every occurrence to every other.
+     *
+     * @param startDate Start of time period. Inclusive of date.
+     * @param endDate End of time period. Inclusive of date.
+     * @return Clashes ordered by the start of the later event of each clash.
+     */
+    public ArrayList<EventClash> getClashes(LocalDate startDate, LocalDate endDate) {
+        ArrayList<Event> occurrences = getAllEvents(startDate, endDate);
+        occurrences.sort(OCCURRENCE_ORDER);
+
+        ArrayList<EventClash> clashes = new ArrayList<>();
+        PriorityQueue<Event> ongoingEvents = new PriorityQueue<>(Comparator.comparingLong(Event::getEndMinute));
+        for (Event event : occurrences) {
+            long startMinute = event.getStartMinute();
+            // Events that end before this event starts cannot clash with it or any later event
+            while (!ongoingEvents.isEmpty() && ongoingEvents.peek().getEndMinute() < startMinute) {
+                ongoingEvents.poll();
+            }
+            ArrayList<Event> clashingEvents = new ArrayList<>();
+            for (Event ongoingEvent : ongoingEvents) {
+                if (ongoingEvent.occursDuringEvent(event)) {
+                    clashingEvents.add(ongoingEvent);
+                }
+            }
+            clashingEvents.sort(OCCURRENCE_ORDER);
+            for (Event clashingEvent : clashingEvents) {
+                clashes.add(new EventClash(clashingEvent, event));
+            }
+            ongoingEvents.add(event);
+        }
+        return clashes;
+    }
+
+    /**
+     * Returns the generation of the timetable. The generation changes whenever the events are modified, so output
+     * rendered from the timetable can be reused until the generation changes.
+     *
+     * @return Generation of the timetable.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Records that the events are modified. To be called after an event in the timetable is modified directly.
+     */
+    public void markModified() {
+        generation++;
+    }
 }
@@ -0,0 +1,56 @@
+package seedu.notus.storage;
+
+import seedu.notus.util.metrics.Metrics;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+//@@author Chongjx
+/**
+ * Represents an OutputStream that counts the bytes written to a file, and records them in the Metrics together with the
+ * time from opening to closing the file.
+ */
+class MeteredOutputStream extends FilterOutputStream {
+    private final String fileName;
+    private final long startNanos;
+    private long bytesWritten = 0;
+    private boolean isClosed = false;
+
+    /**
+     * Constructs a stream that writes to the output.
+     *
+     * @param out Stream of the opened file.
+     * @param fileName Type of the file the metrics are recorded under.
+     */
+    MeteredOutputStream(OutputStream out, String fileName) {
+        super(out);
+        this.fileName = fileName;
+        this.startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        bytesWritten++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        bytesWritten += len;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        try {
+            super.close();
+        } finally {
+            Metrics.recordSave(fileName, System.nanoTime() - startNanos, bytesWritten);
+        }
+    }
+}
@@ -16,20 +16,24 @@ import seedu.notus.data.timetable.RecurringEvent;
 import seedu.notus.data.timetable.Timetable;
 
 import seedu.notus.util.PrefixSyntax;
+import seedu.notus.util.metrics.FlightEvents;
 import seedu.notus.util.parser.ParserManager;
+import seedu.notus.util.logging.Log;
+import seedu.notus.util.logging.LogService;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Scanner;
-
-import java.util.logging.FileHandler;
-import java.util.logging.Level;
-import java.util.logging.LogManager;
-import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
+import java.util.Set;
 
 import static seedu.notus.ui.Formatter.LS;
 import static seedu.notus.util.PrefixSyntax.PREFIX_ARCHIVE;
@@ -44,7 +48,7 @@ import static seedu.notus.util.PrefixSyntax.PREFIX_TAG;
  */
 public class StorageManager {
     /** logging. */
-    private static final Logger LOGGER = Logger.getLogger("StorageManager");
+    private static final Log LOGGER = LogService.getLog("StorageManager");
 
     /** Default folders directory. */
     public static final String LOGS_DIR = "logs";
@@ -58,12 +62,26 @@ public class StorageManager {
     private static final String TAG_FILE_PATH = "/tags.txt";
     private static final String TIMETABLE_FILE_PATH = "/timetable.txt";
 
+    /** Names of the files the save metrics are recorded under. */
+    private static final String NOTEBOOK_FILE_NAME = "notebook";
+    private static final String ARCHIVED_NOTEBOOK_FILE_NAME = "archived_notebook";
+    private static final String NOTE_CONTENT_FILE_NAME = "note_content";
+    private static final String TIMETABLE_FILE_NAME = "timetable";
+
     /** Related classes. */
     private Timetable timetable;
     private ParserManager parserManager;
     private Notebook notebook;
     private TagManager tagManager;
 
+    /** Whether rewriting the notebook and timetable files is postponed until the deferred saves are committed. */
+    private boolean isSaveDeferred = false;
+    private boolean hasPendingSave = false;
+
+    /** Undo log of the transaction in progress. Null when there is no transaction. */
+    private UndoLog undoLog = null;
+    private boolean wasSaveDeferred = false;
+
     public StorageManager(Timetable timetable, ParserManager parserManager,
                     Notebook notebook, TagManager tagManager) {
         this.timetable = timetable;
@@ -71,8 +89,7 @@ public class StorageManager {
         this.notebook = notebook;
         this.tagManager = tagManager;
 
-        setupLogger();
-        LOGGER.log(Level.INFO, "New storageManager object created.");
+        LOGGER.info("New storageManager object created.");
     }
 
     /* Set up of Storage manager */
@@ -105,7 +122,7 @@ public class StorageManager {
             try {
                 createFile(file);
             } catch (IOException exception) {
-                LOGGER.log(Level.INFO, "Unable to create a file");
+                LOGGER.info("Unable to create a file");
                 throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_CREATION_ERROR);
             }
         }
@@ -119,7 +136,7 @@ public class StorageManager {
         if (!directory.exists()) {
             directory.mkdir();
             if (!path.equals(LOGS_DIR)) {
-                LOGGER.log(Level.INFO, "Created directory: " + directory);
+                LOGGER.info("Created directory: {0}", directory);
             }
         }
     }
@@ -133,7 +150,7 @@ public class StorageManager {
         File file = new File(path);
         if (!file.exists()) {
             file.createNewFile();
-            LOGGER.log(Level.INFO, "Created file: " + file);
+            LOGGER.info("Created file: {0}", file);
         }
     }
 
@@ -145,6 +162,8 @@ public class StorageManager {
      * @param isArchive  Boolean to determine whether to load archived or non-archived files.
      */
     public void loadAllNotes(boolean isArchive) throws SystemException {
+        FlightEvents.LoadNotes event = new FlightEvents.LoadNotes();
+        event.begin();
         String path;
         if (isArchive) {
             path = FOLDER_DIR + ARCHIVED_NOTEBOOK_FILE_PATH;
@@ -159,7 +178,8 @@ public class StorageManager {
         } catch (FileNotFoundException exception) {
             throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_NOT_FOUND_ERROR);
         }
-        LOGGER.log(Level.INFO, "Found file: " + path);
+        LOGGER.info("Found file: {0}", path);
+        int noteCount = 0;
         while (s.hasNext()) {
             String taskDetails = AddNoteCommand.COMMAND_WORD + " " +  s.nextLine()
                                 + " " + PREFIX_DELIMITER + PREFIX_ARCHIVE + " " + isArchive
@@ -167,8 +187,17 @@ public class StorageManager {
             Command command = parserManager.parseCommand(taskDetails);
             command.setData(notebook, timetable, tagManager, this);
             command.execute();
+            noteCount++;
         }
         s.close();
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.isArchive = isArchive;
+            event.notes = noteCount;
+            event.bytes = f.length();
+            event.commit();
+        }
     }
 
     /**
@@ -177,6 +206,8 @@ public class StorageManager {
      * @throws SystemException Thrown when there is no file to read from.
      */
     public void loadTimetable() throws SystemException {
+        FlightEvents.LoadTimetable event = new FlightEvents.LoadTimetable();
+        event.begin();
         String path = FOLDER_DIR + TIMETABLE_FILE_PATH;
         File f = new File(path);
 
@@ -186,16 +217,53 @@ public class StorageManager {
         } catch (FileNotFoundException exception) {
             throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_NOT_FOUND_ERROR);
         }
-        LOGGER.log(Level.INFO, "Found file: " + path);
-        while (s.hasNext()) {
-            String eventDetails = AddEventCommand.COMMAND_WORD + " " +  s.nextLine();
-            Command command = parserManager.parseCommand(eventDetails);
-            command.setData(notebook, timetable, tagManager, this);
-            command.execute();
+        LOGGER.info("Found file: {0}", path);
+        int eventCount = 0;
+        // The file is not rewritten after every loaded event, as it still holds the events that are not read yet
+        boolean wasDeferredBeforeLoad = isSaveDeferred;
+        boolean hadPendingSave = hasPendingSave;
+        isSaveDeferred = true;
+        try {
+            while (s.hasNext()) {
+                String eventDetails = AddEventCommand.COMMAND_WORD + " " +  s.nextLine();
+                Command command = parserManager.parseCommand(eventDetails);
+                if (command instanceof AddEventCommand) {
+                    ((AddEventCommand) command).setIsToCheckClashes(false);
+                }
+                command.setData(notebook, timetable, tagManager, this);
+                command.execute();
+                eventCount++;
+            }
+        } finally {
+            isSaveDeferred = wasDeferredBeforeLoad;
+            hasPendingSave = hadPendingSave;
+            s.close();
+        }
+        logUpcomingClashes();
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.events = eventCount;
+            event.bytes = f.length();
+            event.commit();
         }
-        s.close();
     }
 
+    //@@author Chongjx
+    /**
+     * Logs the number of clashes among the loaded events in the coming month. The clashes are found all at once,
+     * instead of checking each loaded event against all the events loaded before it.
+     */
+    private void logUpcomingClashes() {
+        if (!LOGGER.isInfoEnabled()) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        int clashCount = timetable.getClashes(today, today.plusMonths(1)).size();
+        LOGGER.info("Clashes among the loaded events in the coming month: {0}", clashCount);
+    }
+
+    //@@author prachi2023
     public ArrayList<String> getNoteContent(Note note, boolean isArchive) throws SystemException {
         ArrayList<String> content = new ArrayList<>();
         String path;
@@ -213,7 +281,7 @@ public class StorageManager {
         } catch (FileNotFoundException exception) {
             throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_NOT_FOUND_ERROR);
         }
-        LOGGER.log(Level.INFO, "Found file: " + path);
+        LOGGER.info("Found file: {0}", path);
         while (s.hasNext()) {
             content.add(s.nextLine());
         }
@@ -231,6 +299,11 @@ public class StorageManager {
      * @throws IOException thrown when unable to write to the file
      */
     public void saveAllNoteDetails(Boolean isArchive) throws IOException {
+        if (isSaveDeferred) {
+            hasPendingSave = true;
+            return;
+        }
+
         String path;
 
         ArrayList<Note> notes;
@@ -242,12 +315,10 @@ public class StorageManager {
             notes = notebook.getNotes();
             path = FOLDER_DIR + NOTEBOOK_FILE_PATH;
         }
-        FileWriter fw = new FileWriter(path, false);
-        fw.write("");
-        fw.close();
-
-        for (Note note: notes) {
-            saveNoteDetails(note, isArchive);
+        try (Writer writer = openWriter(path, false, getNotebookFileName(isArchive))) {
+            for (Note note: notes) {
+                note.writeSaveString(writer);
+            }
         }
     }
 
@@ -273,9 +344,9 @@ public class StorageManager {
         }
 
         createFile(path);
-        FileWriter fw = new FileWriter(path);
-        fw.write(note.getContentString());
-        fw.close();
+        try (Writer writer = openWriter(path, false, NOTE_CONTENT_FILE_NAME)) {
+            note.writeContent(writer);
+        }
     }
 
     /**
@@ -283,6 +354,11 @@ public class StorageManager {
      * @param note Note of which details are to be saved to the file
      */
     public void saveNoteDetails(Note note, boolean isArchive) throws IOException {
+        if (isSaveDeferred) {
+            hasPendingSave = true;
+            return;
+        }
+
         String path;
 
         if (isArchive) {
@@ -291,9 +367,9 @@ public class StorageManager {
             path = FOLDER_DIR + NOTEBOOK_FILE_PATH;
         }
 
-        FileWriter fwAppend = new FileWriter(path, true);
-        fwAppend.write(note.toSaveString());
-        fwAppend.close();
+        try (Writer writer = openWriter(path, true, getNotebookFileName(isArchive))) {
+            note.writeSaveString(writer);
+        }
     }
 
     public void deleteNoteContentFile(String noteTitle, boolean isArchive) throws SystemException {
@@ -308,12 +384,12 @@ public class StorageManager {
         File file = new File(path);
 
         if (file.exists()) {
-            LOGGER.log(Level.INFO, "Found file: " + path);
+            LOGGER.info("Found file: {0}", path);
             if (!file.delete()) {
                 throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_DELETION_ERROR);
             }
         } else {
-            LOGGER.log(Level.INFO, "Unable to find file: " + path);
+            LOGGER.info("Unable to find file: {0}", path);
             throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_NOT_FOUND_ERROR);
         }
     }
@@ -340,6 +416,60 @@ public class StorageManager {
         return true;
     }
 
+    //@@author Chongjx
+    /**
+     * Deletes the content files of the notes. Notes whose file could not be deleted are skipped.
+     *
+     * @param notes Notes whose content files are to be deleted.
+     * @param isArchive Whether the notes are archived.
+     * @return Notes whose content files were deleted.
+     */
+    public ArrayList<Note> deleteNoteContentFiles(ArrayList<Note> notes, boolean isArchive) {
+        ArrayList<Note> deletedNotes = new ArrayList<>();
+        for (Note note : notes) {
+            try {
+                deleteNoteContentFile(note.getTitle(), isArchive);
+                deletedNotes.add(note);
+            } catch (SystemException exception) {
+                LOGGER.info("Unable to delete the content file of: {0}", note.getTitle());
+            }
+        }
+        return deletedNotes;
+    }
+
+    /**
+     * Moves the content files of the notes into or out of the archived notes folder. The file of a note that could
+     * not be moved is left in its original folder, and the note is skipped.
+     *
+     * @param notes Notes whose content files are to be moved.
+     * @param isToArchive Whether the files are moved into the archived notes folder.
+     * @return Notes whose content files were moved.
+     */
+    public ArrayList<Note> moveNoteContentFiles(ArrayList<Note> notes, boolean isToArchive) {
+        ArrayList<Note> movedNotes = new ArrayList<>();
+        for (Note note : notes) {
+            if (!noteExists(note, !isToArchive)) {
+                LOGGER.info("Unable to find the content file of: {0}", note.getTitle());
+                continue;
+            }
+            try {
+                saveNoteContent(note, isToArchive);
+                deleteNoteContentFile(note.getTitle(), !isToArchive);
+                movedNotes.add(note);
+            } catch (IOException | SystemException exception) {
+                LOGGER.info("Unable to move the content file of: {0}", note.getTitle());
+                // Keeps the original file as the only copy
+                new File(getNoteContentPath(note.getTitle(), isToArchive)).delete();
+            }
+        }
+        return movedNotes;
+    }
+
+    private static String getNoteContentPath(String noteTitle, boolean isArchive) {
+        return FOLDER_DIR + (isArchive ? ARCHIVED_NOTES_DIR : NOTES_DIR) + "/" + noteTitle + ".txt";
+    }
+
+    //@@author prachi2023
     /* Timetable Saving and Loading */
 
     /**
@@ -347,24 +477,23 @@ public class StorageManager {
      *
      */
     public void saveTimetable() throws IOException {
-        String path = FOLDER_DIR + TIMETABLE_FILE_PATH;
+        if (isSaveDeferred) {
+            hasPendingSave = true;
+            return;
+        }
 
-        //clear file
-        FileWriter fwClear = new FileWriter(path, false);
-        fwClear.write("");
-        fwClear.close();
+        String path = FOLDER_DIR + TIMETABLE_FILE_PATH;
 
         //rewrite information to the file
-        FileWriter fwAppend = new FileWriter(path, true);
+        try (Writer writer = openWriter(path, false, TIMETABLE_FILE_NAME)) {
+            ArrayList<Event> allEvents = timetable.getEvents();
+            String eventDetails;
 
-        ArrayList<Event> allEvents = timetable.getEvents();
-        String eventDetails;
-
-        for (Event event: allEvents) {
-            eventDetails = getEventDetailsSaveFormat(event);
-            fwAppend.write(eventDetails);
+            for (Event event: allEvents) {
+                eventDetails = getEventDetailsSaveFormat(event);
+                writer.write(eventDetails);
+            }
         }
-        fwAppend.close();
     }
 
     private static String getEventDetailsSaveFormat(Event event) {
@@ -408,23 +537,171 @@ public class StorageManager {
      * @throws IOException if unable to save to the file.
      */
     public void saveAll() throws IOException {
+        FlightEvents.SaveAll event = new FlightEvents.SaveAll();
+        event.begin();
         saveTimetable();
         saveAllNoteDetails(false);
         saveAllNoteDetails(true);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.isDeferred = isSaveDeferred;
+            event.notes = notebook.getNotes().size() + notebook.getArchivedNotes().size();
+            event.events = timetable.getEvents().size();
+            event.bytes = new File(FOLDER_DIR + NOTEBOOK_FILE_PATH).length()
+                    + new File(FOLDER_DIR + ARCHIVED_NOTEBOOK_FILE_PATH).length()
+                    + new File(FOLDER_DIR + TIMETABLE_FILE_PATH).length();
+            event.commit();
+        }
+    }
+
+    /**
+     * Postpones the rewriting of the notebook and timetable files until commitDeferredSaves is called.
+     * Note content files are still written and deleted immediately.
+     */
+    public void deferSaves() {
+        isSaveDeferred = true;
+        LOGGER.info("Saving of notebook and timetable deferred.");
     }
 
-    private void setupLogger() {
-        LogManager.getLogManager().reset();
-        LOGGER.setLevel(Level.INFO);
+    /**
+     * Stops deferring saves and rewrites all the files once if any save was requested while deferred.
+     *
+     * @throws IOException if unable to save to the file.
+     */
+    public void commitDeferredSaves() throws IOException {
+        isSaveDeferred = false;
+        if (hasPendingSave) {
+            hasPendingSave = false;
+            saveAll();
+            LOGGER.info("Deferred saves committed.");
+        }
+    }
+
+    public boolean isSaveDeferred() {
+        return isSaveDeferred;
+    }
+
+    /* Transactions */
+
+    /**
+     * Begins a transaction. Saving is deferred until the transaction is committed or rolled back. The undo log is a
+     * snapshot of all the data, so beginning a transaction takes time linear in the number of notes, events and tags.
+     *
+     * @return true if the transaction has begun, false if a transaction is already in progress.
+     */
+    public boolean beginTransaction() {
+        if (undoLog != null) {
+            return false;
+        }
+        undoLog = new UndoLog(notebook, timetable, tagManager);
+        wasSaveDeferred = isSaveDeferred;
+        deferSaves();
+        LOGGER.info("Transaction started.");
+        return true;
+    }
+
+    /**
+     * Commits the transaction in progress, saving all its changes at once.
+     *
+     * @return true if the transaction is committed, false if there is no transaction in progress.
+     * @throws IOException if unable to save to the file.
+     */
+    public boolean commitTransaction() throws IOException {
+        if (undoLog == null) {
+            return false;
+        }
+        undoLog = null;
+        if (!wasSaveDeferred) {
+            commitDeferredSaves();
+        }
+        LOGGER.info("Transaction committed.");
+        return true;
+    }
 
+    /**
+     * Reverts all the changes made during the transaction in progress. Note content files that were created,
+     * moved or deleted during the transaction are put back where possible. A content file that cannot be put back
+     * is skipped, and saving stops being deferred even if the rollback fails.
+     *
+     * @return true if the transaction is rolled back, false if there is no transaction in progress.
+     * @throws IOException if unable to save to the file.
+     */
+    public boolean rollbackTransaction() throws IOException {
+        if (undoLog == null) {
+            return false;
+        }
+        try {
+            Set<Note> loggedNotes = Collections.newSetFromMap(new IdentityHashMap<>());
+            loggedNotes.addAll(undoLog.getAllNotes());
+
+            // Remove the content files of the notes added during the transaction
+            ArrayList<Note> currentNotes = new ArrayList<>(notebook.getNotes());
+            currentNotes.addAll(notebook.getArchivedNotes());
+            for (Note note : currentNotes) {
+                if (!loggedNotes.contains(note) && noteExists(note, note.getIsArchived())) {
+                    deleteLoggedContentFile(note.getTitle(), note.getIsArchived());
+                }
+            }
+
+            undoLog.restore(notebook, timetable, tagManager);
+
+            // Put back the content files of the notes that were deleted, archived or unarchived
+            for (Note note : loggedNotes) {
+                if (noteExists(note, !note.getIsArchived())) {
+                    deleteLoggedContentFile(note.getTitle(), !note.getIsArchived());
+                }
+                if (!noteExists(note, note.getIsArchived())) {
+                    saveLoggedContentFile(note);
+                }
+            }
+        } finally {
+            undoLog = null;
+            if (!wasSaveDeferred) {
+                commitDeferredSaves();
+            }
+        }
+        LOGGER.info("Transaction rolled back.");
+        return true;
+    }
+
+    public boolean isInTransaction() {
+        return undoLog != null;
+    }
+
+    private void deleteLoggedContentFile(String noteTitle, boolean isArchive) {
+        try {
+            deleteNoteContentFile(noteTitle, isArchive);
+        } catch (SystemException exception) {
+            LOGGER.info("Unable to revert the content file of: {0}", noteTitle);
+        }
+    }
+
+    private void saveLoggedContentFile(Note note) {
         try {
-            FileHandler fileHandler = new FileHandler(LOGS_DIR + "/storage.log");
-            fileHandler.setFormatter(new SimpleFormatter());
-            fileHandler.setLevel(Level.INFO);
-            LOGGER.addHandler(fileHandler);
+            saveNoteContent(note, note.getIsArchived());
         } catch (IOException exception) {
-            LOGGER.log(Level.SEVERE, "File logger not working.", exception);
+            LOGGER.info("Unable to revert the content file of: {0}", note.getTitle());
         }
+    }
+
+    //@@author Chongjx
+    /**
+     * Opens a file for writing. The bytes written and the time taken until the writer is closed are recorded in the
+     * Metrics under the name of the file.
+     *
+     * @param path Path of the file.
+     * @param isAppend Whether to append to the file instead of replacing its content.
+     * @param fileName Name of the file in the Metrics.
+     * @return Buffered writer of the file.
+     * @throws IOException if unable to open the file.
+     */
+    private static Writer openWriter(String path, boolean isAppend, String fileName) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(
+                new MeteredOutputStream(new FileOutputStream(path, isAppend), fileName)));
+    }
 
+    private static String getNotebookFileName(boolean isArchive) {
+        return isArchive ? ARCHIVED_NOTEBOOK_FILE_NAME : NOTEBOOK_FILE_NAME;
     }
 }
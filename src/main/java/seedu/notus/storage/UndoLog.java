@@ -0,0 +1,166 @@
+package seedu.notus.storage;
+
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.notebook.Notebook;
+import seedu.notus.data.tag.Tag;
+import seedu.notus.data.tag.TagColor;
+import seedu.notus.data.tag.TagManager;
+import seedu.notus.data.tag.TaggableObject;
+import seedu.notus.data.timetable.Event;
+import seedu.notus.data.timetable.RecurringEvent;
+import seedu.notus.data.timetable.Timetable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+//@@author Chongjx
+/**
+ * Represents an in-memory undo log. Records the state of the notebook, timetable and tags when a transaction begins
+ * so that every change made during the transaction can be reverted. The changes are not recorded as they are made,
+ * as commands modify notes and events directly. Instead, every note, event and tag is copied when the log is made.
+ */
+public class UndoLog {
+    private final ArrayList<Note> notes;
+    private final ArrayList<Note> archivedNotes;
+    private final ArrayList<Event> events;
+    private final ArrayList<NoteState> noteStates = new ArrayList<>();
+    private final ArrayList<EventState> eventStates = new ArrayList<>();
+    private final HashMap<Tag, TagColor> tagColors = new HashMap<>();
+    private final HashMap<Tag, ArrayList<TaggableObject>> taggedObjects = new HashMap<>();
+
+    /**
+     * Records the current state of the data.
+     *
+     * @param notebook Notebook to be recorded.
+     * @param timetable Timetable to be recorded.
+     * @param tagManager TagManager to be recorded.
+     */
+    public UndoLog(Notebook notebook, Timetable timetable, TagManager tagManager) {
+        notes = new ArrayList<>(notebook.getNotes());
+        archivedNotes = new ArrayList<>(notebook.getArchivedNotes());
+        events = new ArrayList<>(timetable.getEvents());
+
+        for (Note note : notes) {
+            noteStates.add(new NoteState(note));
+        }
+        for (Note note : archivedNotes) {
+            noteStates.add(new NoteState(note));
+        }
+        for (Event event : events) {
+            eventStates.add(new EventState(event));
+        }
+        for (Map.Entry<Tag, ArrayList<TaggableObject>> entry : tagManager.getTagMap().entrySet()) {
+            tagColors.put(entry.getKey(), entry.getKey().getTagColor());
+            taggedObjects.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+    }
+
+    /**
+     * Reverts the data to the recorded state.
+     *
+     * @param notebook Notebook to be reverted.
+     * @param timetable Timetable to be reverted.
+     * @param tagManager TagManager to be reverted.
+     */
+    public void restore(Notebook notebook, Timetable timetable, TagManager tagManager) {
+        for (NoteState noteState : noteStates) {
+            noteState.restore();
+        }
+        for (EventState eventState : eventStates) {
+            eventState.restore();
+        }
+        notebook.restoreNotes(new ArrayList<>(notes), new ArrayList<>(archivedNotes));
+        timetable.restoreEvents(new ArrayList<>(events));
+
+        Map<Tag, ArrayList<TaggableObject>> tagMap = tagManager.getTagMap();
+        tagMap.clear();
+        for (Map.Entry<Tag, ArrayList<TaggableObject>> entry : taggedObjects.entrySet()) {
+            entry.getKey().setTagColor(tagColors.get(entry.getKey()));
+            tagMap.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        tagManager.markModified();
+    }
+
+    /**
+     * Returns the notes that existed when the transaction began, archived or not.
+     *
+     * @return Notes recorded in the log.
+     */
+    public ArrayList<Note> getAllNotes() {
+        ArrayList<Note> allNotes = new ArrayList<>(notes);
+        allNotes.addAll(archivedNotes);
+        return allNotes;
+    }
+
+    /** Recorded fields of a Note that commands are able to modify. */
+    private static class NoteState {
+        private final Note note;
+        private final String title;
+        private final ArrayList<String> content;
+        private final boolean isPinned;
+        private final boolean isArchived;
+        private final ArrayList<Tag> tags;
+
+        NoteState(Note note) {
+            this.note = note;
+            title = note.getTitle();
+            content = new ArrayList<>(note.getContent());
+            isPinned = note.getPinned();
+            isArchived = note.getIsArchived();
+            tags = new ArrayList<>(note.getTags());
+        }
+
+        void restore() {
+            note.setTitle(title);
+            note.setContent(new ArrayList<>(content));
+            note.setPinned(isPinned);
+            note.setArchived(isArchived);
+            note.setTags(new ArrayList<>(tags));
+        }
+    }
+
+    /** Recorded fields of an Event that commands are able to modify. */
+    private static class EventState {
+        private final Event event;
+        private final String title;
+        private final LocalDateTime startDateTime;
+        private final LocalDateTime endDateTime;
+        private final boolean isToRemind;
+        private final HashMap<String, ArrayList<Integer>> reminderPeriods = new HashMap<>();
+        private final ArrayList<Tag> tags;
+        private final LocalDate endRecurrenceDate;
+
+        EventState(Event event) {
+            this.event = event;
+            title = event.getTitle();
+            startDateTime = event.getStartDateTime();
+            endDateTime = event.getEndDateTime();
+            isToRemind = event.getIsToRemind();
+            for (Map.Entry<String, ArrayList<Integer>> entry : event.getReminderPeriods().entrySet()) {
+                reminderPeriods.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+            }
+            tags = new ArrayList<>(event.getTags());
+            endRecurrenceDate = event instanceof RecurringEvent
+                    ? ((RecurringEvent) event).getEndRecurrenceDate() : null;
+        }
+
+        void restore() {
+            event.setTitle(title);
+            event.setStartDateTime(startDateTime);
+            event.setEndDateTime(endDateTime);
+            event.setIsToRemind(isToRemind);
+            HashMap<String, ArrayList<Integer>> restoredPeriods = new HashMap<>();
+            for (Map.Entry<String, ArrayList<Integer>> entry : reminderPeriods.entrySet()) {
+                restoredPeriods.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+            }
+            event.setReminderPeriods(restoredPeriods);
+            event.setTags(new ArrayList<>(tags));
+            if (event instanceof RecurringEvent) {
+                ((RecurringEvent) event).setEndRecurrenceDate(endRecurrenceDate);
+            }
+        }
+    }
+}
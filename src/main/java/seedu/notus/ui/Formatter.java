@@ -5,11 +5,14 @@ import seedu.notus.data.notebook.Notebook;
 import seedu.notus.data.timetable.RecurringEvent;
 import seedu.notus.data.timetable.Reminder;
 import seedu.notus.data.timetable.Event;
+import seedu.notus.util.metrics.FlightEvents;
 
 import java.time.Month;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Stack;
+import java.util.Iterator;
+import java.util.List;
 
 import static com.diogonunes.jcolor.Ansi.POSTFIX;
 import static com.diogonunes.jcolor.Ansi.PREFIX;
@@ -44,14 +47,22 @@ public class Formatter {
      * Maximum length of message to within a row, minus the start and end formatting.
      */
     private static final int MAX_MESSAGE_LENGTH = MAX_ROW_LENGTH - COLUMN_START.length() - COLUMN_END.length();
-    /**
-     * Length of a ansi defined color.
-     */
-    private static final int ANSI_PREFIX_LENGTH = 5;
     /**
      * Maximum length of a note's content to display.
      */
     private static final int CONTENT_CUTOFF = MAX_MESSAGE_LENGTH - 50;
+    /**
+     * Row of pre-defined characters used to segregate row contents.
+     */
+    private static final String ROW_SPLIT_LINE = ROW_SPLIT.repeat(MAX_ROW_LENGTH) + LS;
+    /**
+     * Blanks used to pad a row up to the MAX_MESSAGE_LENGTH.
+     */
+    private static final String ROW_PADDING = EMPTY_SPACE.repeat(MAX_MESSAGE_LENGTH);
+
+    /** Layouts the rendering is recorded under in the flight recording. */
+    private static final String ROWS_LAYOUT = "rows";
+    private static final String NOTES_LAYOUT = "notes";
 
     //@@author R-Ramana
     /**
@@ -61,12 +72,12 @@ public class Formatter {
      */
     public static String formatNotes(String pinnedHeader, String unpinnedHeader,
                                      ArrayList<Note> pinned, ArrayList<Note> unpinned, Notebook notebook) {
-        String formattedString;
-        
-        formattedString = formatNotes(pinnedHeader, pinned, notebook);
-        formattedString = formattedString.concat(formatNotes(unpinnedHeader, unpinned, notebook));
+        StringBuilder formattedString = new StringBuilder();
 
-        return formattedString;
+        appendNotes(formattedString, pinnedHeader, pinned.iterator(), notebook, Integer.MAX_VALUE);
+        appendNotes(formattedString, unpinnedHeader, unpinned.iterator(), notebook, Integer.MAX_VALUE);
+
+        return formattedString.toString();
     }
 
     //@@author R-Ramana
@@ -77,11 +88,50 @@ public class Formatter {
      * @return noteString StringBuilder containing the notes ready to be printed
      */
     public static String formatNotes(String header, ArrayList<Note> notes, Notebook notebook) {
-        String formattedString = "";
+        StringBuilder formattedString = new StringBuilder();
+        appendNotes(formattedString, header, notes.iterator(), notebook, Integer.MAX_VALUE);
+        return formattedString.toString();
+    }
 
-        formattedString = formattedString.concat(generatesHeader(header));
+    //@@author Chongjx
+    /**
+     * Formats the next notes of the iterator, up to the limit. The remaining notes are not read, so only the visible
+     * page of a listing is rendered.
+     *
+     * @param header Header of the list of notes.
+     * @param notes Iterator positioned at the first note to be formatted.
+     * @param notebook Notebook to obtain the index of the notes from.
+     * @param limit Maximum number of notes to be formatted.
+     * @return Formatted notes.
+     */
+    public static String formatNotes(String header, Iterator<Note> notes, Notebook notebook, int limit) {
+        StringBuilder formattedString = new StringBuilder();
+        appendNotes(formattedString, header, notes, notebook, limit);
+        return formattedString.toString();
+    }
 
-        for (Note note: notes) {
+    //@@author R-Ramana
+    /**
+     * Appends the enclosed list of notes to the output.
+     *
+     * @param output Output to append the notes to.
+     * @param header Header of the list of notes.
+     * @param notes Iterator of notes to obtain note title/tags from
+     * @param notebook Notebook to obtain the index of the notes from.
+     * @param limit Maximum number of notes to be appended.
+     */
+    private static void appendNotes(StringBuilder output, String header, Iterator<Note> notes, Notebook notebook,
+                                    int limit) {
+        FlightEvents.Render event = new FlightEvents.Render();
+        event.begin();
+        int startLength = output.length();
+        int count = 0;
+
+        output.append(ROW_SPLIT_LINE);
+        appendHeader(output, header);
+
+        for (; count < limit && notes.hasNext(); count++) {
+            Note note = notes.next();
             String colorIndex;
             String colorTitle;
 
@@ -95,7 +145,8 @@ public class Formatter {
             colorTitle = colorize(TITLE + note.getTitle() + EMPTY_SPACE + note.getTagsName(),
                     Attribute.YELLOW_TEXT());
 
-            formattedString = formattedString.concat(encloseRow(colorIndex)).concat(encloseRow(colorTitle));
+            appendRow(output, colorIndex);
+            appendRow(output, colorTitle);
 
             int truncatedContentLength = Math.min(note.getContent().get(0).length(), CONTENT_CUTOFF);
 
@@ -103,28 +154,30 @@ public class Formatter {
                     .get(0)
                     .substring(0, truncatedContentLength)
                     .concat(CONTINUATION);
-            formattedString = formattedString.concat(encloseRow(CONTENT + truncatedContent))
-                    .concat(generatesRowSplit());
+            appendRow(output, CONTENT + truncatedContent);
+            output.append(ROW_SPLIT_LINE);
         }
-        return encloseTopAndBottom(formattedString);
+        output.append(ROW_SPLIT_LINE);
+        event.finish(NOTES_LAYOUT, count, output.length() - startLength);
     }
 
     //@@author Nazryl
     public static String formatNote(String message, Note note) {
-        String formattedString = "";
-        String header = message.concat(note.getTitle() + " " + note.getTagsName());
+        StringBuilder header = new StringBuilder(message);
+        header.append(note.getTitle()).append(" ").append(note.getTagsName());
 
-        header = header.concat("| " + note.getPinnedString() + " ");
+        header.append("| ").append(note.getPinnedString()).append(" ");
 
         if (note.getIsArchived()) {
-            header = header.concat("| " + note.getIsArchivedString());
+            header.append("| ").append(note.getIsArchivedString());
         }
 
-        formattedString = formattedString.concat(generatesHeader(header));
+        StringBuilder formattedString = new StringBuilder(ROW_SPLIT_LINE);
+        appendHeader(formattedString, header.toString());
         for (String line : note.getContent()) {
-            formattedString = formattedString.concat(encloseRow(line));
+            appendRow(formattedString, line);
         }
-        return encloseTopAndBottom(formattedString);
+        return formattedString.append(ROW_SPLIT_LINE).toString();
     }
 
 
@@ -188,11 +241,27 @@ public class Formatter {
      * @return Formatted string of indexed events in timetable
      */
     public static String formatTimetable(String header, ArrayList<Event> events) {
+        return formatTimetable(header, events.iterator(), 0, Integer.MAX_VALUE);
+    }
+
+    //@@author Chongjx
+    /**
+     * Formats the next events of the iterator, up to the limit, into an indexed string for output. The remaining
+     * events are not read, so only the visible page of a listing is rendered.
+     *
+     * @param header Success message.
+     * @param events Iterator positioned at the first event to be formatted.
+     * @param startIndex Number of events before the first formatted event.
+     * @param limit Maximum number of events to be formatted.
+     * @return Formatted string of indexed events in timetable
+     */
+    public static String formatTimetable(String header, Iterator<Event> events, int startIndex, int limit) {
         ArrayList<String> eventsStrings = new ArrayList<>();
         eventsStrings.add(header);
         ArrayList<String> eventStringRepresentation;
-        int i = 1;
-        for (Event event : events) {
+        int i = startIndex + 1;
+        for (int count = 0; count < limit && events.hasNext(); count++) {
+            Event event = events.next();
             eventStringRepresentation = formatEvent(event);
             String title = String.format("%d. %s %s", i++, eventStringRepresentation.get(0), event.getTagsName());
             eventStringRepresentation.set(0, title);
@@ -216,9 +285,9 @@ public class Formatter {
             reminders.add("None");
         }
 
-        String reminderString = "Reminders:";
+        StringBuilder reminderString = new StringBuilder("Reminders:");
         for (String reminder : reminders) {
-            reminderString = reminderString.concat(" " + reminder);
+            reminderString.append(" ").append(reminder);
         }
 
         result.add("Event: " + event.getTitle());
@@ -226,7 +295,7 @@ public class Formatter {
                 + EMPTY_SPACE.repeat(4) + "Start: " + event.getStartTime().toString()
                 + EMPTY_SPACE.repeat(4) + "End: " + event.getEndTime().toString());
 
-        result.add(reminderString);
+        result.add(reminderString.toString());
         String repeatingString = "Repeating: ";
         String endRecurrenceDateString = "";
         if (event instanceof RecurringEvent) {
@@ -299,7 +368,13 @@ public class Formatter {
      * @return Formatted message.
      */
     public static String formatString(String message) {
-        return encloseTopAndBottom(encloseRow(message));
+        FlightEvents.Render event = new FlightEvents.Render();
+        event.begin();
+        StringBuilder formattedString = new StringBuilder(ROW_SPLIT_LINE);
+        appendRow(formattedString, message);
+        formattedString.append(ROW_SPLIT_LINE);
+        event.finish(ROWS_LAYOUT, 1, formattedString.length());
+        return formattedString.toString();
     }
 
     /**
@@ -310,19 +385,9 @@ public class Formatter {
      * @return Formatted message.
      */
     public static String formatString(ArrayList<String> messages, boolean hasHeader) {
-        String formattedString = "";
-        if (hasHeader) {
-            formattedString = generatesHeader(messages.get(0));
-
-            for (int i = 1; i < messages.size(); ++i) {
-                formattedString = formattedString.concat(encloseRow(messages.get(i)));
-            }
-        } else {
-            for (String s : messages) {
-                formattedString = formattedString.concat(encloseRow(s));
-            }
-        }
-        return encloseTopAndBottom(formattedString);
+        StringBuilder formattedString = new StringBuilder(ROW_SPLIT_LINE);
+        appendRows(formattedString, messages, hasHeader);
+        return formattedString.append(ROW_SPLIT_LINE).toString();
     }
 
     /**
@@ -333,198 +398,141 @@ public class Formatter {
      * @return Formatted message.
      */
     public static String formatString(String[] messages, boolean hasHeader, boolean isContent) {
-        String formattedString = "";
-        if (hasHeader) {
-            formattedString = generatesHeader(messages[0]);
+        StringBuilder formattedString = new StringBuilder(ROW_SPLIT_LINE);
+        appendRows(formattedString, Arrays.asList(messages), hasHeader);
+        formattedString.append(ROW_SPLIT_LINE);
 
-            for (int i = 1; i < messages.length; ++i) {
-                formattedString = formattedString.concat(encloseRow(messages[i]));
-            }
-        } else {
-            for (String s : messages) {
-                formattedString = formattedString.concat(encloseRow(s));
-            }
-        }
-
-        String result = encloseTopAndBottom(formattedString);
         if (isContent) {
-            return result.substring(0, result.length() - 1);
+            formattedString.setLength(formattedString.length() - 1);
         }
-        return result;
+        return formattedString.toString();
     }
 
     /**
-     * Generates a header row with the format.
+     * Appends each message as a row. The first message is appended as a header if there is one.
      *
-     * @param header Header message
-     * @return Formatted header.
+     * @param output Output to append the rows to.
+     * @param messages Messages to be formatted.
+     * @param hasHeader Determines if there is a header. Header MUST be the first element in the list.
      */
-    private static String generatesHeader(String header) {
-        return encloseRow(header) + generatesRowSplit();
-    }
+    private static void appendRows(StringBuilder output, List<String> messages, boolean hasHeader) {
+        FlightEvents.Render event = new FlightEvents.Render();
+        event.begin();
+        int startLength = output.length();
+        int firstRow = 0;
+        if (hasHeader) {
+            appendHeader(output, messages.get(0));
+            firstRow = 1;
+        }
 
-    /**
-     * Generates a row of pre-defined characters as to segregate row contents.
-     *
-     * @return A row of defined characters.
-     */
-    private static String generatesRowSplit() {
-        return ROW_SPLIT.repeat(MAX_ROW_LENGTH) + LS;
+        for (int i = firstRow; i < messages.size(); ++i) {
+            appendRow(output, messages.get(i));
+        }
+        event.finish(ROWS_LAYOUT, messages.size(), output.length() - startLength);
     }
 
     /**
-     * Encloses the top and bottom of the formatted message.
+     * Appends a header row with the format.
      *
-     * @param message Formatted message to be enclosed.
-     * @return Enclosed message.
+     * @param output Output to append the header to.
+     * @param header Header message
      */
-    private static String encloseTopAndBottom(String message) {
-        return generatesRowSplit() + message + generatesRowSplit();
+    private static void appendHeader(StringBuilder output, String header) {
+        appendRow(output, header);
+        output.append(ROW_SPLIT_LINE);
     }
 
     /**
-     * Encloses the sides of the message.
+     * Encloses the sides of the message and appends it to the output. Messages longer than a row are wrapped in a
+     * single pass over the message. Ansi escape codes do not take up any width. When a row is cut in the middle of a
+     * colored word, the cut is moved to the space before the word, the color is reset at the end of the row and
+     * carried over to the next row.
      *
+     * @param output Output to append the enclosed message to.
      * @param message Message to be enclosed.
-     * @return Enclosed message.
      */
-    private static String encloseRow(String message) {
-        int numBlanks;
-
-        // Array list to store startIndex, endIndex and the color of the string
-        ArrayList<Integer> coloredStringStartIndexList = new ArrayList<>();
-        ArrayList<Integer> coloredStringEndIndexList = new ArrayList<>();
-        ArrayList<String> stringColorList = new ArrayList<>();
-
-        int numAsciiCode = getNumAsciiCode(message, coloredStringStartIndexList, coloredStringEndIndexList,
-                stringColorList);
-
-        // Calculate the number of space needed to fill up if the message length is less than the MAX_MESSAGE_LENGTH
-        numBlanks = MAX_MESSAGE_LENGTH - message.length() + numAsciiCode;
-
-        // Adds empty space to the message
-        if (numBlanks >= 0) {
-            return COLUMN_START + message + EMPTY_SPACE.repeat(numBlanks) + COLUMN_END + LS;
-        } else {
-            int startIndexOfNextLine = MAX_MESSAGE_LENGTH;
-            boolean cutOffWordIsColored = false;
-            String truncatedColor = RESET;
-
-            // Checks if the start index for the next line lines between any colored word.
-            for (int i = 0; i < coloredStringStartIndexList.size(); ++i) {
-                // If the message contains any ansi escape code, shift the start index to print more letters since they
-                // will be removed when printing
-                if (startIndexOfNextLine > coloredStringStartIndexList.get(i)
-                        && startIndexOfNextLine > coloredStringEndIndexList.get(i)) {
-                    startIndexOfNextLine += ANSI_PREFIX_LENGTH + RESET.length();
-                } else if (startIndexOfNextLine > coloredStringStartIndexList.get(i)
-                        && startIndexOfNextLine <= coloredStringEndIndexList.get(i)) {
-                    startIndexOfNextLine += ANSI_PREFIX_LENGTH;
-                    cutOffWordIsColored = true;
-                    truncatedColor = stringColorList.get(i);
-                    break;
+    private static void appendRow(StringBuilder output, String message) {
+        // Escape codes since the last RESET, i.e. the color to carry over to the next row
+        StringBuilder activeColor = new StringBuilder();
+        String carriedColor = "";
+        int rowStart = 0;
+        int rowWidth = 0;
+        int lastSpace = -1;
+        int widthBeforeLastSpace = 0;
+
+        int i = 0;
+        while (i < message.length()) {
+            int escapeLength = getEscapeCodeLength(message, i);
+            if (escapeLength > 0) {
+                if (message.startsWith(RESET, i)) {
+                    activeColor.setLength(0);
+                } else {
+                    activeColor.append(message, i, i + escapeLength);
                 }
+                i += escapeLength;
+                continue;
+            }
+
+            if (message.charAt(i) == EMPTY_CHAR) {
+                lastSpace = i;
+                widthBeforeLastSpace = rowWidth;
             }
 
-            String preservedMessage;
-            String truncatedMessage;
-            // If the cutoff is in the middle of a colored word, shift all the way to the space directly before it.
-            if (cutOffWordIsColored) {
-                while (message.charAt(startIndexOfNextLine) != EMPTY_CHAR) {
-                    --startIndexOfNextLine;
+            if (rowWidth == MAX_MESSAGE_LENGTH) {
+                boolean isColored = activeColor.length() > 0;
+                int rowEnd = i;
+                int nextRowWidth = 0;
+                // Do not cut a colored word, unless it takes up the whole row
+                if (isColored && lastSpace > rowStart && widthBeforeLastSpace > 0) {
+                    rowEnd = lastSpace;
+                    nextRowWidth = rowWidth - widthBeforeLastSpace;
+                    rowWidth = widthBeforeLastSpace;
                 }
-                // Split the strings and enclose individual string
-                // Add the color RESET to the end of the first line
-                preservedMessage = message.substring(0, startIndexOfNextLine).concat(RESET);
-                // Add the color to the front of the second line
-                truncatedMessage = truncatedColor + message.substring(startIndexOfNextLine);
-            } else {
-                // Split the strings and enclose individual string
-                preservedMessage = message.substring(0, startIndexOfNextLine);
-                truncatedMessage = message.substring(startIndexOfNextLine);
+                appendEnclosedRow(output, carriedColor, message, rowStart, rowEnd, rowWidth, isColored);
+
+                carriedColor = isColored ? activeColor.toString() : "";
+                rowWidth = nextRowWidth;
+                rowStart = rowEnd;
+                lastSpace = -1;
             }
-            return encloseRow(preservedMessage) + encloseRow(truncatedMessage);
+            ++rowWidth;
+            ++i;
         }
+        appendEnclosedRow(output, carriedColor, message, rowStart, message.length(), rowWidth, false);
     }
 
     /**
-     * Returns the number of ascii code that appear within the message. Also match the start and end of index of each
-     * color.
+     * Appends part of the message as a row, padded up to the MAX_MESSAGE_LENGTH.
      *
-     * @param message                     String of the message to check.
-     * @param coloredStringStartIndexList Arraylist of index to mark the start of a color.
-     * @param coloredStringEndIndexList   Arraylist of index to mark the end of a color.
-     * @param stringColorList             Arraylist of string to store the color present.
-     * @return Number of Ascii code that appeared.
+     * @param output Output to append the row to.
+     * @param color Color to start the row with.
+     * @param message Message containing the row.
+     * @param start Start index of the row in the message.
+     * @param end End index of the row in the message, exclusive.
+     * @param width Number of characters displayed in the row.
+     * @param isColorReset Determines if the color is reset at the end of the row.
      */
-    private static int getNumAsciiCode(String message,
-                                       ArrayList<Integer> coloredStringStartIndexList,
-                                       ArrayList<Integer> coloredStringEndIndexList,
-                                       ArrayList<String> stringColorList) {
-        int numAsciiCode = 0;
-
-        // Stack is used to match the PREFIX and POSTFIX of each color. Possible patterns:
-        // 1. Individual string has its own color.
-        // [PREFIX]string[POSTFIX] [PREFIX]string[POSTFIX]
-        // 2. Individual string color has its own color but is enclosed by another color.
-        // [PREFIX][PREFIX]string[POSTFIX] [PREFIX]string[POSTFIX][POSTFIX]
-        // 3. String enclosed by nested colors
-        // [PREFIX][PREFIX]PREFIX]string[POSTFIX][POSTFIX][POSTFIX]
-        Stack<Integer> coloredStringStartIndexStack = new Stack<>();
-        Stack<String> stringColorStack = new Stack<>();
-
-        // Count the number of colored string in the message.
-        String[] temp = message.split(EMPTY_SPACE);
-        int messageLength = 0;
-        for (String s : temp) {
-            // Check if it contains the RESET color
-            if (s.contains(RESET)) {
-                String checkString = s;
-                String stringBeforeReset;
-                String stringWithReset;
-                int cutOffIndex = 0;
-
-                // While it contains RESET, trim it out
-                while (checkString.contains(RESET)) {
-                    int resetIndex = checkString.indexOf(RESET);
-
-                    // If there are string before the RESET
-                    if (resetIndex > 0) {
-                        stringBeforeReset = checkString.substring(0, resetIndex - 1);
-                        stringWithReset = checkString.substring(resetIndex);
-                    } else {
-                        stringBeforeReset = "";
-                        stringWithReset = checkString;
-                    }
-
-                    cutOffIndex += stringBeforeReset.length();
-
-                    // If there is a color string that is not closed
-                    if (stringBeforeReset.contains(PREFIX)) {
-                        int offsetSet = stringBeforeReset.indexOf(POSTFIX);
-                        numAsciiCode += offsetSet + 1;
-                        // Directly add to the list
-                        coloredStringStartIndexList.add(messageLength);
-                        stringColorList.add(checkString.substring(0, checkString.indexOf(POSTFIX) + 1));
-                    } else if (coloredStringStartIndexStack.size() > 0) {
-                        // Match it with the latest color in the stack
-                        coloredStringStartIndexList.add(coloredStringStartIndexStack.pop());
-                        stringColorList.add(stringColorStack.pop());
-                    }
-                    numAsciiCode += RESET.length();
-                    coloredStringEndIndexList.add(messageLength + cutOffIndex);
-                    checkString = stringWithReset.substring(RESET.length());
-                }
-            } else if (s.contains(PREFIX) && !s.contains(RESET)) { // is an ansi defined color
-                int offsetSet = s.indexOf(POSTFIX);
-                numAsciiCode += offsetSet + 1;
-                // Add them into the stack first
-                coloredStringStartIndexStack.push(messageLength);
-                stringColorStack.push(s.substring(0, s.indexOf(POSTFIX) + 1));
-            }
-            // Increment the message length by each string array, also account for the space
-            messageLength += s.length() + 1;
+    private static void appendEnclosedRow(StringBuilder output, String color, String message, int start, int end,
+                                          int width, boolean isColorReset) {
+        output.append(COLUMN_START).append(color).append(message, start, end);
+        if (isColorReset) {
+            output.append(RESET);
+        }
+        output.append(ROW_PADDING, 0, MAX_MESSAGE_LENGTH - width).append(COLUMN_END).append(LS);
+    }
+
+    /**
+     * Returns the length of the ansi escape code starting at the index of the message.
+     *
+     * @param message Message to check.
+     * @param index Index to check from.
+     * @return Length of the escape code, 0 if there is none.
+     */
+    private static int getEscapeCodeLength(String message, int index) {
+        if (!message.startsWith(PREFIX, index)) {
+            return 0;
         }
-        return numAsciiCode;
+        int postfixIndex = message.indexOf(POSTFIX, index + PREFIX.length());
+        return postfixIndex < 0 ? 0 : postfixIndex + POSTFIX.length() - index;
     }
 }
@@ -0,0 +1,52 @@
+package seedu.notus.ui;
+
+//@@author Chongjx
+/**
+ * Represents a page of a listing. Only the items within the page are rendered.
+ */
+public class Page {
+    /** Number of items on a page when only the page number is given. */
+    public static final int DEFAULT_PAGE_SIZE = 10;
+    public static final int FIRST_PAGE = 1;
+
+    private final int pageNumber;
+    private final int pageSize;
+
+    /**
+     * Constructs a page of the listing.
+     *
+     * @param pageNumber Number of the page, starting from 1.
+     * @param pageSize Maximum number of items on the page.
+     */
+    public Page(int pageNumber, int pageSize) {
+        assert pageNumber >= FIRST_PAGE && pageSize > 0 : "Page number and size must be positive";
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+    }
+
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Returns the number of items before the first item of the page.
+     *
+     * @return Index of the first item of the page, starting from 0.
+     */
+    public int getStartIndex() {
+        return (pageNumber - 1) * pageSize;
+    }
+
+    /**
+     * Returns the page after this page.
+     *
+     * @return Next page with the same size.
+     */
+    public Page next() {
+        return new Page(pageNumber + 1, pageSize);
+    }
+}
@@ -4,6 +4,8 @@ import com.diogonunes.jcolor.Attribute;
 import seedu.notus.command.AddEventCommand;
 import seedu.notus.command.AddNoteCommand;
 import seedu.notus.command.ArchiveNoteCommand;
+import seedu.notus.command.BeginCommand;
+import seedu.notus.command.CommitCommand;
 import seedu.notus.command.CreateTagCommand;
 import seedu.notus.command.DeleteEventCommand;
 import seedu.notus.command.DeleteNoteCommand;
@@ -12,11 +14,16 @@ import seedu.notus.command.EditEventCommand;
 import seedu.notus.command.EditNoteCommand;
 import seedu.notus.command.ExitCommand;
 import seedu.notus.command.FindCommand;
+import seedu.notus.command.FreeSlotCommand;
+import seedu.notus.command.ListClashesCommand;
 import seedu.notus.command.ListEventCommand;
 import seedu.notus.command.ListNoteCommand;
 import seedu.notus.command.ListTagCommand;
+import seedu.notus.command.MoreCommand;
 import seedu.notus.command.PinCommand;
 import seedu.notus.command.RemindCommand;
+import seedu.notus.command.RollbackCommand;
+import seedu.notus.command.StatsCommand;
 import seedu.notus.command.TagEventCommand;
 import seedu.notus.command.TagNoteCommand;
 import seedu.notus.command.UnarchiveNoteCommand;
@@ -30,8 +37,12 @@ import static seedu.notus.util.PrefixSyntax.PREFIX_ADD_LINE;
 import static seedu.notus.util.PrefixSyntax.PREFIX_CONTENT;
 import static seedu.notus.util.PrefixSyntax.PREFIX_DELETE_LINE;
 import static seedu.notus.util.PrefixSyntax.PREFIX_DELIMITER;
+import static seedu.notus.util.PrefixSyntax.PREFIX_DURATION;
+import static seedu.notus.util.PrefixSyntax.PREFIX_END_TIMING;
 import static seedu.notus.util.PrefixSyntax.PREFIX_INDEX;
+import static seedu.notus.util.PrefixSyntax.PREFIX_LIMIT;
 import static seedu.notus.util.PrefixSyntax.PREFIX_LINE;
+import static seedu.notus.util.PrefixSyntax.PREFIX_PAGE;
 import static seedu.notus.util.PrefixSyntax.PREFIX_PIN;
 import static seedu.notus.util.PrefixSyntax.PREFIX_RECURRING;
 import static seedu.notus.util.PrefixSyntax.PREFIX_REMIND;
@@ -119,17 +130,19 @@ public class CommandMessage {
             + PREFIX_DELIMITER + PREFIX_TAG + " TAG1 TAG_COLOR...] "
             + "Only use one type of /add, /ln or /del per edit.";
     public static final String EXIT_COMMAND_USAGE = ExitCommand.COMMAND_WORD
-            + ": Exits the program.";
+            + " or " + ExitCommand.COMMAND_ALIAS + ": Exits the program.";
+    public static final String PAGE_PARAMETERS_USAGE = "[" + PREFIX_DELIMITER + PREFIX_PAGE + " PAGE] "
+            + "[" + PREFIX_DELIMITER + PREFIX_LIMIT + " LIMIT]";
     public static final String FIND_N_COMMAND_USAGE = FindCommand.COMMAND_WORD
-            + ": Finds a note. Parameters: KEYWORDS";
+            + ": Finds a note. Parameters: KEYWORDS " + PAGE_PARAMETERS_USAGE;
     public static final String LIST_E_COMMAND_USAGE = ListEventCommand.COMMAND_WORD
             + ": List all the events in the Timetable. Parameters: "
-            + "[" + PREFIX_DELIMITER + PREFIX_TIMING + " YYYY or YYYY-MM]";
+            + "[" + PREFIX_DELIMITER + PREFIX_TIMING + " YYYY or YYYY-MM] OR " + PAGE_PARAMETERS_USAGE;
     public static final String LIST_N_COMMAND_USAGE = ListNoteCommand.COMMAND_WORD
             + ": Lists all the notes in the Notebook. Parameters: "
             + "[" + PREFIX_DELIMITER + PREFIX_TAG + " TAG "
             + PREFIX_DELIMITER + PREFIX_TAG + " TAG1...] "
-            + "[/sort up OR down]";
+            + "[/sort up OR down] " + PAGE_PARAMETERS_USAGE;
     public static final String LIST_T_COMMAND_USAGE = ListTagCommand.COMMAND_WORD
             + ": Lists all the tags.";
     public static final String PIN_N_COMMAND_USAGE = PinCommand.COMMAND_WORD
@@ -156,6 +169,23 @@ public class CommandMessage {
             + ": Views a note. Parameters: "
             + "[" + PREFIX_DELIMITER + PREFIX_INDEX + " INDEX] "
             + "[" + PREFIX_DELIMITER + PREFIX_TITLE + " TITLE]";
+    public static final String MORE_COMMAND_USAGE = MoreCommand.COMMAND_WORD
+            + ": Shows the next page of the last listing.";
+    public static final String TRANSACTION_COMMAND_USAGE = BeginCommand.COMMAND_WORD + ", "
+            + CommitCommand.COMMAND_WORD + " or " + RollbackCommand.COMMAND_WORD
+            + ": Begins a transaction, then saves all of its changes at once or reverts them.";
+    public static final String CLASHES_E_COMMAND_USAGE = ListClashesCommand.COMMAND_WORD
+            + ": Lists the events that clash with each other. Parameters: "
+            + "[" + PREFIX_DELIMITER + PREFIX_TIMING + " START_DATE] "
+            + "[" + PREFIX_DELIMITER + PREFIX_END_TIMING + " END_DATE]";
+    public static final String FREE_E_COMMAND_USAGE = FreeSlotCommand.COMMAND_WORD
+            + ": Finds the free slots in the timetable. Parameters: "
+            + PREFIX_DELIMITER + PREFIX_DURATION + " MINUTES "
+            + "[" + PREFIX_DELIMITER + PREFIX_TIMING + " START_DATE] "
+            + "[" + PREFIX_DELIMITER + PREFIX_END_TIMING + " END_DATE] "
+            + "[" + PREFIX_DELIMITER + PREFIX_LIMIT + " LIMIT]";
+    public static final String STATS_COMMAND_USAGE = StatsCommand.COMMAND_WORD
+            + ": Shows how long parsing, commands and saves took, and saves the statistics to a file.";
     public static final String[] HELP_COMMAND_USAGE = {"The recognized commands and their usages are listed below. "
             + "Parameters listed in brackets, [ ], represent optional inputs.",
             colorize(ADD_E_COMMAND_USAGE, WHITE),
@@ -177,7 +207,12 @@ public class CommandMessage {
             colorize(TAG_E_COMMAND_USAGE, WHITE),
             colorize(TAG_N_COMMAND_USAGE, CYAN),
             colorize(UNARCHIVE_N_COMMAND_USAGE, WHITE),
-            colorize(VIEW_N_COMMAND_USAGE, CYAN)
+            colorize(VIEW_N_COMMAND_USAGE, CYAN),
+            colorize(TRANSACTION_COMMAND_USAGE, WHITE),
+            colorize(MORE_COMMAND_USAGE, CYAN),
+            colorize(STATS_COMMAND_USAGE, WHITE),
+            colorize(CLASHES_E_COMMAND_USAGE, CYAN),
+            colorize(FREE_E_COMMAND_USAGE, WHITE)
     };
 
     /** General successful messages. */
@@ -194,6 +229,11 @@ public class CommandMessage {
     public static final String LIST_EVENT_SUCCESSFUL_MESSAGE = "These are the stored events: ";
     public static final String LIST_EVENT_SUCCESSFUL_TIME_PERIOD_MESSAGE = "These are the events "
             + "in the specified time period: ";
+    public static final String LIST_CLASHES_MESSAGE = "These events clash from %s to %s:";
+    public static final String CLASH_FORMAT = "%s: %s (%s-%s) clashes with %s (%s-%s)";
+    public static final String FREE_SLOTS_MESSAGE = "These are the earliest free slots of at least %d minutes "
+            + "from %s to %s:";
+    public static final String FREE_SLOT_FORMAT = "%s: %s-%s (%d minutes)";
 
     public static final String ADD_EVENT_SUCCESSFUL_MESSAGE = colorize("Added the following event:", GREEN);
     public static final String DELETE_EVENT_SUCCESSFUL_MESSAGE = colorize("Event deleted", GREEN);
@@ -242,6 +282,9 @@ public class CommandMessage {
             RED);
     public static final String LIST_EVENT_UNSUCCESSFUL_TIME_PERIOD_MESSAGE = colorize("Failed to find any events "
             + "in the specified time period!", RED);
+    public static final String NO_CLASHES_MESSAGE = colorize("No events clash from %s to %s!", GREEN);
+    public static final String NO_FREE_SLOTS_MESSAGE = colorize("There are no free slots of at least %d minutes "
+            + "from %s to %s!", RED);
 
     /** Note related messages. */
     public static final String PINNED_NOTES_MESSAGE = "Here are the list of pinned notes:";
@@ -260,6 +303,16 @@ public class CommandMessage {
     public static final String UNARCHIVE_NOTE_SUCCESSFUL_MESSAGE = colorize("The following note has been unarchived: ",
             GREEN);
 
+    public static final String BULK_ARCHIVE_NOTE_SUCCESSFUL_MESSAGE = colorize("Number of notes archived: ", GREEN);
+    public static final String BULK_UNARCHIVE_NOTE_SUCCESSFUL_MESSAGE = colorize("Number of notes unarchived: ",
+            GREEN);
+    public static final String BULK_DELETE_NOTE_SUCCESSFUL_MESSAGE = colorize("Number of notes deleted: ", GREEN);
+    public static final String BULK_PIN_NOTE_SUCCESSFUL_MESSAGE = colorize("Number of notes pinned or unpinned: ",
+            GREEN);
+    public static final String BULK_TAG_NOTE_SUCCESSFUL_MESSAGE = colorize("Number of notes tagged or untagged: ",
+            GREEN);
+    public static final String BULK_NOTES_NOT_PROCESSED_MESSAGE = colorize("Unable to process these notes: ", RED);
+
     public static final String NOTE_EXIST_MESSAGE = colorize("This note already exists in the notebook! ", RED);
     public static final String NOTE_ARCHIVED_EXIST_MESSAGE =
             colorize("This note can be found in the archived list! ", RED);
@@ -275,9 +328,33 @@ public class CommandMessage {
     public static final String EMPTY_NOTEBOOK_MESSAGE = colorize("The notebook is empty!", RED);
 
 
+    /** Paging related messages. */
+    public static final String PAGE_HEADER = " (page %d)";
+    public static final String MORE_PAGES_MESSAGE = colorize("Enter \"" + MoreCommand.COMMAND_WORD
+            + "\" to see the next page.", GREEN);
+    public static final String EMPTY_PAGE_MESSAGE = colorize("There is nothing to show on page %d!", RED);
+    public static final String NO_MORE_PAGES_MESSAGE = colorize("There are no more pages to show!", RED);
+
     /** Storage related messages. */
     public static final String FILE_WRITE_UNSUCCESSFUL_MESSAGE = colorize("Unable to write to file!", RED);
 
+    /** Statistics related messages. */
+    public static final String STATS_MESSAGE = "Here are the statistics since NotUS started:";
+    public static final String STATS_DUMP_SUCCESSFUL_MESSAGE = colorize("Statistics saved to: ", GREEN);
+    public static final String STATS_DUMP_UNSUCCESSFUL_MESSAGE = colorize("Unable to save the statistics to: ", RED);
+
+    /** Transaction related messages. */
+    public static final String BEGIN_TRANSACTION_SUCCESSFUL_MESSAGE = colorize("Transaction started! "
+            + "Changes will be saved on commit.", GREEN);
+    public static final String COMMIT_TRANSACTION_SUCCESSFUL_MESSAGE = colorize("Transaction committed! "
+            + "All changes are saved.", GREEN);
+    public static final String ROLLBACK_TRANSACTION_SUCCESSFUL_MESSAGE = colorize("Transaction rolled back! "
+            + "All changes since begin are reverted.", GREEN);
+
+    public static final String TRANSACTION_IN_PROGRESS_MESSAGE = colorize("A transaction is already in progress! "
+            + "Commit or rollback first.", RED);
+    public static final String NO_TRANSACTION_MESSAGE = colorize("There is no transaction in progress!", RED);
+
     /** Tag related messages. */
     public static final String HEADER_CREATE_TAG = "Creating tag...";
     public static final String HEADER_DELETE_TAG = "Deleting tags...";
@@ -14,6 +14,8 @@ import java.time.format.DateTimeParseException;
 public class DateTimeManager {
     public static final String DATE_FORMAT = "yyyy-MM-dd HH:mm";
     public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(DATE_FORMAT);
+    public static final String DATE_ONLY_FORMAT = "yyyy-MM-dd";
+    public static final DateTimeFormatter DATE_ONLY_FORMATTER = DateTimeFormatter.ofPattern(DATE_ONLY_FORMAT);
 
     /**
      * Parses a user input into the relevant datetime format specified in the manager.
@@ -32,6 +34,23 @@ public class DateTimeManager {
         return dateTime;
     }
 
+    //@@author Chongjx
+    /**
+     * Parses a user input into a date without a time.
+     *
+     * @param input User input to be parsed
+     * @return Date representation of the user input
+     * @throws SystemException Occurs when the input is not in the yyyy-MM-dd format.
+     */
+    public static LocalDate dateParser(String input) throws SystemException {
+        try {
+            return LocalDate.parse(input, DATE_ONLY_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new SystemException(SystemException.ExceptionType.EXCEPTION_INVALID_DATE_FORMAT);
+        }
+    }
+
+    //@@author brandonywl
     public static String getMonthName(LocalDate date) {
         return date.getMonth().name();
     }
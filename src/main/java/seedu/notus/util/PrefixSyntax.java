@@ -29,12 +29,18 @@ public class PrefixSyntax {
     public static final String PREFIX_REMIND_DROP = "remind-drop";
     public static final String PREFIX_REMIND_CLEAR = "remind-clear";
     public static final String PREFIX_STOP_RECURRING = "stop";
+    public static final String PREFIX_DURATION = "duration";
 
     public static final String STRING_SPLIT_DELIMITER = " ";
     public static final String STRING_SORT_ASCENDING = "up";
     public static final String STRING_SORT_DESCENDING = "down";
     public static final String SUFFIX_INDEX = ". ";
     public static final String TIMING_SPLIT_DELIMITER = "-";
+    public static final String RANGE_DELIMITER = "-";
+
+    /** Listing related prefix. */
+    public static final String PREFIX_PAGE = "page";
+    public static final String PREFIX_LIMIT = "limit";
 
     /** Note content related prefix. */
     public static final String PREFIX_END = "end";
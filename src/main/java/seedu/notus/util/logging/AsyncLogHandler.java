@@ -0,0 +1,184 @@
+package seedu.notus.util.logging;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+//@@author Chongjx
+/**
+ * Represents a log Handler that writes to a file on a background thread. Publishing a record only adds it to a
+ * LogRingBuffer, so the thread that logs never waits for the file. Records are dropped, and counted, when the ring is
+ * full.
+ */
+class AsyncLogHandler extends Handler {
+    private static final int BUFFER_CAPACITY = 1024;
+    /** How long the writer waits for new records once it has written all of them. */
+    private static final long IDLE_WAIT_NANOS = 20_000_000L;
+    private static final String WRITER_THREAD_NAME = "notus-log-writer";
+    private static final String DROPPED_FORMAT = "%d log record(s) dropped as the log buffer was full.%n";
+
+    private final LogRingBuffer buffer = new LogRingBuffer(BUFFER_CAPACITY);
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final File file;
+    private final Thread writerThread;
+    private volatile boolean isClosed = false;
+
+    /**
+     * Constructs a handler that appends to the file and starts its writer thread.
+     *
+     * @param file File to append the records to. It is created with its folders when the first record is written.
+     */
+    AsyncLogHandler(File file) {
+        this.file = file;
+        setFormatter(new LineFormatter());
+        writerThread = new Thread(this::writeRecords, WRITER_THREAD_NAME);
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        if (!buffer.offer(record)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Wakes the writer thread, which flushes the file once it has written the records waiting in the buffer.
+     */
+    @Override
+    public void flush() {
+        LockSupport.unpark(writerThread);
+    }
+
+    /**
+     * Stops accepting records and waits for the writer thread to write the remaining records and close the file.
+     */
+    @Override
+    public void close() {
+        isClosed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the records in the buffer until the handler is closed, flushing the file whenever the buffer is empty.
+     */
+    private void writeRecords() {
+        Writer writer = null;
+        while (true) {
+            LogRecord record = buffer.poll();
+            if (record != null) {
+                writer = write(writer, record);
+                continue;
+            }
+
+            writer = writeDroppedCount(writer);
+            flushQuietly(writer);
+            if (isClosed && buffer.isEmpty()) {
+                break;
+            }
+            LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+        }
+        closeQuietly(writer);
+    }
+
+    private Writer write(Writer writer, LogRecord record) {
+        String line;
+        try {
+            line = getFormatter().format(record);
+        } catch (RuntimeException exception) {
+            reportError("Unable to format the log record.", exception, ErrorManager.FORMAT_FAILURE);
+            return writer;
+        }
+        return write(writer, line);
+    }
+
+    private Writer write(Writer writer, String line) {
+        try {
+            if (writer == null) {
+                writer = open();
+            }
+            writer.write(line);
+        } catch (IOException exception) {
+            reportError("Unable to write to the log file.", exception, ErrorManager.WRITE_FAILURE);
+        }
+        return writer;
+    }
+
+    private Writer writeDroppedCount(Writer writer) {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped == 0) {
+            return writer;
+        }
+        return write(writer, String.format(DROPPED_FORMAT, dropped));
+    }
+
+    private Writer open() throws IOException {
+        File folder = file.getAbsoluteFile().getParentFile();
+        if (folder != null && !folder.exists() && !folder.mkdirs()) {
+            throw new IOException("Unable to create the folder " + folder);
+        }
+        return new BufferedWriter(new FileWriter(file, true));
+    }
+
+    private void flushQuietly(Writer writer) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.flush();
+        } catch (IOException exception) {
+            reportError("Unable to flush the log file.", exception, ErrorManager.FLUSH_FAILURE);
+        }
+    }
+
+    private void closeQuietly(Writer writer) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException exception) {
+            reportError("Unable to close the log file.", exception, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+
+    /**
+     * Formats a record on a single line with its time, level and logger name. The name of the logger is used instead
+     * of the calling class, which cannot be found from the writer thread.
+     */
+    private static class LineFormatter extends Formatter {
+        private static final String LINE_FORMAT = "%1$tF %1$tT %2$s %3$s: %4$s%n";
+
+        @Override
+        public String format(LogRecord record) {
+            String line = String.format(LINE_FORMAT, record.getMillis(), record.getLevel().getName(),
+                    record.getLoggerName(), formatMessage(record));
+            if (record.getThrown() == null) {
+                return line;
+            }
+
+            StringWriter stackTrace = new StringWriter();
+            record.getThrown().printStackTrace(new PrintWriter(stackTrace));
+            return line + stackTrace;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.notus.util.logging;
+
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+//@@author Chongjx
+/**
+ * Represents a Log of a class. Messages take their arguments as {0}, {1} and so on, and are only formatted when the
+ * record is written, so a message at a level that is not logged builds no String.
+ */
+public final class Log {
+    private final Logger logger;
+
+    Log(Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Checks if info messages are logged. Only needed when an argument is itself expensive to get.
+     *
+     * @return true if info messages are logged.
+     */
+    public boolean isInfoEnabled() {
+        return logger.isLoggable(Level.INFO);
+    }
+
+    /**
+     * Logs an info message.
+     *
+     * @param message Message to be logged.
+     */
+    public void info(String message) {
+        if (isInfoEnabled()) {
+            logger.log(createRecord(message, null));
+        }
+    }
+
+    /**
+     * Logs an info message with an argument, which replaces {0} in the message when the record is written.
+     *
+     * @param message Message to be logged.
+     * @param argument Argument of the message.
+     */
+    public void info(String message, Object argument) {
+        if (isInfoEnabled()) {
+            logger.log(createRecord(message, new Object[] {argument}));
+        }
+    }
+
+    private LogRecord createRecord(String message, Object[] arguments) {
+        LogRecord record = new LogRecord(Level.INFO, message);
+        record.setLoggerName(logger.getName());
+        record.setParameters(arguments);
+        return record;
+    }
+}
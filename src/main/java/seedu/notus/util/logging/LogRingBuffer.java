@@ -0,0 +1,80 @@
+package seedu.notus.util.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.LogRecord;
+
+//@@author Chongjx
+/**
+ * Represents a bounded ring of log records that any number of threads can add to without locking, while a single
+ * thread takes the records out in the order they were added.
+ */
+class LogRingBuffer {
+    private final AtomicReferenceArray<LogRecord> slots;
+    private final int capacity;
+    private final int mask;
+    /** Position of the next slot to be claimed by a thread adding a record. */
+    private final AtomicLong tail = new AtomicLong();
+    /** Position of the next slot to be read. Only written by the reading thread. */
+    private volatile long head = 0;
+
+    /**
+     * Constructs a ring that holds up to the capacity, rounded up to a power of two.
+     *
+     * @param capacity Minimum number of records the ring holds.
+     */
+    LogRingBuffer(int capacity) {
+        assert capacity > 0 : "Capacity of the log ring must be positive";
+        int roundedCapacity = 1;
+        while (roundedCapacity < capacity) {
+            roundedCapacity <<= 1;
+        }
+        this.capacity = roundedCapacity;
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+    }
+
+    /**
+     * Adds a record to the ring if there is space for it.
+     *
+     * @param record Record to be added.
+     * @return true if the record was added, false if the ring is full.
+     */
+    boolean offer(LogRecord record) {
+        long position;
+        do {
+            position = tail.get();
+            if (position - head >= capacity) {
+                return false;
+            }
+        } while (!tail.compareAndSet(position, position + 1));
+
+        slots.lazySet((int) (position & mask), record);
+        return true;
+    }
+
+    /**
+     * Takes the oldest record out of the ring. Must only be called by the reading thread.
+     *
+     * @return The oldest record, or null if the ring is empty or the oldest record is still being added.
+     */
+    LogRecord poll() {
+        int index = (int) (head & mask);
+        LogRecord record = slots.get(index);
+        if (record == null) {
+            return null;
+        }
+
+        slots.lazySet(index, null);
+        head = head + 1;
+        return record;
+    }
+
+    boolean isEmpty() {
+        return head == tail.get();
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+}
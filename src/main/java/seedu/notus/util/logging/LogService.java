@@ -0,0 +1,97 @@
+package seedu.notus.util.logging;
+
+import java.io.File;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static seedu.notus.storage.StorageManager.LOGS_DIR;
+
+//@@author Chongjx
+/**
+ * Represents the LogService. Sets up logging once for the whole application, so classes only get their Logger from it.
+ * Records of every logger are written to a single log file by a background thread, and severe records are also
+ * printed to the console.
+ */
+public final class LogService {
+    /** System property of the lowest level to be logged, such as INFO or WARNING. */
+    public static final String LEVEL_PROPERTY = "notus.log.level";
+    public static final String LOG_FILE_PATH = LOGS_DIR + "/notus.log";
+
+    private static final Level DEFAULT_LEVEL = Level.INFO;
+
+    private static boolean isSetup = false;
+
+    private LogService() {
+    }
+
+    /**
+     * Gets the Logger of the name, setting up logging first if it has not been set up.
+     *
+     * @param name Name of the Logger.
+     * @return Logger of the name.
+     */
+    public static Logger getLogger(String name) {
+        setup();
+        return Logger.getLogger(name);
+    }
+
+    /**
+     * Gets the Log of the name, setting up logging first if it has not been set up.
+     *
+     * @param name Name of the Log.
+     * @return Log of the name.
+     */
+    public static Log getLog(String name) {
+        return new Log(getLogger(name));
+    }
+
+    /**
+     * Sets the lowest level to be logged by every Logger.
+     *
+     * @param level Lowest level to be logged.
+     */
+    public static void setLevel(Level level) {
+        setup();
+        Logger.getLogger("").setLevel(level);
+    }
+
+    /**
+     * Replaces the default handlers with the console and log file handlers. Only the first call has any effect.
+     * The log file handler is closed by the LogManager when the application exits, which writes the remaining records.
+     */
+    public static synchronized void setup() {
+        if (isSetup) {
+            return;
+        }
+        isSetup = true;
+
+        LogManager.getLogManager().reset();
+        Logger rootLogger = Logger.getLogger("");
+        rootLogger.setLevel(parseLevel(System.getProperty(LEVEL_PROPERTY)));
+
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.SEVERE);
+        rootLogger.addHandler(consoleHandler);
+        rootLogger.addHandler(new AsyncLogHandler(new File(LOG_FILE_PATH)));
+    }
+
+    /**
+     * Parses the name of a level, such as INFO or WARNING.
+     *
+     * @param levelName Name of the level.
+     * @return The level, or INFO if the name is missing or invalid.
+     */
+    static Level parseLevel(String levelName) {
+        if (levelName == null) {
+            return DEFAULT_LEVEL;
+        }
+
+        try {
+            return Level.parse(levelName.trim().toUpperCase());
+        } catch (IllegalArgumentException exception) {
+            return DEFAULT_LEVEL;
+        }
+    }
+}
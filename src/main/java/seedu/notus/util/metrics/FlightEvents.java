@@ -0,0 +1,135 @@
+package seedu.notus.util.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+//@@author Chongjx
+/**
+ * Contains the Java Flight Recorder events of NotUS. The events are only recorded while a recording is running, such as
+ * one started with -XX:StartFlightRecording, and cost almost nothing otherwise. Each event is created and begun before
+ * the work it measures, then ended, and its sizes are only filled in if it should be committed.
+ */
+public final class FlightEvents {
+    private static final String CATEGORY = "NotUS";
+
+    private FlightEvents() {
+    }
+
+    @Name("seedu.notus.LoadNotes")
+    @Label("Load Notes")
+    @Category({CATEGORY, "Storage"})
+    @Description("Loads the notes or the archived notes from the notebook file")
+    public static class LoadNotes extends Event {
+        @Label("Archived")
+        public boolean isArchive;
+
+        @Label("Notes")
+        public int notes;
+
+        @Label("File Size")
+        @DataAmount(DataAmount.BYTES)
+        public long bytes;
+    }
+
+    @Name("seedu.notus.LoadTimetable")
+    @Label("Load Timetable")
+    @Category({CATEGORY, "Storage"})
+    @Description("Loads the events from the timetable file")
+    public static class LoadTimetable extends Event {
+        @Label("Events")
+        public int events;
+
+        @Label("File Size")
+        @DataAmount(DataAmount.BYTES)
+        public long bytes;
+    }
+
+    @Name("seedu.notus.SaveAll")
+    @Label("Save All")
+    @Category({CATEGORY, "Storage"})
+    @Description("Saves the notebook, archived notebook and timetable files")
+    public static class SaveAll extends Event {
+        @Label("Deferred")
+        @Description("Whether the files are only saved once the deferred saves are committed")
+        public boolean isDeferred;
+
+        @Label("Notes")
+        public int notes;
+
+        @Label("Events")
+        public int events;
+
+        @Label("Files Size")
+        @DataAmount(DataAmount.BYTES)
+        public long bytes;
+    }
+
+    @Name("seedu.notus.ParseCommand")
+    @Label("Parse Command")
+    @Category({CATEGORY, "Parser"})
+    public static class ParseCommand extends Event {
+        @Label("Command Word")
+        public String commandWord;
+
+        @Label("Input Length")
+        public int inputLength;
+
+        @Label("Failed")
+        public boolean isFailed;
+    }
+
+    @Name("seedu.notus.ExpandRecurrences")
+    @Label("Expand Recurrences")
+    @Category({CATEGORY, "Timetable"})
+    @Description("Expands a recurring event into its occurrences within a period")
+    public static class ExpandRecurrences extends Event {
+        @Label("Title")
+        public String title;
+
+        @Label("Days")
+        public long days;
+
+        @Label("Occurrences")
+        public int occurrences;
+
+        @Label("Cached")
+        @Description("Whether the occurrence dates were cached by an earlier expansion of the same days")
+        public boolean isCached;
+    }
+
+    @Name("seedu.notus.Render")
+    @Label("Render")
+    @Category({CATEGORY, "Formatter"})
+    @Description("Formats rows or notes for output")
+    public static class Render extends Event {
+        @Label("Layout")
+        public String layout;
+
+        @Label("Rows")
+        public int rows;
+
+        @Label("Characters")
+        public int characters;
+
+        /**
+         * Ends the event and commits it with its sizes if it should be committed.
+         *
+         * @param layout Layout that was formatted, such as rows or notes.
+         * @param rows Number of rows or notes formatted.
+         * @param characters Number of characters formatted.
+         */
+        public void finish(String layout, int rows, int characters) {
+            end();
+            if (shouldCommit()) {
+                this.layout = layout;
+                this.rows = rows;
+                this.characters = characters;
+                commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.notus.util.metrics;
+
+import java.util.Arrays;
+
+//@@author Chongjx
+/**
+ * Represents a histogram of latencies in nanoseconds. Like an HDR histogram, every power of two is split into 32
+ * buckets of equal width, so a recorded value is kept to within about 3% of itself with a fixed amount of memory.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    /** Latencies are capped at about 18 minutes, 2^40 - 1 nanoseconds. */
+    private static final long MAX_VALUE = (1L << 40) - 1;
+    private static final int BUCKET_COUNT = getIndex(MAX_VALUE) + 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount = 0;
+    private long sum = 0;
+    private long min = Long.MAX_VALUE;
+    private long max = 0;
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos Latency in nanoseconds. Negative latencies are recorded as 0.
+     */
+    public synchronized void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        counts[getIndex(value)]++;
+        totalCount++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Clears all the recorded latencies.
+     */
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    public synchronized long getCount() {
+        return totalCount;
+    }
+
+    public synchronized long getMin() {
+        return (totalCount == 0) ? 0 : min;
+    }
+
+    public synchronized long getMax() {
+        return max;
+    }
+
+    public synchronized long getMean() {
+        return (totalCount == 0) ? 0 : sum / totalCount;
+    }
+
+    /**
+     * Returns the latency that the percentile of the recorded latencies are at or below.
+     *
+     * @param percentile Percentile from 0 to 100.
+     * @return Highest latency of the bucket the percentile falls in, but no more than the highest latency recorded.
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seenCount = 0;
+        for (int index = 0; index < counts.length; index++) {
+            seenCount += counts[index];
+            if (seenCount >= rank) {
+                return Math.min(getHighestValue(index), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the bucket of the value. Values below 64 have a bucket each. Larger values are shifted right until
+     * they are below 64, and the number of shifts picks the group of 32 buckets.
+     */
+    private static int getIndex(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (value >> shift);
+    }
+
+    private static long getHighestValue(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index - (long) shift * SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
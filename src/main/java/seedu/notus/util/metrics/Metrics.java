@@ -0,0 +1,195 @@
+package seedu.notus.util.metrics;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static seedu.notus.storage.StorageManager.LOGS_DIR;
+import static seedu.notus.ui.Formatter.LS;
+
+//@@author Chongjx
+/**
+ * Represents the Metrics of the application. Keeps a LatencyHistogram of the parsing, of every type of command and of
+ * every type of file saved, the number of commands that failed to parse and of bytes written, and the time taken by
+ * each phase of the startup. The metrics can be listed, or dumped to a file that can be read as Java properties.
+ */
+public final class Metrics {
+    public static final String DUMP_FILE_PATH = LOGS_DIR + "/metrics.properties";
+
+    private static final String PARSE_KEY = "parse";
+    private static final String COMMAND_PREFIX = "command.";
+    private static final String SAVE_PREFIX = "save.";
+    private static final String STARTUP_PREFIX = "startup.";
+    private static final String PARSE_FAILURES_KEY = "parse.failures";
+    private static final String BYTES_WRITTEN_KEY = "io.bytes_written";
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    private static final String LATENCY_FORMAT = "%s: %d run(s), p50 %s, p90 %s, p99 %s, max %s";
+    private static final String STARTUP_FORMAT = "Startup %s: %s";
+    private static final String COUNTER_FORMAT = "%s: %d";
+
+    private static final LatencyHistogram PARSE_LATENCY = new LatencyHistogram();
+    private static final TreeMap<String, LatencyHistogram> COMMAND_LATENCIES = new TreeMap<>();
+    private static final TreeMap<String, LatencyHistogram> SAVE_LATENCIES = new TreeMap<>();
+    private static final LinkedHashMap<String, Long> STARTUP_PHASES = new LinkedHashMap<>();
+    private static long parseFailures = 0;
+    private static long bytesWritten = 0;
+
+    private Metrics() {
+    }
+
+    /**
+     * Records the time taken to parse a command.
+     *
+     * @param nanos Time taken in nanoseconds.
+     * @param isFailed Whether the command could not be parsed.
+     */
+    public static synchronized void recordParse(long nanos, boolean isFailed) {
+        PARSE_LATENCY.record(nanos);
+        if (isFailed) {
+            parseFailures++;
+        }
+    }
+
+    /**
+     * Records the time taken to execute a command.
+     *
+     * @param commandName Type of the command, such as AddNoteCommand.
+     * @param nanos Time taken in nanoseconds.
+     */
+    public static synchronized void recordCommand(String commandName, long nanos) {
+        COMMAND_LATENCIES.computeIfAbsent(commandName, name -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Records the time taken to write a file and the number of bytes written to it.
+     *
+     * @param fileName Type of the file, such as notebook or timetable.
+     * @param nanos Time taken in nanoseconds.
+     * @param bytes Number of bytes written.
+     */
+    public static synchronized void recordSave(String fileName, long nanos, long bytes) {
+        SAVE_LATENCIES.computeIfAbsent(fileName, name -> new LatencyHistogram()).record(nanos);
+        bytesWritten += bytes;
+    }
+
+    /**
+     * Records the time taken by a phase of the startup, and returns the time the phase ended so that it can start the
+     * next phase.
+     *
+     * @param phaseName Name of the phase, such as load_notes.
+     * @param startNanos System.nanoTime() when the phase started.
+     * @return System.nanoTime() when the phase ended.
+     */
+    public static synchronized long recordStartupPhase(String phaseName, long startNanos) {
+        long endNanos = System.nanoTime();
+        STARTUP_PHASES.put(phaseName, endNanos - startNanos);
+        return endNanos;
+    }
+
+    /**
+     * Lists the metrics, one line per parser, command type, file type, counter and startup phase.
+     *
+     * @return Lines of the metrics.
+     */
+    public static synchronized ArrayList<String> getSummary() {
+        ArrayList<String> lines = new ArrayList<>();
+        lines.add(formatLatency(PARSE_KEY, PARSE_LATENCY));
+        lines.add(String.format(COUNTER_FORMAT, PARSE_FAILURES_KEY, parseFailures));
+        for (Map.Entry<String, LatencyHistogram> entry : COMMAND_LATENCIES.entrySet()) {
+            lines.add(formatLatency(COMMAND_PREFIX + entry.getKey(), entry.getValue()));
+        }
+        for (Map.Entry<String, LatencyHistogram> entry : SAVE_LATENCIES.entrySet()) {
+            lines.add(formatLatency(SAVE_PREFIX + entry.getKey(), entry.getValue()));
+        }
+        lines.add(String.format(COUNTER_FORMAT, BYTES_WRITTEN_KEY, bytesWritten));
+        for (Map.Entry<String, Long> entry : STARTUP_PHASES.entrySet()) {
+            lines.add(String.format(STARTUP_FORMAT, entry.getKey(), formatNanos(entry.getValue())));
+        }
+        return lines;
+    }
+
+    /**
+     * Writes the metrics as sorted key=value lines, with the latencies in microseconds.
+     *
+     * @param writer Writer to write the metrics to.
+     * @throws IOException if unable to write the metrics.
+     */
+    public static synchronized void dump(Writer writer) throws IOException {
+        TreeMap<String, Long> values = new TreeMap<>();
+        putLatency(values, PARSE_KEY, PARSE_LATENCY);
+        values.put(PARSE_FAILURES_KEY, parseFailures);
+        for (Map.Entry<String, LatencyHistogram> entry : COMMAND_LATENCIES.entrySet()) {
+            putLatency(values, COMMAND_PREFIX + entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, LatencyHistogram> entry : SAVE_LATENCIES.entrySet()) {
+            putLatency(values, SAVE_PREFIX + entry.getKey(), entry.getValue());
+        }
+        values.put(BYTES_WRITTEN_KEY, bytesWritten);
+        for (Map.Entry<String, Long> entry : STARTUP_PHASES.entrySet()) {
+            values.put(STARTUP_PREFIX + entry.getKey() + "_us", toMicros(entry.getValue()));
+        }
+
+        for (Map.Entry<String, Long> entry : values.entrySet()) {
+            writer.write(entry.getKey() + "=" + entry.getValue() + LS);
+        }
+    }
+
+    /**
+     * Dumps the metrics to the dump file, replacing its content.
+     *
+     * @throws IOException if unable to write to the file.
+     */
+    public static void dump() throws IOException {
+        File file = new File(DUMP_FILE_PATH);
+        File folder = file.getAbsoluteFile().getParentFile();
+        if (folder != null && !folder.exists() && !folder.mkdirs()) {
+            throw new IOException("Unable to create the folder " + folder);
+        }
+        try (Writer writer = new BufferedWriter(new FileWriter(file, false))) {
+            dump(writer);
+        }
+    }
+
+    /**
+     * Clears all the metrics.
+     */
+    public static synchronized void reset() {
+        PARSE_LATENCY.reset();
+        COMMAND_LATENCIES.clear();
+        SAVE_LATENCIES.clear();
+        STARTUP_PHASES.clear();
+        parseFailures = 0;
+        bytesWritten = 0;
+    }
+
+    private static void putLatency(TreeMap<String, Long> values, String key, LatencyHistogram histogram) {
+        values.put(key + ".count", histogram.getCount());
+        values.put(key + ".mean_us", toMicros(histogram.getMean()));
+        for (double percentile : PERCENTILES) {
+            values.put(key + ".p" + (int) percentile + "_us", toMicros(histogram.getValueAtPercentile(percentile)));
+        }
+        values.put(key + ".max_us", toMicros(histogram.getMax()));
+    }
+
+    private static String formatLatency(String key, LatencyHistogram histogram) {
+        return String.format(LATENCY_FORMAT, key, histogram.getCount(),
+                formatNanos(histogram.getValueAtPercentile(PERCENTILES[0])),
+                formatNanos(histogram.getValueAtPercentile(PERCENTILES[1])),
+                formatNanos(histogram.getValueAtPercentile(PERCENTILES[2])), formatNanos(histogram.getMax()));
+    }
+
+    private static String formatNanos(long nanos) {
+        return String.format("%.3f ms", nanos / 1_000_000.0);
+    }
+
+    private static long toMicros(long nanos) {
+        return nanos / 1_000;
+    }
+}
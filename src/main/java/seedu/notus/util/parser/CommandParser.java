@@ -0,0 +1,22 @@
+package seedu.notus.util.parser;
+
+import seedu.notus.command.Command;
+import seedu.notus.data.exception.SystemException;
+
+//@@author Chongjx
+/**
+ * Represents a stateless parser that converts the message after a command word into a Command.
+ * Implementations must not keep any per-input state so that a single instance can be reused for every input.
+ */
+@FunctionalInterface
+public interface CommandParser {
+
+    /**
+     * Parses the user message into a Command to be executed.
+     *
+     * @param userMessage Message after the command word. Null if there is no message.
+     * @return Command to be executed.
+     * @throws SystemException if the user message is invalid.
+     */
+    Command parse(String userMessage) throws SystemException;
+}
@@ -0,0 +1,71 @@
+package seedu.notus.util.parser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.TreeSet;
+
+//@@author Chongjx
+/**
+ * Represents a dispatch table that maps command words and their aliases to reusable CommandParser instances.
+ */
+public class CommandRegistry {
+
+    private final HashMap<String, CommandParser> parsers;
+    private final TreeSet<String> commandWords;
+
+    public CommandRegistry() {
+        parsers = new HashMap<>();
+        commandWords = new TreeSet<>();
+    }
+
+    /**
+     * Registers a parser under a command word and any number of aliases. Words are stored in lower case.
+     *
+     * @param commandWord Command word to be registered.
+     * @param parser Parser that handles the message after the command word.
+     * @param aliases Alternative words that map to the same parser.
+     */
+    public void register(String commandWord, CommandParser parser, String... aliases) {
+        assert parser != null;
+        addWord(commandWord, parser);
+        for (String alias : aliases) {
+            addWord(alias, parser);
+        }
+    }
+
+    private void addWord(String word, CommandParser parser) {
+        String key = word.toLowerCase();
+        assert !parsers.containsKey(key) : "Command word registered twice: " + key;
+        parsers.put(key, parser);
+        commandWords.add(key);
+    }
+
+    /**
+     * Returns the parser registered to the command word, ignoring case.
+     *
+     * @param commandWord Command word entered by the user.
+     * @return Registered parser, null if the command word is not recognized.
+     */
+    public CommandParser getParser(String commandWord) {
+        CommandParser parser = parsers.get(commandWord);
+        if (parser == null) {
+            parser = parsers.get(commandWord.toLowerCase());
+        }
+        return parser;
+    }
+
+    /**
+     * Returns all the registered command words and aliases that start with the prefix, in alphabetical order.
+     *
+     * @param prefix Partially typed command word.
+     * @return Matching command words. Empty if there is no match.
+     */
+    public ArrayList<String> complete(String prefix) {
+        String key = prefix.toLowerCase();
+        return new ArrayList<>(commandWords.subSet(key, true, key + Character.MAX_VALUE, false));
+    }
+
+    public int getSize() {
+        return parsers.size();
+    }
+}
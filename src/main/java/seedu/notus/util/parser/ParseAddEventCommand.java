@@ -33,6 +33,10 @@ import static seedu.notus.util.PrefixSyntax.PREFIX_TITLE;
  */
 public class ParseAddEventCommand extends Parser {
 
+    public ParseAddEventCommand() {
+        super();
+    }
+
     public ParseAddEventCommand(String userMessage) {
         super(userMessage);
     }
@@ -48,7 +52,7 @@ public class ParseAddEventCommand extends Parser {
      * @throws SystemException Information provided by the tags are blank, wrong or do not have a default value.
      */
     @Override
-    public Command parse() throws SystemException {
+    public Command parse(String userMessage) throws SystemException {
         // add-e eventTitle /t timing /rec occurrence /rem time before (default same day)
         String title = "";
         LocalDateTime startDateTime = null;
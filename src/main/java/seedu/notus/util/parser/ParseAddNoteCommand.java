@@ -21,6 +21,10 @@ import static seedu.notus.util.PrefixSyntax.PREFIX_LOAD;
  */
 public class ParseAddNoteCommand extends Parser {
 
+    public ParseAddNoteCommand() {
+        super();
+    }
+
     public ParseAddNoteCommand(String userMessage) {
         super(userMessage);
     }
@@ -32,7 +36,7 @@ public class ParseAddNoteCommand extends Parser {
      * @throws SystemException if an error occurs.
      */
     @Override
-    public Command parse() throws SystemException {
+    public Command parse(String userMessage) throws SystemException {
         Note note;
         String title = "";
         ArrayList<String> content = new ArrayList<>();
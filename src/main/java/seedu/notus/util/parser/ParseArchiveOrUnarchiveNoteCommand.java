@@ -7,10 +7,12 @@ import seedu.notus.command.Command;
 import seedu.notus.command.UnarchiveNoteCommand;
 import seedu.notus.data.exception.SystemException;
 import seedu.notus.data.exception.SystemException.ExceptionType;
+import seedu.notus.data.notebook.NoteSelector;
 
 import java.util.ArrayList;
 
 import static seedu.notus.util.PrefixSyntax.PREFIX_INDEX;
+import static seedu.notus.util.PrefixSyntax.PREFIX_TAG;
 import static seedu.notus.util.PrefixSyntax.PREFIX_TITLE;
 
 /**
@@ -20,6 +22,10 @@ public class ParseArchiveOrUnarchiveNoteCommand extends Parser {
 
     boolean isArchive;
 
+    public ParseArchiveOrUnarchiveNoteCommand(boolean isArchive) {
+        this.isArchive = isArchive;
+    }
+
     public ParseArchiveOrUnarchiveNoteCommand(String userMessage, boolean isArchive) {
         super(userMessage);
         this.isArchive = isArchive;
@@ -28,12 +34,13 @@ public class ParseArchiveOrUnarchiveNoteCommand extends Parser {
     /**
      * Prepares userInput before archiving.
      * User can archive or unarchive either via integer value of index or String value of title.
+     * A range of indexes (e.g. 1-500) or a tag archives or unarchives all the matching notes at once.
      *
      * @return Returns an ArchiveNoteCommand or UnarchiveNoteCommand to be executed by NotUS.
      * @throws SystemException if an error occurs.
      */
     @Override
-    public Command parse() throws SystemException {
+    public Command parse(String userMessage) throws SystemException {
         int index;
         String title;
         String prefix;
@@ -48,7 +55,11 @@ public class ParseArchiveOrUnarchiveNoteCommand extends Parser {
                 switch (prefix) {
                 case PREFIX_INDEX:
                     isIndex = true;
-                    index = Integer.parseInt(checkBlank(infoDetails[1], ExceptionType.EXCEPTION_MISSING_INDEX));
+                    String indexInfo = checkBlank(infoDetails[1], ExceptionType.EXCEPTION_MISSING_INDEX);
+                    if (isIndexRange(indexInfo)) {
+                        return createBulkCommand(handleIndexRange(indexInfo));
+                    }
+                    index = Integer.parseInt(indexInfo);
 
                     if (index <= NULL_INDEX) {
                         throw new SystemException(ExceptionType.EXCEPTION_INVALID_INDEX_VALUE);
@@ -67,6 +78,8 @@ public class ParseArchiveOrUnarchiveNoteCommand extends Parser {
                     } else {
                         return new UnarchiveNoteCommand(title);
                     }
+                case PREFIX_TAG:
+                    return createBulkCommand(new NoteSelector(handleTagPrefix(infoDetails).getTagName()));
                 default:
                     throw new SystemException(ExceptionType.EXCEPTION_INVALID_PREFIX);
                 }
@@ -82,4 +95,13 @@ public class ParseArchiveOrUnarchiveNoteCommand extends Parser {
         }
         throw new SystemException(ExceptionType.EXCEPTION_INVALID_INPUT_FORMAT);
     }
+
+    //@@author Chongjx
+    private Command createBulkCommand(NoteSelector selector) {
+        if (isArchive) {
+            return new ArchiveNoteCommand(selector);
+        } else {
+            return new UnarchiveNoteCommand(selector);
+        }
+    }
 }
@@ -19,6 +19,10 @@ import static seedu.notus.util.PrefixSyntax.PREFIX_TAG;
 public class ParseCreateOrDeleteTagCommand extends Parser {
     boolean isCreate;
 
+    public ParseCreateOrDeleteTagCommand(boolean isCreate) {
+        this.isCreate = isCreate;
+    }
+
     public ParseCreateOrDeleteTagCommand(String userMessage, boolean isCreate) {
         super(userMessage);
         this.isCreate = isCreate;
@@ -31,7 +35,7 @@ public class ParseCreateOrDeleteTagCommand extends Parser {
      * @throws SystemException for missing tag prefix or tag name.
      */
     @Override
-    public Command parse() throws SystemException {
+    public Command parse(String userMessage) throws SystemException {
         ArrayList<Tag> tags = new ArrayList<>();
 
         try {
@@ -14,6 +14,10 @@ import java.util.ArrayList;
  */
 public class ParseDeleteEventCommand extends Parser {
 
+    public ParseDeleteEventCommand() {
+        super();
+    }
+
     public ParseDeleteEventCommand(String userMessage) {
         super(userMessage);
     }
@@ -25,7 +29,7 @@ public class ParseDeleteEventCommand extends Parser {
      * @throws SystemException When the index is not numeric (e.g. index = 1%s).
      */
     @Override
-    public Command parse() throws SystemException {
+    public Command parse(String userMessage) throws SystemException {
         int index;
 
         splitInfoDetails(userMessage);
@@ -5,10 +5,12 @@ import seedu.notus.command.Command;
 import seedu.notus.command.DeleteNoteCommand;
 import seedu.notus.data.exception.SystemException;
 import seedu.notus.data.exception.SystemException.ExceptionType;
+import seedu.notus.data.notebook.NoteSelector;
 
 import java.util.ArrayList;
 
 import static seedu.notus.util.PrefixSyntax.PREFIX_INDEX;
+import static seedu.notus.util.PrefixSyntax.PREFIX_TAG;
 import static seedu.notus.util.PrefixSyntax.PREFIX_TITLE;
 
 /**
@@ -16,6 +18,10 @@ import static seedu.notus.util.PrefixSyntax.PREFIX_TITLE;
  */
 public class ParseDeleteNoteCommand extends Parser {
 
+    public ParseDeleteNoteCommand() {
+        super();
+    }
+
     public ParseDeleteNoteCommand(String userMessage) {
         super(userMessage);
     }
@@ -27,7 +33,7 @@ public class ParseDeleteNoteCommand extends Parser {
      * @throws SystemException if an error occurs.
      */
     @Override
-    public Command parse() throws SystemException {
+    public Command parse(String userMessage) throws SystemException {
         int index;
         String title;
         String prefix;
@@ -42,7 +48,11 @@ public class ParseDeleteNoteCommand extends Parser {
                 switch (prefix) {
                 case PREFIX_INDEX:
                     isIndex = true;
-                    index = Integer.parseInt(checkBlank(infoDetails[1], ExceptionType.EXCEPTION_MISSING_INDEX));
+                    String indexInfo = checkBlank(infoDetails[1], ExceptionType.EXCEPTION_MISSING_INDEX);
+                    if (isIndexRange(indexInfo)) {
+                        return new DeleteNoteCommand(handleIndexRange(indexInfo));
+                    }
+                    index = Integer.parseInt(indexInfo);
 
                     if (index <= NULL_INDEX) {
                         throw new SystemException(ExceptionType.EXCEPTION_INVALID_INDEX_VALUE);
@@ -51,6 +61,8 @@ public class ParseDeleteNoteCommand extends Parser {
                 case PREFIX_TITLE:
                     title = checkBlank(infoDetails[1], ExceptionType.EXCEPTION_MISSING_TITLE);
                     return new DeleteNoteCommand(title);
+                case PREFIX_TAG:
+                    return new DeleteNoteCommand(new NoteSelector(handleTagPrefix(infoDetails).getTagName()));
                 default:
                     throw new SystemException(ExceptionType.EXCEPTION_INVALID_PREFIX);
                 }
@@ -29,12 +29,16 @@ import static seedu.notus.util.PrefixSyntax.PREFIX_TITLE;
  */
 public class ParseEditEventCommand extends Parser {
 
+    public ParseEditEventCommand() {
+        super();
+    }
+
     public ParseEditEventCommand(String userMessage) {
         super(userMessage);
     }
 
     @Override
-    public Command parse() throws SystemException {
+    public Command parse(String userMessage) throws SystemException {
 
         int index = -1;
         String newTitle = "";
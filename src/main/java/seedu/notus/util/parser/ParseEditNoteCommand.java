@@ -26,6 +26,10 @@ import static seedu.notus.util.PrefixSyntax.PREFIX_TITLE;
  */
 public class ParseEditNoteCommand extends Parser {
 
+    public ParseEditNoteCommand() {
+        super();
+    }
+
     public ParseEditNoteCommand(String userMessage) {
         super(userMessage);
     }
@@ -37,7 +41,7 @@ public class ParseEditNoteCommand extends Parser {
      * @throws SystemException if an error occurs.
      */
     @Override
-    public Command parse() throws SystemException {
+    public Command parse(String userMessage) throws SystemException {
         int index = 0;
 
         String prefixClashMode = "";
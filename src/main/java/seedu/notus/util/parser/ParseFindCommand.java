@@ -6,38 +6,80 @@ import seedu.notus.command.Command;
 import seedu.notus.command.FindCommand;
 import seedu.notus.data.exception.SystemException;
 import seedu.notus.data.exception.SystemException.ExceptionType;
+import seedu.notus.ui.Page;
+import seedu.notus.util.logging.Log;
+import seedu.notus.util.logging.LogService;
 
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import static seedu.notus.util.PrefixSyntax.PREFIX_LIMIT;
+import static seedu.notus.util.PrefixSyntax.PREFIX_PAGE;
 
 /**
  * Represents a parser object specifically to parse message for FindCommand.
  */
 public class ParseFindCommand extends Parser {
 
+    public ParseFindCommand() {
+        super();
+    }
+
     public ParseFindCommand(String userMessage) {
         super(userMessage);
     }
 
     /**
      * Ensures that the user does not leave input blank after entering the find command word.
+     * The keywords may be followed by /page and /limit to show only a page of the matching notes.
      *
      * @return Returns a FindCommand to be executed by NotUS.
      * @throws SystemException for missing keyword.
      */
     @Override
-    public Command parse() throws SystemException {
-        Logger loggerFind = Logger.getLogger("ParserPrepareFind");
-        setupLogger(loggerFind, "FindCommandParser.log");
+    public Command parse(String userMessage) throws SystemException {
+        Log loggerFind = LogService.getLog("ParserPrepareFind");
 
+        String pageOptions = "";
         try {
-            userMessage = checkBlank(userMessage, ExceptionType.EXCEPTION_MISSING_KEYWORD);
-            loggerFind.log(Level.INFO, "If no null pointer, keyword is trimmed.");
+            int pageOptionsIndex = indexOfPageOptions(userMessage);
+            pageOptions = userMessage.substring(pageOptionsIndex);
+            userMessage = checkBlank(userMessage.substring(0, pageOptionsIndex),
+                    ExceptionType.EXCEPTION_MISSING_KEYWORD);
+            loggerFind.info("If no null pointer, keyword is trimmed.");
         } catch (NullPointerException exception) {
-            loggerFind.log(Level.INFO, "Null pointer exception caught.");
+            loggerFind.info("Null pointer exception caught.");
             throw new SystemException(ExceptionType.EXCEPTION_MISSING_KEYWORD);
         }
-        loggerFind.log(Level.INFO, "Will execute FindCommand");
-        return new FindCommand(userMessage);
+        loggerFind.info("Will execute FindCommand");
+        FindCommand command = new FindCommand(userMessage);
+        command.setPage(parsePageOptions(pageOptions));
+        return command;
+    }
+
+    //@@author Chongjx
+    /**
+     * Parses the page and limit prefixes that follow the keywords.
+     *
+     * @param pageOptions Part of the user message after the keywords.
+     * @return Page to be shown, null if there are no prefixes.
+     * @throws SystemException for other prefixes or invalid page values.
+     */
+    private Page parsePageOptions(String pageOptions) throws SystemException {
+        int pageNumber = 0;
+        int pageSize = 0;
+
+        for (String[] infoDetails : splitInfoDetails(pageOptions)) {
+            String prefix = infoDetails[0].toLowerCase();
+
+            switch (prefix) {
+            case PREFIX_PAGE:
+                pageNumber = handlePageValue(infoDetails);
+                break;
+            case PREFIX_LIMIT:
+                pageSize = handlePageValue(infoDetails);
+                break;
+            default:
+                throw new SystemException(ExceptionType.EXCEPTION_INVALID_PREFIX);
+            }
+        }
+        return createPage(pageNumber, pageSize);
     }
 }
@@ -0,0 +1,95 @@
+package seedu.notus.util.parser;
+
+import seedu.notus.command.Command;
+import seedu.notus.command.FreeSlotCommand;
+import seedu.notus.data.exception.SystemException;
+import seedu.notus.data.exception.SystemException.ExceptionType;
+import seedu.notus.data.timetable.FreeSlotFinder;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+
+import static seedu.notus.util.PrefixSyntax.PREFIX_DURATION;
+import static seedu.notus.util.PrefixSyntax.PREFIX_END_TIMING;
+import static seedu.notus.util.PrefixSyntax.PREFIX_LIMIT;
+import static seedu.notus.util.PrefixSyntax.PREFIX_TIMING;
+
+//@@author Chongjx
+/**
+ * Represents a parser object specifically to parse message for FreeSlotCommand.
+ */
+public class ParseFreeSlotCommand extends Parser {
+
+    /** Length of the time period searched when no end date is given. */
+    public static final int DEFAULT_PERIOD_IN_DAYS = 7;
+    /** Longest time period that can be searched. */
+    public static final int MAX_PERIOD_IN_YEARS = 10;
+
+    /**
+     * Parses the length of the free slots and the time period to search. The period starts today if no start date is
+     * given, and lasts a week if no end date is given.
+     *
+     * @param userMessage User input message without the command word.
+     * @return FreeSlotCommand of the length and time period.
+     * @throws SystemException if the length, a date or the period is invalid.
+     */
+    @Override
+    public Command parse(String userMessage) throws SystemException {
+        LocalDate startDate = null;
+        LocalDate endDate = null;
+        int minutes = 0;
+        int slotLimit = FreeSlotCommand.DEFAULT_SLOT_LIMIT;
+
+        ArrayList<String[]> splitInfoDetails = splitInfoDetails(userMessage);
+        for (String[] infoDetails : splitInfoDetails) {
+            String prefix = infoDetails[0].toLowerCase();
+            switch (prefix) {
+            case PREFIX_DURATION:
+                minutes = handleDurationValue(infoDetails);
+                break;
+            case PREFIX_TIMING:
+                startDate = handleDateValue(infoDetails);
+                break;
+            case PREFIX_END_TIMING:
+                endDate = handleDateValue(infoDetails);
+                break;
+            case PREFIX_LIMIT:
+                slotLimit = handlePageValue(infoDetails);
+                break;
+            default:
+                throw new SystemException(ExceptionType.EXCEPTION_INVALID_PREFIX);
+            }
+        }
+
+        if (minutes == 0) {
+            throw new SystemException(ExceptionType.EXCEPTION_INVALID_DURATION);
+        }
+        if (startDate == null) {
+            startDate = LocalDate.now();
+        }
+        if (endDate == null) {
+            endDate = startDate.plusDays(DEFAULT_PERIOD_IN_DAYS);
+        }
+        if (endDate.isBefore(startDate) || ChronoUnit.YEARS.between(startDate, endDate) >= MAX_PERIOD_IN_YEARS) {
+            throw new SystemException(ExceptionType.EXCEPTION_INVALID_FREE_PERIOD);
+        }
+        return new FreeSlotCommand(startDate, endDate, minutes, slotLimit);
+    }
+
+    private int handleDurationValue(String[] infoDetails) throws SystemException {
+        if (infoDetails.length < 2) {
+            throw new SystemException(ExceptionType.EXCEPTION_INVALID_DURATION);
+        }
+
+        try {
+            int minutes = Integer.parseInt(checkBlank(infoDetails[1], ExceptionType.EXCEPTION_INVALID_DURATION));
+            if (minutes <= 0 || minutes >= FreeSlotFinder.MINUTES_PER_DAY) {
+                throw new SystemException(ExceptionType.EXCEPTION_INVALID_DURATION);
+            }
+            return minutes;
+        } catch (NumberFormatException exception) {
+            throw new SystemException(ExceptionType.EXCEPTION_INVALID_DURATION);
+        }
+    }
+}
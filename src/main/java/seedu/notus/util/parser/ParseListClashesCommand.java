@@ -0,0 +1,70 @@
+package seedu.notus.util.parser;
+
+import seedu.notus.command.Command;
+import seedu.notus.command.ListClashesCommand;
+import seedu.notus.data.exception.SystemException;
+import seedu.notus.data.exception.SystemException.ExceptionType;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+
+import static seedu.notus.util.PrefixSyntax.PREFIX_END_TIMING;
+import static seedu.notus.util.PrefixSyntax.PREFIX_TIMING;
+
+//@@author Chongjx
+/**
+ * Represents a parser object specifically to parse message for ListClashesCommand.
+ */
+public class ParseListClashesCommand extends Parser {
+
+    /** Length of the time period checked when no end date is given. */
+    public static final int DEFAULT_PERIOD_IN_MONTHS = 1;
+
+    /**
+     * Parses the start and end dates of the time period to check. The period starts today if no start date is given,
+     * and lasts a month if no end date is given.
+     *
+     * @param userMessage User input message without the command word.
+     * @return ListClashesCommand of the time period.
+     * @throws SystemException if a date is invalid or the period is invalid.
+     */
+    @Override
+    public Command parse(String userMessage) throws SystemException {
+        LocalDate startDate = null;
+        LocalDate endDate = null;
+
+        if (userMessage != null) {
+            ArrayList<String[]> splitInfoDetails = splitInfoDetails(userMessage);
+            if (splitInfoDetails.size() == 0) {
+                throw new SystemException(ExceptionType.EXCEPTION_INVALID_PREFIX);
+            }
+
+            for (String[] infoDetails : splitInfoDetails) {
+                String prefix = infoDetails[0].toLowerCase();
+                switch (prefix) {
+                case PREFIX_TIMING:
+                    startDate = handleDateValue(infoDetails);
+                    break;
+                case PREFIX_END_TIMING:
+                    endDate = handleDateValue(infoDetails);
+                    break;
+                default:
+                    throw new SystemException(ExceptionType.EXCEPTION_INVALID_PREFIX);
+                }
+            }
+        }
+
+        if (startDate == null) {
+            startDate = LocalDate.now();
+        }
+        if (endDate == null) {
+            endDate = startDate.plusMonths(DEFAULT_PERIOD_IN_MONTHS);
+        }
+        if (endDate.isBefore(startDate)
+                || ChronoUnit.DAYS.between(startDate, endDate) >= ListClashesCommand.MAX_PERIOD_IN_DAYS) {
+            throw new SystemException(ExceptionType.EXCEPTION_INVALID_CLASH_PERIOD);
+        }
+        return new ListClashesCommand(startDate, endDate);
+    }
+}
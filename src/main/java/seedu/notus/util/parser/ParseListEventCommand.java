@@ -6,9 +6,12 @@ import seedu.notus.command.Command;
 import seedu.notus.command.ListEventCommand;
 import seedu.notus.data.exception.SystemException;
 import seedu.notus.data.exception.SystemException.ExceptionType;
+import seedu.notus.ui.Page;
 
 import java.util.ArrayList;
 
+import static seedu.notus.util.PrefixSyntax.PREFIX_LIMIT;
+import static seedu.notus.util.PrefixSyntax.PREFIX_PAGE;
 import static seedu.notus.util.PrefixSyntax.PREFIX_TIMING;
 import static seedu.notus.util.PrefixSyntax.TIMING_SPLIT_DELIMITER;
 
@@ -17,12 +20,16 @@ import static seedu.notus.util.PrefixSyntax.TIMING_SPLIT_DELIMITER;
  */
 public class ParseListEventCommand extends Parser {
 
+    public ParseListEventCommand() {
+        super();
+    }
+
     public ParseListEventCommand(String userMessage) {
         super(userMessage);
     }
 
     @Override
-    public Command parse() throws SystemException {
+    public Command parse(String userMessage) throws SystemException {
         if (userMessage == null) {
             return new ListEventCommand();
         } else {
@@ -30,6 +37,8 @@ public class ParseListEventCommand extends Parser {
             String details = "";
             int year;
             int month;
+            int pageNumber = 0;
+            int pageSize = 0;
 
             if (splitInfoDetails.size() == 0) {
                 throw new SystemException(ExceptionType.EXCEPTION_MISSING_TIMING_PREFIX);
@@ -40,10 +49,24 @@ public class ParseListEventCommand extends Parser {
                 if (PREFIX_TIMING.equalsIgnoreCase(prefix)) {
                     ExceptionType exception = ExceptionType.EXCEPTION_INVALID_LIST_TIMING_FORMAT;
                     details = checkBlank(infoDetails[1], exception);
+                } else if (PREFIX_PAGE.equals(prefix)) {
+                    pageNumber = handlePageValue(infoDetails);
+                } else if (PREFIX_LIMIT.equals(prefix)) {
+                    pageSize = handlePageValue(infoDetails);
                 } else {
                     throw new SystemException(ExceptionType.EXCEPTION_INVALID_PREFIX);
                 }
             }
+
+            Page page = createPage(pageNumber, pageSize);
+            if (page != null && !details.isEmpty()) {
+                throw new SystemException(ExceptionType.EXCEPTION_PAGE_WITH_TIMING);
+            } else if (page != null) {
+                ListEventCommand command = new ListEventCommand();
+                command.setPage(page);
+                return command;
+            }
+
             try {
                 String[] timings = details.split(TIMING_SPLIT_DELIMITER);
                 if (timings.length == 1) {
@@ -10,6 +10,8 @@ import seedu.notus.data.exception.SystemException.ExceptionType;
 import java.util.ArrayList;
 
 import static seedu.notus.util.PrefixSyntax.PREFIX_ARCHIVE;
+import static seedu.notus.util.PrefixSyntax.PREFIX_LIMIT;
+import static seedu.notus.util.PrefixSyntax.PREFIX_PAGE;
 import static seedu.notus.util.PrefixSyntax.PREFIX_SORT;
 import static seedu.notus.util.PrefixSyntax.PREFIX_TAG;
 import static seedu.notus.util.PrefixSyntax.STRING_SORT_ASCENDING;
@@ -20,6 +22,10 @@ import static seedu.notus.util.PrefixSyntax.STRING_SORT_DESCENDING;
  */
 public class ParseListNoteCommand extends Parser {
 
+    public ParseListNoteCommand() {
+        super();
+    }
+
     public ParseListNoteCommand(String userMessage) {
         super(userMessage);
     }
@@ -30,11 +36,12 @@ public class ParseListNoteCommand extends Parser {
      * list-n /tag TAG up/down
      * tags and up/down are optional parameters for users to input
      * up/down is to sort the list alphabetically either A-Z or Z-A
+     * /page and /limit are optional parameters to list only a page of the notes
      *
      * @return Returns a ListNoteCommand to be executed by NotUS.
      */
     @Override
-    public Command parse() throws SystemException {
+    public Command parse(String userMessage) throws SystemException {
         // If no optional parameters, return default display of list note
         if (userMessage == null) {
             return new ListNoteCommand();
@@ -46,6 +53,8 @@ public class ParseListNoteCommand extends Parser {
         Boolean isAscending = null;
         ArrayList<String> tagsName = new ArrayList<>();
         boolean isTag = false;
+        int pageNumber = 0;
+        int pageSize = 0;
 
         try {
             ArrayList<String[]> splitInfo = splitInfoDetails(userMessage);
@@ -77,6 +86,14 @@ public class ParseListNoteCommand extends Parser {
                     isTag = false;
                     isArchive = true;
                     break;
+                case PREFIX_PAGE:
+                    isTag = false;
+                    pageNumber = handlePageValue(infoDetails);
+                    break;
+                case PREFIX_LIMIT:
+                    isTag = false;
+                    pageSize = handlePageValue(infoDetails);
+                    break;
                 default:
                     throw new SystemException(ExceptionType.EXCEPTION_INVALID_PREFIX);
                 }
@@ -89,20 +106,23 @@ public class ParseListNoteCommand extends Parser {
             }
         }
 
-        if (isArchive) {
-            return new ListNoteCommand(true);
-        }
+        ListNoteCommand command;
 
         // No optional parameters case as it is already accounted
         // Minimally if no tag, will have up/down and vice versa
-        if (tagsName.isEmpty() && isAscending == null) {
-            return new ListNoteCommand();
+        if (isArchive) {
+            command = new ListNoteCommand(true);
+        } else if (tagsName.isEmpty() && isAscending == null) {
+            command = new ListNoteCommand();
         } else if (tagsName.isEmpty() && isAscending != null) {
-            return new ListNoteCommand(isAscending);
+            command = new ListNoteCommand(isAscending);
         } else if (!tagsName.isEmpty() && isAscending == null) {
-            return new ListNoteCommand(tagsName);
+            command = new ListNoteCommand(tagsName);
         } else {
-            return new ListNoteCommand(isAscending, tagsName);
+            command = new ListNoteCommand(isAscending, tagsName);
         }
+
+        command.setPage(createPage(pageNumber, pageSize));
+        return command;
     }
 }
@@ -6,10 +6,12 @@ import seedu.notus.command.Command;
 import seedu.notus.command.PinCommand;
 import seedu.notus.data.exception.SystemException;
 import seedu.notus.data.exception.SystemException.ExceptionType;
+import seedu.notus.data.notebook.NoteSelector;
 
 import java.util.ArrayList;
 
 import static seedu.notus.util.PrefixSyntax.PREFIX_INDEX;
+import static seedu.notus.util.PrefixSyntax.PREFIX_TAG;
 import static seedu.notus.util.PrefixSyntax.PREFIX_TITLE;
 
 /**
@@ -17,12 +19,16 @@ import static seedu.notus.util.PrefixSyntax.PREFIX_TITLE;
  */
 public class ParsePinCommand extends Parser {
 
+    public ParsePinCommand() {
+        super();
+    }
+
     public ParsePinCommand(String userMessage) {
         super(userMessage);
     }
 
     @Override
-    public Command parse() throws SystemException {
+    public Command parse(String userMessage) throws SystemException {
         String title;
         int index;
         boolean isTitle = false;
@@ -41,11 +47,17 @@ public class ParsePinCommand extends Parser {
                     return new PinCommand(title);
                 case PREFIX_INDEX:
                     exception = ExceptionType.EXCEPTION_MISSING_INDEX;
-                    index = Integer.parseInt(checkBlank(infoDetails[1], exception));
+                    String indexInfo = checkBlank(infoDetails[1], exception);
+                    if (isIndexRange(indexInfo)) {
+                        return new PinCommand(handleIndexRange(indexInfo));
+                    }
+                    index = Integer.parseInt(indexInfo);
                     if (index <= NULL_INDEX) {
                         throw new SystemException(ExceptionType.EXCEPTION_INVALID_INDEX_VALUE);
                     }
                     return new PinCommand(index - 1);
+                case PREFIX_TAG:
+                    return new PinCommand(new NoteSelector(handleTagPrefix(infoDetails).getTagName()));
                 default:
                     throw new SystemException(ExceptionType.EXCEPTION_INVALID_PREFIX);
                 }
@@ -7,6 +7,7 @@ import seedu.notus.command.TagEventCommand;
 import seedu.notus.command.TagNoteCommand;
 import seedu.notus.data.exception.SystemException;
 import seedu.notus.data.exception.SystemException.ExceptionType;
+import seedu.notus.data.notebook.NoteSelector;
 import seedu.notus.data.tag.Tag;
 
 import java.util.ArrayList;
@@ -20,6 +21,10 @@ import static seedu.notus.util.PrefixSyntax.PREFIX_TAG;
 public class ParseTagCommand extends Parser {
     boolean isNote;
 
+    public ParseTagCommand(boolean isNote) {
+        this.isNote = isNote;
+    }
+
     public ParseTagCommand(String userMessage, boolean isNote) {
         super(userMessage);
         this.isNote = isNote;
@@ -32,8 +37,9 @@ public class ParseTagCommand extends Parser {
      * @throws SystemException for invalid index input, missing tag prefix or tag name.
      */
     @Override
-    public Command parse() throws SystemException {
+    public Command parse(String userMessage) throws SystemException {
         int index = NULL_INDEX;
+        NoteSelector selector = null;
         ArrayList<Tag> tags = new ArrayList<>();
 
         try {
@@ -48,7 +54,12 @@ public class ParseTagCommand extends Parser {
                     break;
                 case PREFIX_INDEX:
                     ExceptionType exception = ExceptionType.EXCEPTION_MISSING_INDEX;
-                    index = Integer.parseInt(checkBlank(infoDetails[1].trim(), exception));
+                    String indexInfo = checkBlank(infoDetails[1].trim(), exception);
+                    if (isNote && isIndexRange(indexInfo)) {
+                        selector = handleIndexRange(indexInfo);
+                        break;
+                    }
+                    index = Integer.parseInt(indexInfo);
                     if (index <= NULL_INDEX) {
                         throw new SystemException(ExceptionType.EXCEPTION_INVALID_INDEX_VALUE);
                     }
@@ -60,7 +71,7 @@ public class ParseTagCommand extends Parser {
             if (tags.isEmpty()) {
                 throw new SystemException(ExceptionType.EXCEPTION_MISSING_TAG_PREFIX);
             }
-            if (index <= NULL_INDEX) {
+            if (index <= NULL_INDEX && selector == null) {
                 throw new SystemException(ExceptionType.EXCEPTION_MISSING_INDEX_PREFIX);
             }
         } catch (ArrayIndexOutOfBoundsException exception) {
@@ -69,7 +80,9 @@ public class ParseTagCommand extends Parser {
             throw new SystemException(ExceptionType.EXCEPTION_INVALID_INDEX_FORMAT);
         }
 
-        if (isNote) {
+        if (selector != null) {
+            return new TagNoteCommand(selector, tags);
+        } else if (isNote) {
             return new TagNoteCommand(index - 1, tags);
         } else {
             return new TagEventCommand(index - 1, tags);
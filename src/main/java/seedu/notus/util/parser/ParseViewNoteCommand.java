@@ -17,12 +17,16 @@ import static seedu.notus.util.PrefixSyntax.PREFIX_TITLE;
  */
 public class ParseViewNoteCommand extends Parser {
 
+    public ParseViewNoteCommand() {
+        super();
+    }
+
     public ParseViewNoteCommand(String userMessage) {
         super(userMessage);
     }
 
     @Override
-    public Command parse() throws SystemException {
+    public Command parse(String userMessage) throws SystemException {
         String title;
         int index;
         boolean isTitle = false;
@@ -4,18 +4,26 @@ import seedu.notus.command.Command;
 
 import seedu.notus.data.exception.SystemException;
 import seedu.notus.data.exception.SystemException.ExceptionType;
+import seedu.notus.data.notebook.NoteSelector;
 import seedu.notus.data.tag.Tag;
 import seedu.notus.data.timetable.Event;
 import seedu.notus.ui.Formatter;
+import seedu.notus.ui.Page;
+import seedu.notus.util.DateTimeManager;
 
 import static seedu.notus.util.PrefixSyntax.PREFIX_DELIMITER;
 import static seedu.notus.util.PrefixSyntax.PREFIX_END;
 import static seedu.notus.util.PrefixSyntax.PREFIX_DELETE_LINE;
+import static seedu.notus.util.PrefixSyntax.PREFIX_LIMIT;
+import static seedu.notus.util.PrefixSyntax.PREFIX_PAGE;
+import static seedu.notus.util.PrefixSyntax.RANGE_DELIMITER;
 import static seedu.notus.util.PrefixSyntax.STRING_SPLIT_DELIMITER;
 import static seedu.notus.util.PrefixSyntax.TIMING_SPLIT_DELIMITER;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -23,17 +31,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
 import java.util.TreeMap;
-import java.util.logging.ConsoleHandler;
-import java.util.logging.FileHandler;
-import java.util.logging.Level;
-import java.util.logging.LogManager;
-import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Parses user input.
  */
-public abstract class Parser {
+public abstract class Parser implements CommandParser {
     protected static final int CONTAINS_TAG_COLOR_INFO = 2;
     protected static final int NULL_INDEX = 0;
     protected String userMessage;
@@ -41,12 +45,33 @@ public abstract class Parser {
         "Enter Note:", "*/del to delete previous line*", "*/end on a new line to end note input*"
     };
 
+    /** Matches the first page or limit prefix that follows free text, e.g. the keywords of find-n. */
+    private static final Pattern PAGE_OPTIONS_PATTERN = Pattern.compile("(^|\\s)" + PREFIX_DELIMITER
+            + "(" + PREFIX_PAGE + "|" + PREFIX_LIMIT + ")(\\s|$)", Pattern.CASE_INSENSITIVE);
+
+    /** Script that note contents are read from in batch mode. Null when contents are typed in the console. */
+    private static BufferedReader contentReader = null;
+
     //@@author Chongjx
+    public Parser() {
+    }
+
     public Parser(String userMessage) {
         this.userMessage = userMessage;
     }
 
-    public abstract Command parse() throws SystemException;
+    /**
+     * Parses the user message provided when this parser was constructed.
+     *
+     * @return Command to be executed.
+     * @throws SystemException if the user message is invalid.
+     */
+    public Command parse() throws SystemException {
+        return parse(userMessage);
+    }
+
+    @Override
+    public abstract Command parse(String userMessage) throws SystemException;
 
     /**
      * Splits the userMessage into the respective info by the delimiter.
@@ -91,6 +116,106 @@ public abstract class Parser {
         }
     }
 
+    //@@author Chongjx
+    /**
+     * Checks if the index info is a range of indexes, e.g. 1-500. A leading "-" is the sign of a single index.
+     *
+     * @param indexInfo Info after the index prefix.
+     * @return true if the info is a range of indexes.
+     */
+    static boolean isIndexRange(String indexInfo) {
+        return indexInfo.indexOf(RANGE_DELIMITER, 1) > 0;
+    }
+
+    /**
+     * Creates a NoteSelector for an inclusive range of indexes, e.g. 1-500.
+     *
+     * @param indexInfo Info after the index prefix.
+     * @return NoteSelector of the range.
+     * @throws SystemException for non-numeric or invalid index values.
+     */
+    static NoteSelector handleIndexRange(String indexInfo) throws SystemException {
+        String[] range = indexInfo.split(RANGE_DELIMITER, 2);
+
+        try {
+            int startIndex = Integer.parseInt(range[0].trim());
+            int endIndex = Integer.parseInt(range[1].trim());
+
+            if (startIndex <= NULL_INDEX || endIndex < startIndex) {
+                throw new SystemException(ExceptionType.EXCEPTION_INVALID_INDEX_VALUE);
+            }
+            return new NoteSelector(startIndex - 1, endIndex - 1);
+        } catch (NumberFormatException exception) {
+            throw new SystemException(ExceptionType.EXCEPTION_INVALID_INDEX_FORMAT);
+        }
+    }
+
+    /**
+     * Parses the value of a page or limit prefix.
+     *
+     * @param infoDetails Prefix and the info after it.
+     * @return Positive value of the prefix.
+     * @throws SystemException if the value is missing, non-numeric or not positive.
+     */
+    static int handlePageValue(String[] infoDetails) throws SystemException {
+        if (infoDetails.length < 2) {
+            throw new SystemException(ExceptionType.EXCEPTION_INVALID_PAGE_VALUE);
+        }
+
+        try {
+            int value = Integer.parseInt(checkBlank(infoDetails[1], ExceptionType.EXCEPTION_INVALID_PAGE_VALUE));
+            if (value <= NULL_INDEX) {
+                throw new SystemException(ExceptionType.EXCEPTION_INVALID_PAGE_VALUE);
+            }
+            return value;
+        } catch (NumberFormatException exception) {
+            throw new SystemException(ExceptionType.EXCEPTION_INVALID_PAGE_VALUE);
+        }
+    }
+
+    /**
+     * Parses the date after a prefix.
+     *
+     * @param infoDetails Prefix and the info after it.
+     * @return Date after the prefix.
+     * @throws SystemException if the date is missing or not in the yyyy-MM-dd format.
+     */
+    static LocalDate handleDateValue(String[] infoDetails) throws SystemException {
+        if (infoDetails.length < 2) {
+            throw new SystemException(ExceptionType.EXCEPTION_INVALID_DATE_FORMAT);
+        }
+        return DateTimeManager.dateParser(checkBlank(infoDetails[1], ExceptionType.EXCEPTION_INVALID_DATE_FORMAT));
+    }
+
+    /**
+     * Creates the page to be shown from the values of the page and limit prefixes.
+     *
+     * @param pageNumber Value of the page prefix, 0 if it is not given.
+     * @param pageSize Value of the limit prefix, 0 if it is not given.
+     * @return Page to be shown, null if neither prefix is given.
+     */
+    static Page createPage(int pageNumber, int pageSize) {
+        if (pageNumber == NULL_INDEX && pageSize == NULL_INDEX) {
+            return null;
+        }
+        return new Page(pageNumber == NULL_INDEX ? Page.FIRST_PAGE : pageNumber,
+                pageSize == NULL_INDEX ? Page.DEFAULT_PAGE_SIZE : pageSize);
+    }
+
+    /**
+     * Returns the index of the first page or limit prefix in a message that starts with free text.
+     *
+     * @param userMessage Original string of the user message.
+     * @return Index of the delimiter of the prefix, or the length of the message if there is no such prefix.
+     */
+    static int indexOfPageOptions(String userMessage) {
+        Matcher matcher = PAGE_OPTIONS_PATTERN.matcher(userMessage);
+        if (!matcher.find()) {
+            return userMessage.length();
+        }
+        return matcher.start() + matcher.group(1).length();
+    }
+
     //@@author brandonywl
     /**
      * Provides a parser method for converting user input to a reminder schedule for add and edit event commands.
@@ -179,6 +304,10 @@ public abstract class Parser {
      * @throws StringIndexOutOfBoundsException if an error occurs.
      */
     public static ArrayList<String> inputContent() {
+        if (contentReader != null) {
+            return readScriptContent();
+        }
+
         boolean isInputSuccess = false;
         ArrayList<String> inputString;
 
@@ -221,6 +350,43 @@ public abstract class Parser {
         return inputString;
     }
 
+    //@@author Chongjx
+    /**
+     * Sets the script that note contents are read from instead of the console.
+     *
+     * @param reader Script being executed, null to read from the console again.
+     */
+    public static void setContentReader(BufferedReader reader) {
+        contentReader = reader;
+    }
+
+    /**
+     * Reads the note content from the script up to the /end line or the end of the script. Nothing is printed and
+     * /del removes the previous line, as in the console.
+     *
+     * @return Lines of the note content.
+     */
+    private static ArrayList<String> readScriptContent() {
+        ArrayList<String> inputString = new ArrayList<>();
+        try {
+            String line;
+            while ((line = contentReader.readLine()) != null
+                    && !line.equalsIgnoreCase(PREFIX_DELIMITER + PREFIX_END)) {
+                if (line.equalsIgnoreCase(PREFIX_DELIMITER + PREFIX_DELETE_LINE)) {
+                    if (!inputString.isEmpty()) {
+                        inputString.remove(inputString.size() - 1);
+                    }
+                } else {
+                    inputString.add(line);
+                }
+            }
+        } catch (IOException exception) {
+            contentReader = null;
+        }
+        return inputString;
+    }
+
+    //@@author Nazryl
     /**
      * Reverse the map integers values for an easier flow of setting map.
      *
@@ -267,33 +433,4 @@ public abstract class Parser {
 
         return lists;
     }
-
-    //@@author R-Ramana
-    /**
-     * Set Up method for logging
-     * Takes in a Logger variable to ensure that separates loggers can be used
-     * for the respective methods.
-     * Sets up what to be printed to the console (only logs that are severe)
-     * Sets up what to be printed to the file (logs that are of Level.INFO and above)
-     *
-     * @param logger A Logger variable to be used
-     * @param logFileName Name to be given for .log file.
-     */
-    void setupLogger(Logger logger, String logFileName) {
-        LogManager.getLogManager().reset();
-        logger.setLevel(Level.INFO);
-
-        ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(Level.SEVERE);
-        logger.addHandler(consoleHandler);
-
-        try {
-            FileHandler fileHandler = new FileHandler(logFileName);
-            fileHandler.setFormatter(new SimpleFormatter());
-            fileHandler.setLevel(Level.INFO);
-            logger.addHandler(fileHandler);
-        } catch (IOException error) {
-            logger.log(Level.SEVERE, "File logger not working.", error);
-        }
-    }
 }
\ No newline at end of file
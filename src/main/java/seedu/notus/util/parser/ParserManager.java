@@ -4,6 +4,8 @@ import seedu.notus.command.Command;
 import seedu.notus.command.AddNoteCommand;
 import seedu.notus.command.AddEventCommand;
 import seedu.notus.command.ArchiveNoteCommand;
+import seedu.notus.command.BeginCommand;
+import seedu.notus.command.CommitCommand;
 import seedu.notus.command.CreateTagCommand;
 import seedu.notus.command.DeleteNoteCommand;
 import seedu.notus.command.DeleteEventCommand;
@@ -12,91 +14,145 @@ import seedu.notus.command.EditNoteCommand;
 import seedu.notus.command.EditEventCommand;
 import seedu.notus.command.ExitCommand;
 import seedu.notus.command.FindCommand;
+import seedu.notus.command.FreeSlotCommand;
 import seedu.notus.command.HelpCommand;
 import seedu.notus.command.IncorrectCommand;
+import seedu.notus.command.ListClashesCommand;
 import seedu.notus.command.ListNoteCommand;
 import seedu.notus.command.ListEventCommand;
 import seedu.notus.command.ListTagCommand;
+import seedu.notus.command.MoreCommand;
 import seedu.notus.command.PinCommand;
 import seedu.notus.command.RemindCommand;
+import seedu.notus.command.RollbackCommand;
+import seedu.notus.command.StatsCommand;
 import seedu.notus.command.TagEventCommand;
 import seedu.notus.command.TagNoteCommand;
 import seedu.notus.command.UnarchiveNoteCommand;
 import seedu.notus.command.ViewNoteCommand;
 import seedu.notus.data.exception.SystemException;
+import seedu.notus.util.metrics.FlightEvents;
+import seedu.notus.util.metrics.Metrics;
+
+import java.util.ArrayList;
 
 public class ParserManager {
+    private static final char COMMAND_WORD_DELIMITER = ' ';
+
+    /** Dispatch table shared by all ParserManagers. The parsers are stateless and built once. */
+    private static final CommandRegistry DEFAULT_REGISTRY = createDefaultRegistry();
+
+    private final CommandRegistry registry;
+
+    public ParserManager() {
+        this(DEFAULT_REGISTRY);
+    }
+
+    public ParserManager(CommandRegistry registry) {
+        this.registry = registry;
+    }
+
     //@@author Chongjx
+    /**
+     * Creates the dispatch table of all the commands recognized by NotUS.
+     *
+     * @return Registry containing the parser of every command word.
+     */
+    private static CommandRegistry createDefaultRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+
+        registry.register(AddNoteCommand.COMMAND_WORD, new ParseAddNoteCommand());
+        registry.register(AddEventCommand.COMMAND_WORD, new ParseAddEventCommand());
+        registry.register(ArchiveNoteCommand.COMMAND_WORD, new ParseArchiveOrUnarchiveNoteCommand(true));
+        registry.register(UnarchiveNoteCommand.COMMAND_WORD, new ParseArchiveOrUnarchiveNoteCommand(false));
+        registry.register(ListNoteCommand.COMMAND_WORD, new ParseListNoteCommand());
+        registry.register(ListEventCommand.COMMAND_WORD, new ParseListEventCommand());
+        registry.register(ViewNoteCommand.COMMAND_WORD, new ParseViewNoteCommand());
+        registry.register(EditNoteCommand.COMMAND_WORD, new ParseEditNoteCommand());
+        registry.register(EditEventCommand.COMMAND_WORD, new ParseEditEventCommand());
+        registry.register(DeleteNoteCommand.COMMAND_WORD, new ParseDeleteNoteCommand());
+        registry.register(DeleteEventCommand.COMMAND_WORD, new ParseDeleteEventCommand());
+        registry.register(FindCommand.COMMAND_WORD, new ParseFindCommand());
+        registry.register(PinCommand.COMMAND_WORD, new ParsePinCommand());
+        registry.register(CreateTagCommand.COMMAND_WORD, new ParseCreateOrDeleteTagCommand(true));
+        registry.register(DeleteTagCommand.COMMAND_WORD, new ParseCreateOrDeleteTagCommand(false));
+        registry.register(ListTagCommand.COMMAND_WORD, userMessage -> new ListTagCommand());
+        registry.register(TagNoteCommand.COMMAND_WORD, new ParseTagCommand(true));
+        registry.register(TagEventCommand.COMMAND_WORD, new ParseTagCommand(false));
+        registry.register(RemindCommand.COMMAND_WORD, userMessage -> new RemindCommand());
+        registry.register(ExitCommand.COMMAND_WORD, userMessage -> new ExitCommand(), ExitCommand.COMMAND_ALIAS);
+        registry.register(HelpCommand.COMMAND_WORD, userMessage -> new HelpCommand());
+        registry.register(BeginCommand.COMMAND_WORD, userMessage -> new BeginCommand());
+        registry.register(CommitCommand.COMMAND_WORD, userMessage -> new CommitCommand());
+        registry.register(RollbackCommand.COMMAND_WORD, userMessage -> new RollbackCommand());
+        registry.register(MoreCommand.COMMAND_WORD, userMessage -> new MoreCommand());
+        registry.register(StatsCommand.COMMAND_WORD, userMessage -> new StatsCommand());
+        registry.register(ListClashesCommand.COMMAND_WORD, new ParseListClashesCommand());
+        registry.register(FreeSlotCommand.COMMAND_WORD, new ParseFreeSlotCommand());
+
+        return registry;
+    }
+
     /**
      * Parses userInput string into a Command to be executed.
+     * The time taken, and whether the userInput could be parsed, are recorded in the Metrics.
      *
      * @param userInput Original string of the userInput.
      * @return Command to be executed.
      */
     public Command parseCommand(String userInput) {
-        String[] userCommandAndArguments = userInput.split(" ", 2);
-        String commandString = userCommandAndArguments[0];
-        String userMessage;
+        FlightEvents.ParseCommand event = new FlightEvents.ParseCommand();
+        event.begin();
+        long startNanos = System.nanoTime();
+        Command command = parse(userInput);
+        boolean isFailed = command instanceof IncorrectCommand;
+        Metrics.recordParse(System.nanoTime() - startNanos, isFailed);
 
-        try {
-            userMessage = userCommandAndArguments[1].trim();
+        event.end();
+        if (event.shouldCommit()) {
+            int delimiterIndex = userInput.indexOf(COMMAND_WORD_DELIMITER);
+            event.commandWord = (delimiterIndex < 0) ? userInput : userInput.substring(0, delimiterIndex);
+            event.inputLength = userInput.length();
+            event.isFailed = isFailed;
+            event.commit();
+        }
+        return command;
+    }
+
+    private Command parse(String userInput) {
+        int delimiterIndex = userInput.indexOf(COMMAND_WORD_DELIMITER);
+        String commandString;
+        String userMessage = null;
+
+        if (delimiterIndex < 0) {
+            commandString = userInput;
+        } else {
+            commandString = userInput.substring(0, delimiterIndex);
+            userMessage = userInput.substring(delimiterIndex + 1).trim();
 
             if (userMessage.isBlank()) {
                 userMessage = null;
             }
-        } catch (ArrayIndexOutOfBoundsException exception) {
-            userMessage = null;
         }
 
         try {
-            switch (commandString.toLowerCase()) {
-            case AddNoteCommand.COMMAND_WORD:
-                return new ParseAddNoteCommand(userMessage).parse();
-            case AddEventCommand.COMMAND_WORD:
-                return new ParseAddEventCommand(userMessage).parse();
-            case ArchiveNoteCommand.COMMAND_WORD:
-                return new ParseArchiveOrUnarchiveNoteCommand(userMessage, true).parse();
-            case UnarchiveNoteCommand.COMMAND_WORD:
-                return new ParseArchiveOrUnarchiveNoteCommand(userMessage, false).parse();
-            case ListNoteCommand.COMMAND_WORD:
-                return new ParseListNoteCommand(userMessage).parse();
-            case ListEventCommand.COMMAND_WORD:
-                return new ParseListEventCommand(userMessage).parse();
-            case ViewNoteCommand.COMMAND_WORD:
-                return new ParseViewNoteCommand(userMessage).parse();
-            case EditNoteCommand.COMMAND_WORD:
-                return new ParseEditNoteCommand(userMessage).parse();
-            case EditEventCommand.COMMAND_WORD:
-                return new ParseEditEventCommand(userMessage).parse();
-            case DeleteNoteCommand.COMMAND_WORD:
-                return new ParseDeleteNoteCommand(userMessage).parse();
-            case DeleteEventCommand.COMMAND_WORD:
-                return new ParseDeleteEventCommand(userMessage).parse();
-            case FindCommand.COMMAND_WORD:
-                return new ParseFindCommand(userMessage).parse();
-            case PinCommand.COMMAND_WORD:
-                return new ParsePinCommand(userMessage).parse();
-            case CreateTagCommand.COMMAND_WORD:
-                return new ParseCreateOrDeleteTagCommand(userMessage, true).parse();
-            case DeleteTagCommand.COMMAND_WORD:
-                return new ParseCreateOrDeleteTagCommand(userMessage, false).parse();
-            case ListTagCommand.COMMAND_WORD:
-                return new ListTagCommand();
-            case TagNoteCommand.COMMAND_WORD:
-                return new ParseTagCommand(userMessage, true).parse();
-            case TagEventCommand.COMMAND_WORD:
-                return new ParseTagCommand(userMessage, false).parse();
-            case RemindCommand.COMMAND_WORD:
-                return new RemindCommand();
-            case ExitCommand.COMMAND_WORD:
-                return new ExitCommand();
-            case HelpCommand.COMMAND_WORD:
-                return new HelpCommand();
-            default:
+            CommandParser parser = registry.getParser(commandString);
+            if (parser == null) {
                 throw new SystemException(SystemException.ExceptionType.EXCEPTION_INVALID_COMMAND);
             }
+            return parser.parse(userMessage);
         } catch (SystemException exception) {
             return new IncorrectCommand(exception.getMessage());
         }
     }
+
+    /**
+     * Returns the command words that start with the partially typed command word.
+     *
+     * @param prefix Partially typed command word.
+     * @return Matching command words in alphabetical order.
+     */
+    public ArrayList<String> completeCommandWord(String prefix) {
+        return registry.complete(prefix);
+    }
 }
@@ -0,0 +1,106 @@
+package seedu.notus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.notus.data.notebook.Notebook;
+import seedu.notus.data.tag.TagManager;
+import seedu.notus.data.timetable.Timetable;
+import seedu.notus.storage.StorageManager;
+import seedu.notus.storage.StorageManagerStub;
+import seedu.notus.util.parser.ParserManager;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Chongjx
+class BatchRunnerTest {
+
+    private Notebook notebook;
+    private Timetable timetable;
+    private TagManager tagManager;
+    private StorageManager storageManager;
+    private ByteArrayOutputStream outContent;
+    private BatchRunner batchRunner;
+
+    @BeforeEach
+    void setUp() {
+        notebook = new Notebook();
+        timetable = new Timetable();
+        tagManager = new TagManager();
+        ParserManager parserManager = new ParserManager();
+        storageManager = new StorageManagerStub(timetable, parserManager, notebook, tagManager);
+        outContent = new ByteArrayOutputStream();
+        batchRunner = new BatchRunner(parserManager, notebook, timetable, tagManager, storageManager,
+                new PrintStream(outContent));
+    }
+
+    @Test
+    void run_validAndInvalidCommands_executesValidAndReportsInvalid() throws IOException {
+        String script = "# comment" + System.lineSeparator()
+                + "create-t /tag BatchTag" + System.lineSeparator()
+                + System.lineSeparator()
+                + "hello" + System.lineSeparator()
+                + "list-t" + System.lineSeparator();
+
+        batchRunner.run(new BufferedReader(new StringReader(script)));
+
+        assertEquals(2, batchRunner.getExecutedCount());
+        assertEquals(0, batchRunner.getFailedCount());
+        assertEquals(1, batchRunner.getInvalidCount());
+        assertNotNull(tagManager.getTag("BatchTag"));
+        assertTrue(outContent.toString().startsWith("Line 4: "));
+        assertFalse(storageManager.isSaveDeferred());
+    }
+
+    @Test
+    void run_commandFailsToExecute_reportsFailedLine() throws IOException {
+        String script = "create-t /tag BatchTag" + System.lineSeparator()
+                + "pin-n /i 3" + System.lineSeparator()
+                + "hello" + System.lineSeparator();
+
+        batchRunner.run(new BufferedReader(new StringReader(script)));
+
+        assertEquals(1, batchRunner.getExecutedCount());
+        assertEquals(1, batchRunner.getFailedCount());
+        assertEquals(1, batchRunner.getInvalidCount());
+        assertTrue(outContent.toString().startsWith("Line 2: This note does not exist in the notebook!"
+                + System.lineSeparator() + "Line 3: "));
+    }
+
+    @Test
+    void run_addNoteWithContent_readsContentFromScript() throws IOException {
+        String script = "add-n /t BatchNote" + System.lineSeparator()
+                + "first line" + System.lineSeparator()
+                + "typo" + System.lineSeparator()
+                + "/del" + System.lineSeparator()
+                + "second line" + System.lineSeparator()
+                + "/end" + System.lineSeparator()
+                + "hello" + System.lineSeparator();
+
+        batchRunner.run(new BufferedReader(new StringReader(script)));
+
+        assertEquals(1, notebook.getSize());
+        assertEquals(2, notebook.getNotes().get(0).getContent().size());
+        assertEquals("second line", notebook.getNotes().get(0).getContent().get(1));
+        assertTrue(outContent.toString().startsWith("Line 7: "));
+    }
+
+    @Test
+    void run_exitCommand_stopsExecution() throws IOException {
+        String script = "exit" + System.lineSeparator()
+                + "create-t /tag BatchTag" + System.lineSeparator();
+
+        batchRunner.run(new BufferedReader(new StringReader(script)));
+
+        assertEquals(0, batchRunner.getExecutedCount());
+        assertEquals(0, tagManager.getTagMap().size());
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.notus.data.exception.SystemException;
 import seedu.notus.data.notebook.Note;
+import seedu.notus.data.notebook.NoteSelector;
 import seedu.notus.data.notebook.Notebook;
 import seedu.notus.data.notebook.NotebookStub;
 import seedu.notus.data.tag.Tag;
@@ -19,9 +20,12 @@ import java.io.IOException;
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.notus.storage.StorageManager.FOLDER_DIR;
 import static seedu.notus.storage.StorageManager.NOTES_DIR;
 import static seedu.notus.util.CommandMessage.ARCHIVE_NOTE_SUCCESSFUL_MESSAGE;
+import static seedu.notus.util.CommandMessage.BULK_ARCHIVE_NOTE_SUCCESSFUL_MESSAGE;
+import static seedu.notus.util.CommandMessage.BULK_NOTES_NOT_PROCESSED_MESSAGE;
 import static seedu.notus.util.CommandMessage.INDEX_OUT_OF_RANGE_MESSAGE;
 import static seedu.notus.util.CommandMessage.NOTE_DOES_NOT_EXIST_MESSAGE;
 
@@ -136,6 +140,24 @@ class ArchiveNoteCommandTest {
         assertEquals(expected, result);
     }
 
+    //@@author Chongjx
+    @Test
+    void execute_bulkWithMissingContentFile_skipsNote() throws SystemException {
+        storageManager.deleteNoteContentFile("TestNote1", false);
+        ArchiveNoteCommand archiveCommand = new ArchiveNoteCommand(new NoteSelector(0, 2));
+        archiveCommand.setData(notebook, null, tagManager, storageManager);
+
+        ArrayList<String> expected = new ArrayList<>();
+        expected.add(BULK_ARCHIVE_NOTE_SUCCESSFUL_MESSAGE + 2);
+        expected.add(BULK_NOTES_NOT_PROCESSED_MESSAGE + "TestNote1");
+        assertEquals(Formatter.formatString(expected, false), archiveCommand.execute());
+        assertEquals(2, notebook.getSize());
+        assertEquals("TestNote1", notebook.getNote(0).getTitle());
+        assertEquals(2, notebook.getArchivedNoteSize());
+        assertTrue(storageManager.noteExists(notebook.getArchivedNotes().get(0), true));
+    }
+
+    //@@author R-Ramana
     private String getCommandExecutionString(Notebook notebook, String keyword) {
         ArchiveNoteCommand archiveCommand = new ArchiveNoteCommand(keyword);
         archiveCommand.setData(notebook, null, null, storageManager);
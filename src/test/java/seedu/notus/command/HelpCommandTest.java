@@ -13,6 +13,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.notus.util.CommandMessage.ADD_E_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.ADD_N_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.ARCHIVE_N_COMMAND_USAGE;
+import static seedu.notus.util.CommandMessage.CLASHES_E_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.CREATE_T_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.DELETE_E_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.DELETE_N_COMMAND_USAGE;
@@ -21,13 +22,17 @@ import static seedu.notus.util.CommandMessage.EDIT_E_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.EDIT_N_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.EXIT_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.FIND_N_COMMAND_USAGE;
+import static seedu.notus.util.CommandMessage.FREE_E_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.LIST_E_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.LIST_N_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.LIST_T_COMMAND_USAGE;
+import static seedu.notus.util.CommandMessage.MORE_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.PIN_N_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.REMIND_E_COMMAND_USAGE;
+import static seedu.notus.util.CommandMessage.STATS_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.TAG_E_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.TAG_N_COMMAND_USAGE;
+import static seedu.notus.util.CommandMessage.TRANSACTION_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.UNARCHIVE_N_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.VIEW_N_COMMAND_USAGE;
 
@@ -58,7 +63,12 @@ class HelpCommandTest {
             colorize(TAG_E_COMMAND_USAGE, WHITE),
             colorize(TAG_N_COMMAND_USAGE, CYAN),
             colorize(UNARCHIVE_N_COMMAND_USAGE, WHITE),
-            colorize(VIEW_N_COMMAND_USAGE, CYAN)
+            colorize(VIEW_N_COMMAND_USAGE, CYAN),
+            colorize(TRANSACTION_COMMAND_USAGE, WHITE),
+            colorize(MORE_COMMAND_USAGE, CYAN),
+            colorize(STATS_COMMAND_USAGE, WHITE),
+            colorize(CLASHES_E_COMMAND_USAGE, CYAN),
+            colorize(FREE_E_COMMAND_USAGE, WHITE)
     };
 
     @Test
@@ -0,0 +1,63 @@
+package seedu.notus.command;
+
+import org.junit.jupiter.api.Test;
+import seedu.notus.data.exception.SystemException;
+import seedu.notus.data.timetable.Event;
+import seedu.notus.data.timetable.Timetable;
+import seedu.notus.util.parser.ParseListClashesCommand;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.notus.util.CommandMessage.CLASH_FORMAT;
+import static seedu.notus.util.CommandMessage.NO_CLASHES_MESSAGE;
+
+//@@author Chongjx
+class ListClashesCommandTest {
+    private static final LocalDateTime START_DATE_TIME = LocalDateTime.of(2020, 8, 27, 13, 0);
+    private static final LocalDate START_DATE = START_DATE_TIME.toLocalDate();
+
+    private final Timetable timetable = new Timetable();
+
+    @Test
+    void execute_clashingEvents_clashListed() {
+        timetable.addEvent(new Event("Tutorial", START_DATE_TIME, START_DATE_TIME.plusHours(1), false, false));
+        timetable.addEvent(new Event("Lecture", START_DATE_TIME.plusMinutes(30), START_DATE_TIME.plusHours(2),
+                false, false));
+
+        String result = execute("/timing 2020-08-27 /end 2020-08-31");
+        assertTrue(result.contains(String.format(CLASH_FORMAT, START_DATE, "Tutorial", "13:00", "14:00",
+                "Lecture", "13:30", "15:00")));
+    }
+
+    @Test
+    void execute_noClashes_noClashesMessage() {
+        timetable.addEvent(new Event("Tutorial", START_DATE_TIME, START_DATE_TIME.plusHours(1), false, false));
+
+        String result = execute("/timing 2020-08-27");
+        assertTrue(result.contains(String.format(NO_CLASHES_MESSAGE, START_DATE, START_DATE.plusMonths(1))));
+    }
+
+    @Test
+    void parse_invalidPeriod_exceptionThrown() {
+        ParseListClashesCommand parser = new ParseListClashesCommand();
+        SystemException exception = assertThrows(SystemException.class,
+            () -> parser.parse("/timing 2020-08-27 /end 2020-08-26"));
+        assertEquals(SystemException.ExceptionType.EXCEPTION_INVALID_CLASH_PERIOD.toString(), exception.getMessage());
+        assertThrows(SystemException.class, () -> parser.parse("/timing 2020-08-27 /end 2022-08-27"));
+        assertThrows(SystemException.class, () -> parser.parse("/timing 27-08-2020"));
+    }
+
+    private String execute(String userMessage) {
+        try {
+            Command command = new ParseListClashesCommand().parse(userMessage);
+            command.setData(null, timetable, null, null);
+            return command.execute();
+        } catch (SystemException exception) {
+            throw new AssertionError(exception);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.notus.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.notebook.Notebook;
+import seedu.notus.data.tag.TagManager;
+import seedu.notus.data.timetable.Event;
+import seedu.notus.data.timetable.Timetable;
+import seedu.notus.storage.StorageManager;
+import seedu.notus.ui.Formatter;
+import seedu.notus.ui.Page;
+import seedu.notus.util.parser.ParserManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.notus.util.CommandMessage.EMPTY_PAGE_MESSAGE;
+import static seedu.notus.util.CommandMessage.LIST_EVENT_SUCCESSFUL_MESSAGE;
+import static seedu.notus.util.CommandMessage.LIST_NOTES_MESSAGE;
+import static seedu.notus.util.CommandMessage.MORE_PAGES_MESSAGE;
+import static seedu.notus.util.CommandMessage.NO_MORE_PAGES_MESSAGE;
+import static seedu.notus.util.CommandMessage.PAGE_HEADER;
+import static seedu.notus.util.CommandMessage.PINNED_NOTES_MESSAGE;
+import static seedu.notus.util.CommandMessage.UNPINNED_NOTES_MESSAGE;
+
+//@@author Chongjx
+class MoreCommandTest {
+
+    private Notebook notebook;
+    private Timetable timetable;
+    private TagManager tagManager;
+    private StorageManager storageManager;
+    private ParserManager parserManager;
+
+    @BeforeEach
+    void setUp() {
+        notebook = new Notebook();
+        timetable = new Timetable();
+        tagManager = new TagManager();
+        parserManager = new ParserManager();
+        storageManager = new StorageManager(timetable, parserManager, notebook, tagManager);
+
+        for (int i = 1; i <= 5; i++) {
+            notebook.addNote(new Note("Note" + i, new ArrayList<>(List.of("content" + i)), false, false));
+        }
+    }
+
+    private String execute(Command command) {
+        command.setData(notebook, timetable, tagManager, storageManager);
+        return command.execute();
+    }
+
+    private String formatPage(String header, int pageNumber, List<Note> notes) {
+        return Formatter.formatNotes(header + String.format(PAGE_HEADER, pageNumber), new ArrayList<>(notes),
+                notebook);
+    }
+
+    @Test
+    void execute_limitThenMore_showsEachPageInTurn() {
+        Command command = parserManager.parseCommand("list-n /limit 2");
+        ArrayList<Note> notes = notebook.getNotes();
+
+        assertEquals(formatPage(LIST_NOTES_MESSAGE, 1, notes.subList(0, 2))
+                + Formatter.formatString(MORE_PAGES_MESSAGE),
+                execute(command));
+        PagedCommand pendingPage = PagedCommand.getPendingPage(command);
+        assertSame(command, pendingPage);
+
+        MoreCommand moreCommand = (MoreCommand) parserManager.parseCommand("more");
+        moreCommand.setPagedCommand(pendingPage);
+        assertEquals(formatPage(LIST_NOTES_MESSAGE, 2, notes.subList(2, 4))
+                + Formatter.formatString(MORE_PAGES_MESSAGE),
+                execute(moreCommand));
+        assertSame(command, PagedCommand.getPendingPage(moreCommand));
+
+        moreCommand = new MoreCommand();
+        moreCommand.setPagedCommand(pendingPage);
+        assertEquals(formatPage(LIST_NOTES_MESSAGE, 3, notes.subList(4, 5)), execute(moreCommand));
+        assertNull(PagedCommand.getPendingPage(moreCommand));
+    }
+
+    @Test
+    void execute_noPendingPage_returnsNoMorePages() {
+        assertEquals(Formatter.formatString(NO_MORE_PAGES_MESSAGE), execute(new MoreCommand()));
+    }
+
+    @Test
+    void execute_pageAfterLastNote_returnsEmptyPage() {
+        ListNoteCommand command = new ListNoteCommand();
+        command.setPage(new Page(4, 2));
+
+        assertEquals(Formatter.formatString(String.format(EMPTY_PAGE_MESSAGE, 4)), execute(command));
+        assertFalse(command.hasNextPage());
+    }
+
+    @Test
+    void execute_pageAcrossPinnedAndUnpinned_showsBothHeaders() {
+        notebook.getNote(0).setPinned(true);
+        notebook.getNote(1).setPinned(true);
+        ListNoteCommand command = new ListNoteCommand();
+        command.setPage(new Page(1, 3));
+
+        String expected = formatPage(PINNED_NOTES_MESSAGE, 1, notebook.getPinnedNotes())
+                + formatPage(UNPINNED_NOTES_MESSAGE, 1, notebook.getUnpinnedNotes().subList(0, 1))
+                + Formatter.formatString(MORE_PAGES_MESSAGE);
+        assertEquals(expected, execute(command));
+
+        command.nextPage();
+        assertEquals(formatPage(UNPINNED_NOTES_MESSAGE, 2, notebook.getUnpinnedNotes().subList(1, 3)),
+                execute(command));
+        assertFalse(command.hasNextPage());
+    }
+
+    @Test
+    void execute_morePinnedNotesThanPage_promptsForEachPage() {
+        for (int i = 0; i < notebook.getSize(); i++) {
+            notebook.getNote(i).setPinned(true);
+        }
+        Command command = parserManager.parseCommand("list-n /limit 2");
+        ArrayList<Note> pinned = notebook.getPinnedNotes();
+
+        assertEquals(formatPage(PINNED_NOTES_MESSAGE, 1, pinned.subList(0, 2))
+                + Formatter.formatString(MORE_PAGES_MESSAGE), execute(command));
+        PagedCommand pendingPage = PagedCommand.getPendingPage(command);
+        assertSame(command, pendingPage);
+
+        MoreCommand moreCommand = new MoreCommand();
+        moreCommand.setPagedCommand(pendingPage);
+        assertEquals(formatPage(PINNED_NOTES_MESSAGE, 2, pinned.subList(2, 4))
+                + Formatter.formatString(MORE_PAGES_MESSAGE), execute(moreCommand));
+        assertSame(command, PagedCommand.getPendingPage(moreCommand));
+
+        moreCommand = new MoreCommand();
+        moreCommand.setPagedCommand(pendingPage);
+        assertEquals(formatPage(PINNED_NOTES_MESSAGE, 3, pinned.subList(4, 5)), execute(moreCommand));
+        assertNull(PagedCommand.getPendingPage(moreCommand));
+    }
+
+    @Test
+    void execute_pagedEvents_continuesIndexes() {
+        LocalDateTime start = LocalDateTime.of(2020, 10, 10, 10, 0);
+        for (int i = 0; i < 3; i++) {
+            timetable.addEvent(new Event("Event" + i, start.plusDays(i), start.plusDays(i).plusHours(1)));
+        }
+        Command command = parserManager.parseCommand("list-e /page 2 /limit 2");
+
+        String result = execute(command);
+        assertTrue(result.contains("3. Event: Event2"));
+        assertTrue(result.contains(LIST_EVENT_SUCCESSFUL_MESSAGE + String.format(PAGE_HEADER, 2)));
+        assertFalse(result.contains("Event: Event1"));
+        assertNull(PagedCommand.getPendingPage(command));
+    }
+}
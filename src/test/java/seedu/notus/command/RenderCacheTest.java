@@ -0,0 +1,114 @@
+package seedu.notus.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.notebook.Notebook;
+import seedu.notus.data.tag.Tag;
+import seedu.notus.data.tag.TagManager;
+import seedu.notus.data.timetable.Event;
+import seedu.notus.data.timetable.Timetable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Chongjx
+class RenderCacheTest {
+
+    private Notebook notebook;
+    private Timetable timetable;
+    private TagManager tagManager;
+
+    @BeforeEach
+    void setUp() {
+        notebook = new Notebook();
+        timetable = new Timetable();
+        tagManager = new TagManager();
+
+        notebook.addNote(new Note("First", new ArrayList<>(List.of("first content")), false, false));
+        notebook.addNote(new Note("Second", new ArrayList<>(List.of("second content")), false, false));
+    }
+
+    private String execute(Command command) {
+        command.setData(notebook, timetable, tagManager, null);
+        return command.execute();
+    }
+
+    @Test
+    void execute_unchangedNotebook_reusesOutput() {
+        String output = execute(new ListNoteCommand());
+
+        assertSame(output, execute(new ListNoteCommand()));
+        assertNotSame(output, execute(new ListNoteCommand(true)));
+    }
+
+    @Test
+    void execute_modifiedNotebook_rendersAgain() {
+        String output = execute(new ListNoteCommand());
+
+        notebook.addNote(new Note("Third", new ArrayList<>(List.of("third content")), false, false));
+        String outputAfterAdd = execute(new ListNoteCommand());
+        assertTrue(outputAfterAdd.contains("Third"));
+
+        notebook.getNote(0).togglePinned();
+        notebook.markModified();
+        assertNotEquals(outputAfterAdd, execute(new ListNoteCommand()));
+        assertNotEquals(output, outputAfterAdd);
+    }
+
+    @Test
+    void execute_taggedNote_rendersAgain() {
+        String output = execute(new ListNoteCommand());
+        Tag tag = new Tag("Important", Tag.COLOR_RED_STRING);
+        tagManager.createTag(tag, false);
+        tagManager.tagObject(notebook.getNote(0), tag);
+
+        String outputAfterTag = execute(new ListNoteCommand());
+        assertNotEquals(output, outputAfterTag);
+        assertTrue(outputAfterTag.contains(tag.toString()));
+    }
+
+    @Test
+    void execute_otherNotebookWithSameGeneration_doesNotReuseOutput() {
+        String output = execute(new ListNoteCommand());
+
+        notebook = new Notebook();
+        notebook.addNote(new Note("Other", new ArrayList<>(List.of("other content")), false, false));
+        notebook.addNote(new Note("Another", new ArrayList<>(List.of("another content")), false, false));
+        String otherOutput = execute(new ListNoteCommand());
+
+        assertNotEquals(output, otherOutput);
+        assertTrue(otherOutput.contains("Another"));
+    }
+
+    @Test
+    void execute_modifiedTimetable_rendersAgain() {
+        LocalDateTime start = LocalDateTime.of(2020, 10, 10, 10, 0);
+        timetable.addEvent(new Event("Lecture", start, start.plusHours(2)));
+        String output = execute(new ListEventCommand());
+        assertSame(output, execute(new ListEventCommand()));
+
+        timetable.addEvent(new Event("Tutorial", start.plusDays(1), start.plusDays(1).plusHours(1)));
+        assertTrue(execute(new ListEventCommand()).contains("Tutorial"));
+    }
+
+    @Test
+    void get_evictsLeastRecentlyUsedOutput() {
+        RenderCache cache = new RenderCache();
+        for (int i = 0; i < 33; i++) {
+            cache.put("key" + i, notebook, timetable, tagManager, "output" + i, false);
+        }
+
+        assertEquals(32, cache.size());
+        assertNull(cache.get("key0", notebook, timetable, tagManager));
+        assertEquals("output32", cache.get("key32", notebook, timetable, tagManager).getOutput());
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.notus.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.notebook.Notebook;
+import seedu.notus.data.tag.Tag;
+import seedu.notus.data.tag.TagManager;
+import seedu.notus.data.timetable.Event;
+import seedu.notus.data.timetable.Timetable;
+import seedu.notus.storage.StorageManagerStub;
+import seedu.notus.ui.Formatter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.notus.util.CommandMessage.NO_TRANSACTION_MESSAGE;
+import static seedu.notus.util.CommandMessage.ROLLBACK_TRANSACTION_SUCCESSFUL_MESSAGE;
+import static seedu.notus.util.CommandMessage.TRANSACTION_IN_PROGRESS_MESSAGE;
+
+//@@author Chongjx
+class RollbackCommandTest {
+
+    private Notebook notebook;
+    private Timetable timetable;
+    private TagManager tagManager;
+    private StorageManagerStub storageManager;
+    private Note note;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        notebook = new Notebook();
+        timetable = new Timetable();
+        tagManager = new TagManager();
+        storageManager = new StorageManagerStub(timetable, null, notebook, tagManager);
+
+        ArrayList<String> content = new ArrayList<>();
+        content.add("content");
+        note = new Note("TransactionNote", content, false, false);
+        notebook.addNote(note);
+
+        LocalDateTime start = LocalDateTime.of(2020, 10, 10, 10, 0);
+        event = new Event("TransactionEvent", start, start.plusHours(1));
+        timetable.addEvent(event);
+    }
+
+    @Test
+    void rollbackCommand_changesInTransaction_revertsChanges() {
+        execute(new BeginCommand());
+        execute(new PinCommand(0));
+        ArrayList<Tag> tags = new ArrayList<>();
+        tags.add(new Tag("TransactionTag", Tag.COLOR_RED_STRING));
+        execute(new CreateTagCommand(tags));
+        LocalDateTime start = LocalDateTime.of(2020, 10, 11, 10, 0);
+        execute(new AddEventCommand(new Event("NewEvent", start, start.plusHours(1))));
+        event.setTitle("EditedEvent");
+
+        assertTrue(note.getPinned());
+        assertEquals(2, timetable.getEvents().size());
+        assertTrue(storageManager.isSaveDeferred());
+
+        execute(new RollbackCommand());
+
+        assertFalse(note.getPinned());
+        assertEquals(1, notebook.getSize());
+        assertEquals(1, timetable.getEvents().size());
+        assertEquals("TransactionEvent", timetable.getEvent(0).getTitle());
+        assertNull(tagManager.getTag("TransactionTag"));
+        assertFalse(storageManager.isInTransaction());
+        assertFalse(storageManager.isSaveDeferred());
+    }
+
+    @Test
+    void rollbackCommand_contentFileNotRestorable_stopsDeferringSaves() {
+        storageManager.setContentWritable(false);
+        execute(new BeginCommand());
+        execute(new PinCommand(0));
+
+        assertEquals(Formatter.formatString(ROLLBACK_TRANSACTION_SUCCESSFUL_MESSAGE), execute(new RollbackCommand()));
+        assertFalse(note.getPinned());
+        assertFalse(storageManager.isInTransaction());
+        assertFalse(storageManager.isSaveDeferred());
+    }
+
+    @Test
+    void commitCommand_changesInTransaction_keepsChanges() {
+        execute(new BeginCommand());
+        execute(new PinCommand(0));
+        execute(new CommitCommand());
+
+        assertTrue(note.getPinned());
+        assertFalse(storageManager.isInTransaction());
+        assertFalse(storageManager.isSaveDeferred());
+    }
+
+    @Test
+    void transactionCommands_invalidState_returnsErrorMessage() {
+        assertEquals(Formatter.formatString(NO_TRANSACTION_MESSAGE), execute(new RollbackCommand()));
+        assertEquals(Formatter.formatString(NO_TRANSACTION_MESSAGE), execute(new CommitCommand()));
+
+        execute(new BeginCommand());
+        assertEquals(Formatter.formatString(TRANSACTION_IN_PROGRESS_MESSAGE), execute(new BeginCommand()));
+    }
+
+    private String execute(Command command) {
+        command.setData(notebook, timetable, tagManager, storageManager);
+        return command.execute();
+    }
+}
@@ -1,5 +1,45 @@
 package seedu.notus.data.notebook;
 
+import org.junit.jupiter.api.Test;
+import seedu.notus.data.tag.Tag;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.notus.ui.Formatter.LS;
+
 class NoteTest {
 
-}
\ No newline at end of file
+    @Test
+    void writeContent_manyLines_writesEveryLine() throws IOException {
+        ArrayList<String> content = new ArrayList<>();
+        StringBuilder expectedContent = new StringBuilder();
+        for (int i = 0; i < 50000; i++) {
+            content.add("line " + i);
+            expectedContent.append("line ").append(i).append(LS);
+        }
+        Note note = new Note("Long note", content, false, false);
+
+        StringWriter writer = new StringWriter();
+        note.writeContent(writer);
+        assertEquals(expectedContent.toString(), writer.toString());
+        assertEquals(expectedContent.toString(), note.getContentString());
+    }
+
+    @Test
+    void writeSaveString_taggedNote_matchesSaveFormat() throws IOException {
+        ArrayList<Tag> tags = new ArrayList<>(List.of(new Tag("Module", Tag.COLOR_RED_STRING),
+                new Tag("Urgent", Tag.COLOR_BLUE_STRING)));
+        Note note = new Note("CS2113", new ArrayList<>(List.of("Week 1")), true, false, tags);
+        String expected = "/t CS2113 /pin true /tag Module " + Tag.COLOR_RED_STRING + " /tag Urgent "
+                + Tag.COLOR_BLUE_STRING + " " + LS;
+
+        StringWriter writer = new StringWriter();
+        note.writeSaveString(writer);
+        assertEquals(expected, writer.toString());
+        assertEquals(expected, note.toSaveString());
+    }
+}
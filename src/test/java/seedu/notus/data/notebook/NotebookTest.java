@@ -1,6 +1,19 @@
 package seedu.notus.data.notebook;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import seedu.notus.data.tag.Tag;
+import seedu.notus.data.tag.TagManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class NotebookTest {
 
@@ -11,4 +24,227 @@ class NotebookTest {
     @Test
     void deleteNote() {
     }
-}
\ No newline at end of file
+
+    //@@author Chongjx
+    private Notebook notebook;
+    private TagManager tagManager;
+
+    @BeforeEach
+    void setUp() {
+        notebook = new Notebook();
+        tagManager = new TagManager();
+        for (int i = 1; i <= 5; i++) {
+            Note note = new Note("Note" + i, new ArrayList<>(), false, false);
+            if (i % 2 == 0) {
+                note.getTags().add(new Tag("Even", Tag.COLOR_RED_STRING));
+            }
+            tagManager.rebindTags(note);
+            notebook.addNote(note);
+        }
+    }
+
+    @Test
+    void archiveNotes_indexRange_archivesInOnePass() {
+        ArrayList<Note> selectedNotes = new NoteSelector(1, 3).select(notebook, tagManager, false);
+        notebook.archiveNotes(selectedNotes);
+
+        assertEquals(2, notebook.getSize());
+        assertEquals(3, notebook.getArchivedNoteSize());
+        assertEquals("Note1", notebook.getNotes().get(0).getTitle());
+        assertEquals("Note5", notebook.getNotes().get(1).getTitle());
+        assertTrue(notebook.getArchivedNotes().get(0).getIsArchived());
+
+        notebook.unarchiveNotes(new NoteSelector(0, 0).select(notebook, tagManager, true));
+        assertEquals(3, notebook.getSize());
+        assertFalse(notebook.getNotes().get(2).getIsArchived());
+    }
+
+    @Test
+    void deleteNotes_tagSelector_deletesTaggedNotes() {
+        ArrayList<Note> selectedNotes = new NoteSelector("even").select(notebook, tagManager, false);
+        assertEquals(2, selectedNotes.size());
+
+        notebook.deleteNotes(selectedNotes);
+        assertEquals(3, notebook.getSize());
+        assertTrue(new NoteSelector("missing").select(notebook, tagManager, false).isEmpty());
+    }
+
+    @Test
+    void select_tagSelectorAfterDeletion_deletedNotesNotSelected() {
+        notebook.deleteNotes(new NoteSelector("even").select(notebook, tagManager, false));
+
+        assertTrue(new NoteSelector("even").select(notebook, tagManager, false).isEmpty());
+        assertTrue(new NoteSelector("even").select(notebook, tagManager, true).isEmpty());
+        notebook.archiveNotes(new NoteSelector("even").select(notebook, tagManager, false));
+        assertEquals(0, notebook.getArchivedNoteSize());
+        assertEquals(3, notebook.getSize());
+    }
+
+    @Test
+    void getNotes_rangeOutOfNotebook_throwsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> notebook.getNotes(3, 5, false));
+    }
+
+    private static ArrayList<Note> sortByTitle(List<Note> notes, boolean isAscendingOrder, Boolean isPinned) {
+        ArrayList<Note> sortedNotes = new ArrayList<>();
+        for (Note note : notes) {
+            if (isPinned == null || note.getPinned() == isPinned) {
+                sortedNotes.add(note);
+            }
+        }
+        sortedNotes.sort(Comparator.comparing(Note::getSortKey));
+        if (!isAscendingOrder) {
+            Collections.reverse(sortedNotes);
+        }
+        return sortedNotes;
+    }
+
+    private void assertSortedLists() {
+        for (Boolean isPinned : new Boolean[] {null, true, false}) {
+            assertEquals(sortByTitle(notebook.getNotes(), true, isPinned), notebook.getSortedList(true, isPinned));
+            assertEquals(sortByTitle(notebook.getNotes(), false, isPinned), notebook.getSortedList(false, isPinned));
+        }
+    }
+
+    private void assertPinnedNotes() {
+        ArrayList<Note> pinnedNotes = new ArrayList<>();
+        ArrayList<Note> unpinnedNotes = new ArrayList<>();
+        for (Note note : notebook.getNotes()) {
+            (note.getPinned() ? pinnedNotes : unpinnedNotes).add(note);
+        }
+        assertEquals(pinnedNotes, notebook.getPinnedNotes());
+        assertEquals(unpinnedNotes, notebook.getUnpinnedNotes());
+        assertEquals(!pinnedNotes.isEmpty(), notebook.checkPinned());
+    }
+
+    @Test
+    void getSortedList_afterModifications_staysSorted() {
+        notebook.addNote(new Note("apple", new ArrayList<>(), true, false));
+        notebook.addNote(new Note("Banana", new ArrayList<>(), false, false));
+        assertSortedLists();
+
+        notebook.deleteNote("note3");
+        notebook.deleteNote(0);
+        notebook.archiveNotes("Banana");
+        assertSortedLists();
+
+        notebook.unarchiveNotes("Banana");
+        notebook.archiveNotes(1);
+        notebook.setNotes(0, new Note("zebra", new ArrayList<>(), false, false));
+        assertSortedLists();
+
+        notebook.archiveNotes(new ArrayList<>(List.of(notebook.getNote(0))));
+        notebook.unarchiveNotes(new ArrayList<>(notebook.getArchivedNotes()));
+        notebook.deleteNotes(new ArrayList<>(List.of(notebook.getNote(1))));
+        assertSortedLists();
+    }
+
+    @Test
+    void getSortedList_noteModifiedDirectly_staysSorted() {
+        notebook.getSortedList(true, null);
+
+        Note note = notebook.getNote(0);
+        note.setTitle("Zoo");
+        notebook.markModified(note);
+        note.togglePinned();
+        assertSortedLists();
+
+        notebook.getNote(1).setTitle("aardvark");
+        notebook.markModified();
+        assertSortedLists();
+
+        notebook.restoreNotes(new ArrayList<>(List.of(new Note("b", new ArrayList<>(), false, false),
+                new Note("A", new ArrayList<>(), false, false))), new ArrayList<>());
+        assertSortedLists();
+    }
+
+    @Test
+    void markModified_noteEditedInPlace_keepsSortedIndex() {
+        notebook.getSortedList(true, null);
+        long generation = notebook.getGeneration();
+
+        notebook.getNote(0).getContent().add("more content");
+        notebook.markContentModified();
+        assertTrue(notebook.isSortedIndexUpToDate());
+
+        Note note = notebook.getNote(1);
+        note.setTitle("Zoo");
+        notebook.markModified(note);
+        assertTrue(notebook.isSortedIndexUpToDate());
+        assertTrue(notebook.getGeneration() > generation);
+        assertSortedLists();
+    }
+
+    @Test
+    void getPinnedNotes_notesPinnedAndUnpinned_keepsOrderWithoutSplitting() {
+        notebook.getPinnedNotes();
+
+        notebook.getNote(3).togglePinned();
+        notebook.getNote(1).togglePinned();
+        notebook.getNote(4).togglePinned();
+        assertTrue(notebook.isPartitionUpToDate());
+        assertPinnedNotes();
+
+        notebook.getNote(1).togglePinned();
+        notebook.getNote(0).togglePinned();
+        notebook.setNotes(2, new Note("replaced", new ArrayList<>(), true, false));
+        assertTrue(notebook.isPartitionUpToDate());
+        assertPinnedNotes();
+    }
+
+    @Test
+    void getPinnedNotes_afterModifications_staysSplit() {
+        assertPinnedNotes();
+        notebook.addNote(new Note("apple", new ArrayList<>(), true, false));
+        notebook.addNote(new Note("Banana", new ArrayList<>(), false, false));
+        assertPinnedNotes();
+
+        notebook.getNote(0).togglePinned();
+        notebook.archiveNotes("apple");
+        assertPinnedNotes();
+
+        notebook.unarchiveNotes("apple");
+        notebook.setNotes(0, new Note("zebra", new ArrayList<>(), true, false));
+        assertPinnedNotes();
+
+        notebook.deleteNote("zebra");
+        notebook.deleteNotes(new ArrayList<>(notebook.getPinnedNotes()));
+        assertPinnedNotes();
+        assertFalse(notebook.checkPinned());
+
+        Note note = new Note("pinned", new ArrayList<>(), false, false);
+        notebook.restoreNotes(new ArrayList<>(List.of(note)), new ArrayList<>());
+        note.setPinned(true);
+        assertPinnedNotes();
+        assertTrue(notebook.checkPinned());
+    }
+
+    @Test
+    void deleteNotes_notesDeletedTwice_pinnedCountUnchanged() {
+        Note pinnedNote = notebook.getNote(0);
+        pinnedNote.setPinned(true);
+        ArrayList<Note> selectedNotes = new ArrayList<>(List.of(pinnedNote));
+        notebook.deleteNotes(selectedNotes);
+        notebook.deleteNotes(selectedNotes);
+        notebook.archiveNotes(selectedNotes);
+        assertEquals(0, notebook.getArchivedNoteSize());
+
+        notebook.addNote(new Note("pinned", new ArrayList<>(), true, false));
+        assertPinnedNotes();
+        assertTrue(notebook.checkPinned());
+    }
+
+    @Test
+    void getSortedList_accentedTitles_sortedByLetters() {
+        Notebook accentedNotebook = new Notebook();
+        for (String title : List.of("zebra", "\u00c9clair", "Apple", "eclair", "banana")) {
+            accentedNotebook.addNote(new Note(title, new ArrayList<>(), false, false));
+        }
+
+        ArrayList<String> sortedTitles = new ArrayList<>();
+        for (Note note : accentedNotebook.getSortedList(true, null)) {
+            sortedTitles.add(note.getTitle());
+        }
+        assertEquals(List.of("Apple", "banana", "eclair", "\u00c9clair", "zebra"), sortedTitles);
+    }
+}
@@ -177,6 +177,33 @@ class TagManagerTest {
         assertFalse(defaultTagManager.getTagMap().get(tagCS2113).contains(noteCS2113));
     }
 
+    @Test
+    public void tagAndUntag_manyObjects_togglesTagOfEachObject() {
+        ArrayList<Note> notes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Note note = new Note("Note" + i, new ArrayList<>(), false, false);
+            if (i % 2 == 0) {
+                emptyTagManager.createTag(tagSchool, false);
+                emptyTagManager.tagObject(note, tagSchool);
+            }
+            notes.add(note);
+        }
+        Note untouchedNote = new Note("Untouched", new ArrayList<>(), false, false);
+        emptyTagManager.tagObject(untouchedNote, tagSchool);
+
+        ArrayList<Tag> tags = new ArrayList<>();
+        tags.add(new Tag("School", Tag.COLOR_YELLOW_STRING));
+        assertEquals(4, emptyTagManager.tagAndUntag(notes, tags));
+
+        ArrayList<TaggableObject> taggedObjects = emptyTagManager.getTagMap().get(tagSchool);
+        assertEquals(3, taggedObjects.size());
+        assertTrue(taggedObjects.contains(untouchedNote));
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i % 2 == 1, taggedObjects.contains(notes.get(i)));
+            assertEquals(i % 2 == 1, notes.get(i).getTags().contains(tagSchool));
+        }
+    }
+
     @Test
     public void deleteTag_tagDoesNotExist_returnFalse() {
         assertFalse(emptyTagManager.deleteTag(tagCS2113));
@@ -1,5 +1,68 @@
 package seedu.notus.data.tag;
 
+import com.diogonunes.jcolor.Attribute;
+import org.junit.jupiter.api.Test;
+
+import static com.diogonunes.jcolor.Ansi.colorize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+//@@author Chongjx
 class TagTest {
 
-}
\ No newline at end of file
+    @Test
+    void toString_calledTwice_returnsCachedLabel() {
+        Tag tag = new Tag("CS2113", Tag.COLOR_RED_STRING);
+
+        assertEquals(colorize("[CS2113]", Attribute.BRIGHT_RED_TEXT()), tag.toString());
+        assertSame(tag.toString(), tag.toString());
+        assertSame(tag.toSaveString(), tag.toSaveString());
+    }
+
+    @Test
+    void setTagName_renderedTag_updatesLabelAndSaveString() {
+        Tag tag = new Tag("CS2113", Tag.COLOR_RED_STRING);
+        tag.toString();
+        tag.toSaveString();
+
+        tag.setTagName("CG2271");
+
+        assertEquals(colorize("[CG2271]", Attribute.BRIGHT_RED_TEXT()), tag.toString());
+        assertEquals("CG2271 " + Tag.COLOR_RED_STRING, tag.toSaveString());
+    }
+
+    @Test
+    void setTagColor_renderedTag_updatesLabelAndSaveString() {
+        Tag tag = new Tag("CS2113", Tag.COLOR_RED_STRING);
+        assertEquals("CS2113 " + Tag.COLOR_RED_STRING, tag.toSaveString());
+
+        tag.setTagColor(Tag.COLOR_CYAN_STRING);
+        assertEquals(colorize("[CS2113]", Attribute.BRIGHT_CYAN_TEXT()), tag.toString());
+        assertEquals("CS2113 " + Tag.COLOR_CYAN_STRING, tag.toSaveString());
+
+        tag.setTagColor(TagColor.MAGENTA);
+        assertEquals(colorize("[CS2113]", Attribute.BRIGHT_MAGENTA_TEXT()), tag.toString());
+        assertEquals("CS2113 " + Tag.COLOR_MAGENTA_STRING, tag.toSaveString());
+    }
+
+    @Test
+    void fromString_colorNames_ignoresCaseAndDefaultsToWhite() {
+        assertEquals(TagColor.RED, TagColor.fromString("red"));
+        assertEquals(TagColor.MAGENTA, TagColor.fromString(Tag.COLOR_MAGENTA_STRING));
+        assertEquals(TagColor.WHITE, TagColor.fromString("orange"));
+        assertEquals(TagColor.WHITE, new Tag("Default", "orange").getTagColor());
+    }
+
+    @Test
+    void colorize_everyColor_matchesAttributeColor() {
+        Attribute[] attributes = {Attribute.BRIGHT_RED_TEXT(), Attribute.BRIGHT_GREEN_TEXT(),
+            Attribute.BRIGHT_BLUE_TEXT(), Attribute.BRIGHT_YELLOW_TEXT(), Attribute.BRIGHT_MAGENTA_TEXT(),
+            Attribute.BRIGHT_CYAN_TEXT(), Attribute.BRIGHT_WHITE_TEXT()};
+        TagColor[] colors = TagColor.values();
+
+        for (int i = 0; i < colors.length; i++) {
+            assertEquals(colorize("[tag]", attributes[i]), colors[i].colorize("[tag]"));
+            assertEquals(colors[i], TagColor.fromString(colors[i].getSaveName()));
+        }
+    }
+}
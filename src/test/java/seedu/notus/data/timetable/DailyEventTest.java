@@ -10,6 +10,8 @@ import java.util.HashMap;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 //@@author brandonywl
@@ -60,4 +62,36 @@ class DailyEventTest {
         LocalDate endDate = startDate.plusWeeks(1);
         assertEquals(8, (event.getRecurrences(startDate, endDate).size()));
     }
-}
\ No newline at end of file
+
+    //@@author Chongjx
+    @Test
+    void getOccurrenceDates_samePeriod_cachedUntilDatesChange() {
+        LocalDate startDate = TEST_DATE_TIME.toLocalDate();
+        LocalDate endDate = startDate.plusDays(9);
+        List<LocalDate> dates = event.getOccurrenceDates(startDate, endDate);
+        assertEquals(10, dates.size());
+        assertSame(dates, event.getOccurrenceDates(startDate, endDate));
+        assertEquals(10, event.getRecurrences(startDate, endDate).size());
+
+        event.setEndRecurrenceDate(startDate.plusDays(4));
+        assertEquals(5, event.getOccurrenceDates(startDate, endDate).size());
+
+        event.setStartDateTime(TEST_DATE_TIME.plusDays(2));
+        assertEquals(3, event.getOccurrenceDates(startDate, endDate).size());
+        assertEquals(startDate.plusDays(2), event.getRecurrences(startDate, endDate).get(0).getStartDate());
+    }
+
+    @Test
+    void getOccurrenceDates_periodLongerThanMonth_notCached() {
+        LocalDate startDate = TEST_DATE_TIME.toLocalDate();
+        LocalDate monthEndDate = startDate.plusDays(30);
+        assertSame(event.getOccurrenceDates(startDate, monthEndDate),
+                event.getOccurrenceDates(startDate, monthEndDate));
+
+        LocalDate yearEndDate = startDate.plusYears(1);
+        List<LocalDate> dates = event.getOccurrenceDates(startDate, yearEndDate);
+        assertEquals(366, dates.size());
+        assertNotSame(dates, event.getOccurrenceDates(startDate, yearEndDate));
+        assertEquals(dates, event.getOccurrenceDates(startDate, yearEndDate));
+    }
+}
@@ -4,6 +4,9 @@ import org.junit.jupiter.api.Test;
 import seedu.notus.data.tag.Tag;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -48,6 +51,49 @@ public class EventTest {
         }
     }
 
+    //@@author Chongjx
+    @Test
+    void setStartDateTime_newDateTime_storedToTheMinute() {
+        LocalDateTime newStart = LocalDateTime.of(1969, 12, 31, 23, 59);
+        event.setStartDateTime(newStart);
+        event.setIsToRemind(false);
+
+        assertEquals(newStart, event.getStartDateTime());
+        assertEquals(-1, event.getStartMinute());
+        assertEquals(TEST_END_DATE_TIME, event.getEndDateTime());
+        assertFalse(event.getIsToRemind());
+        assertFalse(event.getRecurring());
+        assertTrue(event.compareTo(new Event(TEST_TITLE, TEST_DATE_TIME, TEST_END_DATE_TIME)) < 0);
+    }
+
+    @Test
+    void getTags_tagsGivenToConstructor_returnsTags() {
+        ArrayList<Tag> eventTags = new ArrayList<>(List.of(new Tag("CS2113", Tag.COLOR_RED_STRING)));
+        Event taggedEvent = new Event(TEST_TITLE, TEST_DATE_TIME, TEST_END_DATE_TIME, TEST_REMINDER, TEST_RECURRING,
+                reminderSchedule, eventTags);
+
+        assertSame(eventTags, taggedEvent.getTags());
+    }
+
+    @Test
+    void getReminderOffsets_dayAndWeekPeriods_packedAsDays() {
+        HashMap<String, ArrayList<Integer>> periods = new HashMap<>();
+        periods.put(Event.REMINDER_DAY, new ArrayList<>(List.of(7, 2, 2)));
+        periods.put(Event.REMINDER_WEEK, new ArrayList<>(List.of(1)));
+        Event remindedEvent = new Event(TEST_TITLE, TEST_DATE_TIME, TEST_END_DATE_TIME, TEST_REMINDER, TEST_RECURRING,
+                periods, new ArrayList<>());
+
+        assertEquals((1L << 2) | (1L << 7), remindedEvent.getReminderOffsets());
+        assertEquals(List.of(TEST_DATE_TIME.toLocalDate().minusDays(7), TEST_DATE_TIME.toLocalDate().minusDays(2)),
+                remindedEvent.getReminderDates());
+        assertEquals(List.of("2-day", "7-day", "1-week"), remindedEvent.getReminderPeriodsString());
+        assertEquals(List.of(7, 2, 2), periods.get(Event.REMINDER_DAY));
+
+        remindedEvent.setIsToRemind(false);
+        assertEquals(0, remindedEvent.getReminderOffsets());
+    }
+
+    //@@author brandonywl
     /**
      * Wrapper around assertEquals for code readbility.
      *
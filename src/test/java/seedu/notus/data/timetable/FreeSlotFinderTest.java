@@ -0,0 +1,67 @@
+package seedu.notus.data.timetable;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//@@author Chongjx
+class FreeSlotFinderTest {
+    private static final LocalDate DATE = LocalDate.of(2020, 8, 27);
+
+    private final Timetable timetable = new Timetable();
+
+    @Test
+    void findFreeSlots_overlappingEvents_gapsBetweenMergedEvents() {
+        addEvent(DATE, LocalTime.of(9, 0), LocalTime.of(11, 0));
+        addEvent(DATE, LocalTime.of(10, 0), LocalTime.of(12, 0));
+        addEvent(DATE, LocalTime.of(13, 0), LocalTime.of(14, 0));
+
+        ArrayList<TimeSlot> freeSlots = new FreeSlotFinder(timetable).findFreeSlots(DATE, DATE, 60, 10);
+        assertEquals(3, freeSlots.size());
+        assertSlot(freeSlots.get(0), DATE, LocalTime.MIDNIGHT, LocalTime.of(9, 0));
+        assertSlot(freeSlots.get(1), DATE, LocalTime.of(12, 0), LocalTime.of(13, 0));
+        assertSlot(freeSlots.get(2), DATE, LocalTime.of(14, 0), LocalTime.of(23, 59));
+
+        assertEquals(2, new FreeSlotFinder(timetable).findFreeSlots(DATE, DATE, 61, 10).size());
+    }
+
+    @Test
+    void findFreeSlots_dailyEventOverYears_slotsDoNotRunPastMidnight() {
+        LocalDateTime start = DATE.atTime(8, 0);
+        timetable.addEvent(new DailyEvent("Work", start, start.withHour(20), false, new HashMap<>(),
+                new ArrayList<>()));
+        LocalDate endDate = DATE.plusYears(3);
+
+        ArrayList<TimeSlot> freeSlots = new FreeSlotFinder(timetable).findFreeSlots(DATE, endDate, 120,
+                Integer.MAX_VALUE);
+        // Free before and after work on every day
+        long days = DATE.datesUntil(endDate.plusDays(1)).count();
+        assertEquals(2 * days, freeSlots.size());
+        assertSlot(freeSlots.get(freeSlots.size() - 1), endDate, LocalTime.of(20, 0), LocalTime.of(23, 59));
+    }
+
+    @Test
+    void findFreeSlots_limit_earliestSlotsFound() {
+        addEvent(DATE.plusDays(1), LocalTime.of(12, 0), LocalTime.of(13, 0));
+
+        ArrayList<TimeSlot> freeSlots = new FreeSlotFinder(timetable).findFreeSlots(DATE, DATE.plusDays(6), 90, 2);
+        assertEquals(2, freeSlots.size());
+        assertSlot(freeSlots.get(0), DATE, LocalTime.MIDNIGHT, LocalTime.of(23, 59));
+        assertSlot(freeSlots.get(1), DATE.plusDays(1), LocalTime.MIDNIGHT, LocalTime.of(12, 0));
+    }
+
+    private void addEvent(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        timetable.addEvent(new Event("Event", date.atTime(startTime), date.atTime(endTime), false, false));
+    }
+
+    private void assertSlot(TimeSlot slot, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        assertEquals(date.atTime(startTime), slot.getStartDateTime());
+        assertEquals(date.atTime(endTime), slot.getEndDateTime());
+    }
+}
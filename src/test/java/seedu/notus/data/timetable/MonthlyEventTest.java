@@ -63,4 +63,22 @@ class MonthlyEventTest {
         LocalDate endDate = startDate.plusMonths(4);
         assertEquals(5, (event.getRecurrences(startDate, endDate).size()));
     }
-}
\ No newline at end of file
+
+    //@@author Chongjx
+    @Test
+    void getOccurrenceDates_endOfMonthEvent_sameAsRecurrences() {
+        LocalDateTime startDateTime = LocalDateTime.of(2020, 1, 31, 13, 0);
+        MonthlyEvent endOfMonthEvent = new MonthlyEvent(TEST_TITLE, startDateTime, startDateTime.plusHours(1),
+                false, LocalDate.of(2021, 6, 15), reminderSchedule, tags);
+        LocalDate startDate = LocalDate.of(2020, 3, 1);
+        LocalDate endDate = LocalDate.of(2021, 12, 31);
+
+        ArrayList<LocalDate> recurrenceDates = new ArrayList<>();
+        for (Event recurrence : endOfMonthEvent.getRecurrences(startDate, endDate)) {
+            recurrenceDates.add(recurrence.getStartDate());
+        }
+        assertEquals(recurrenceDates, endOfMonthEvent.getOccurrenceDates(startDate, endDate));
+        assertEquals(LocalDate.of(2020, 4, 30), endOfMonthEvent.getOccurrenceDates(startDate, endDate).get(1));
+        assertEquals(0, endOfMonthEvent.getOccurrenceDates(startDate.minusYears(1), startDate.minusMonths(11)).size());
+    }
+}
@@ -3,6 +3,7 @@ package seedu.notus.data.timetable;
 import org.junit.jupiter.api.Test;
 import seedu.notus.data.tag.Tag;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -10,7 +11,9 @@ import java.util.HashMap;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 //@@author brandonywl
 class TimetableTest {
@@ -58,6 +61,110 @@ class TimetableTest {
         assertEquals(0, timetable.getDailyEvents().size());
     }
 
+    //@@author Chongjx
+    @Test
+    void deleteEvent_equalTwinEvents_removesEventAtIndex() {
+        DailyEvent twinEvent = new DailyEvent(TEST_TITLE_4, TEST_DATE_TIME, TEST_END_DATE_TIME,
+                TEST_REMINDER, reminderSchedule, tags);
+        Timetable timetable = initializeTimetable();
+        timetable.addEvent(twinEvent);
+        assertEquals(dailyEvent, twinEvent);
+
+        timetable.deleteEvent(4);
+        assertEquals(List.of(dailyEvent), timetable.getDailyEvents());
+        assertSame(dailyEvent, timetable.getDailyEvents().get(0));
+        assertEquals(Event.UNASSIGNED_ID, twinEvent.getId());
+
+        timetable.deleteEvent(0);
+        assertEquals(0, timetable.getDailyEvents().size());
+        assertEquals(3, timetable.getEvents().size());
+    }
+
+    @Test
+    void deleteEvent_manyEvents_remainingEventsStillRemovable() {
+        Timetable timetable = new Timetable();
+        for (int i = 0; i < 40; i++) {
+            timetable.addEvent(new DailyEvent(TEST_TITLE_4 + i, TEST_DATE_TIME, TEST_END_DATE_TIME,
+                    TEST_REMINDER, reminderSchedule, tags));
+        }
+        while (timetable.getEvents().size() > 0) {
+            Event event = timetable.getEvent(timetable.getEvents().size() / 2);
+            timetable.deleteEvent(timetable.getEvents().size() / 2);
+            assertFalse(timetable.getDailyEvents().contains(event));
+            assertEquals(timetable.getEvents().size(), timetable.getDailyEvents().size());
+        }
+    }
+
+    @Test
+    void setEvent_changeRecurrenceType_replacedInPlace() {
+        Timetable timetable = initializeTimetable();
+        Event event = new Event(TEST_TITLE_4, TEST_DATE_TIME, TEST_END_DATE_TIME, false, false);
+        timetable.setEvent(0, event);
+
+        assertSame(event, timetable.getEvent(0));
+        assertEquals(4, timetable.getEvents().size());
+        assertEquals(0, timetable.getDailyEvents().size());
+        assertEquals(Event.UNASSIGNED_ID, dailyEvent.getId());
+        // Clashes with the weekly, monthly and yearly events, but not with itself
+        assertEquals(3, timetable.getClashingEvents(event).size());
+    }
+
+    @Test
+    void getClashes_overlappingAndTouchingEvents_onlyOverlapsFound() {
+        Timetable timetable = new Timetable();
+        timetable.addEvent(new Event(TEST_TITLE_1, TEST_DATE_TIME, TEST_END_DATE_TIME, false, false));
+        // Starts when the tutorial ends, so it does not clash with it
+        timetable.addEvent(new Event(TEST_TITLE_2, TEST_END_DATE_TIME, TEST_END_DATE_TIME.plusHours(1),
+                false, false));
+        timetable.addEvent(new Event(TEST_TITLE_3, TEST_DATE_TIME.plusMinutes(30), TEST_END_DATE_TIME.plusMinutes(30),
+                false, false));
+        timetable.addEvent(new Event(TEST_TITLE_4, TEST_DATE_TIME.plusDays(1), TEST_END_DATE_TIME.plusDays(1),
+                false, false));
+
+        LocalDate date = TEST_DATE_TIME.toLocalDate();
+        ArrayList<EventClash> clashes = timetable.getClashes(date, date.plusDays(1));
+        assertEquals(2, clashes.size());
+        assertEquals(TEST_TITLE_1, clashes.get(0).getFirstEvent().getTitle());
+        assertEquals(TEST_TITLE_3, clashes.get(0).getSecondEvent().getTitle());
+        assertEquals(TEST_TITLE_3, clashes.get(1).getFirstEvent().getTitle());
+        assertEquals(TEST_TITLE_2, clashes.get(1).getSecondEvent().getTitle());
+    }
+
+    @Test
+    void getClashes_recurringEvents_clashOnEveryRecurrence() {
+        Timetable timetable = initializeTimetable(dailyEvent);
+        timetable.addEvent(weeklyEvent);
+        LocalDate date = TEST_DATE_TIME.toLocalDate();
+
+        ArrayList<EventClash> clashes = timetable.getClashes(date, date.plusWeeks(3));
+        assertEquals(4, clashes.size());
+        for (EventClash clash : clashes) {
+            assertEquals(clash.getFirstEvent().getStartDateTime(), clash.getSecondEvent().getStartDateTime());
+            assertEquals(DayOfWeek.THURSDAY, clash.getSecondEvent().getStartDate().getDayOfWeek());
+        }
+        assertEquals(timetable.getClashingEvents(dailyEvent).size(), timetable.getClashes(date, date).size());
+    }
+
+    @Test
+    void getReminders_weekBeforeEvent_onlyEventsDueToday() {
+        HashMap<String, ArrayList<Integer>> weekBefore = new HashMap<>();
+        weekBefore.put(Event.REMINDER_WEEK, new ArrayList<>(List.of(1)));
+        LocalDateTime nextWeek = LocalDate.now().plusWeeks(1).atTime(13, 0);
+        Timetable timetable = new Timetable();
+        timetable.addEvent(new Event(TEST_TITLE_1, nextWeek, nextWeek.plusHours(1), true, false, weekBefore, tags));
+        timetable.addEvent(new Event(TEST_TITLE_2, nextWeek.plusDays(1), nextWeek.plusDays(1).plusHours(1), true,
+                false, weekBefore, tags));
+        timetable.addEvent(new WeeklyEvent(TEST_TITLE_3, nextWeek.minusWeeks(5), nextWeek.minusWeeks(5).plusHours(1),
+                true, weekBefore, tags));
+
+        ArrayList<Reminder> reminders = timetable.getReminders();
+        assertEquals(2, reminders.size());
+        assertEquals(nextWeek, reminders.get(0).getEvent().getStartDateTime());
+        assertEquals(TEST_TITLE_3, reminders.get(0).getEvent().getTitle());
+        assertEquals(new Reminder(new Event(TEST_TITLE_1, nextWeek, nextWeek), LocalDate.now()), reminders.get(1));
+    }
+
+    //@@author brandonywl
     /**
      * Asserts that recurring events are displayed properly across the specified year.
      */
@@ -0,0 +1,52 @@
+package seedu.notus.storage;
+
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.notebook.Notebook;
+import seedu.notus.data.tag.TagManager;
+import seedu.notus.data.timetable.Timetable;
+import seedu.notus.util.parser.ParserManager;
+
+import java.io.IOException;
+
+//@@author Chongjx
+/**
+ * Storage manager that does not touch the data folder. Saves succeed without writing anything and no note content
+ * file exists, unless the content files are set to be unwritable.
+ */
+public class StorageManagerStub extends StorageManager {
+
+    private boolean isContentWritable = true;
+
+    public StorageManagerStub(Timetable timetable, ParserManager parserManager, Notebook notebook,
+                              TagManager tagManager) {
+        super(timetable, parserManager, notebook, tagManager);
+    }
+
+    public void setContentWritable(boolean isContentWritable) {
+        this.isContentWritable = isContentWritable;
+    }
+
+    @Override
+    public void saveAllNoteDetails(Boolean isArchive) {
+    }
+
+    @Override
+    public void saveTimetable() {
+    }
+
+    @Override
+    public void saveNoteContent(Note note, boolean isArchive) throws IOException {
+        if (!isContentWritable) {
+            throw new IOException("Content file not writable");
+        }
+    }
+
+    @Override
+    public void deleteNoteContentFile(String noteTitle, boolean isArchive) {
+    }
+
+    @Override
+    public boolean noteExists(Note note, boolean isArchive) {
+        return false;
+    }
+}
@@ -1,6 +1,17 @@
 package seedu.notus.ui;
 
+import com.diogonunes.jcolor.Attribute;
 import org.junit.jupiter.api.Test;
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.notebook.Notebook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.diogonunes.jcolor.Ansi.RESET;
+import static com.diogonunes.jcolor.Ansi.colorize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FormatterTest {
 
@@ -58,4 +69,61 @@ public class FormatterTest {
     private static String encloseRow() {
         return null;
     }
+
+    //@@author Chongjx
+    @Test
+    void formatString_longColoredMessage_wrapsIntoRowsOfEqualWidth() {
+        String message = "word ".repeat(30) + colorize("colored words ".repeat(10), Attribute.CYAN_TEXT());
+        String[] rows = Formatter.formatString(message).split(Formatter.LS);
+
+        assertTrue(rows.length > 3);
+        for (int i = 1; i < rows.length - 1; i++) {
+            String row = rows[i].replaceAll("\u001B\\[[0-9;]*m", "");
+            assertEquals(100, row.length());
+            assertTrue(row.startsWith("| ") && row.endsWith(" |"));
+        }
+    }
+
+    @Test
+    void formatString_coloredWordAtCutOff_movesWordAndColorToNextRow() {
+        String coloredWord = colorize("colored", Attribute.RED_TEXT());
+        String color = coloredWord.substring(0, coloredWord.indexOf("colored"));
+        String[] rows = Formatter.formatString("x".repeat(92) + " " + coloredWord + " end").split(Formatter.LS);
+
+        assertEquals(4, rows.length);
+        assertEquals("| " + "x".repeat(92) + RESET + " ".repeat(4) + " |", rows[1]);
+        assertTrue(rows[2].startsWith("| " + color + " " + coloredWord + " end "));
+    }
+
+    @Test
+    void formatString_veryLongLine_wrapsIntoFullRows() {
+        String[] rows = Formatter.formatString("y".repeat(96 * 1000)).split(Formatter.LS);
+
+        assertEquals(1002, rows.length);
+        assertEquals("| " + "y".repeat(96) + " |", rows[500]);
+    }
+
+    @Test
+    void formatString_listAndArray_sameRows() {
+        ArrayList<String> messages = new ArrayList<>(List.of("Header", "first", "x".repeat(150)));
+        String formattedList = Formatter.formatString(messages, true);
+        String formattedArray = Formatter.formatString(messages.toArray(new String[0]), true, false);
+        String formattedContent = Formatter.formatString(messages.toArray(new String[0]), true, true);
+
+        assertEquals(formattedList, formattedArray);
+        assertEquals(formattedList.substring(0, formattedList.length() - 1), formattedContent);
+    }
+
+    @Test
+    void formatNotes_pinnedAndUnpinned_concatenatesBothLists() {
+        Notebook notebook = new Notebook();
+        notebook.addNote(new Note("Pinned", new ArrayList<>(List.of("pinned content")), true, false));
+        notebook.addNote(new Note("Unpinned", new ArrayList<>(List.of("unpinned content")), false, false));
+
+        String expected = Formatter.formatNotes("Pinned:", notebook.getPinnedNotes(), notebook)
+                + Formatter.formatNotes("Unpinned:", notebook.getUnpinnedNotes(), notebook);
+
+        assertEquals(expected, Formatter.formatNotes("Pinned:", "Unpinned:", notebook.getPinnedNotes(),
+                notebook.getUnpinnedNotes(), notebook));
+    }
 }
@@ -0,0 +1,39 @@
+package seedu.notus.util.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncLogHandlerTest {
+
+    @Test
+    void close_publishedRecords_writesEveryRecordInOrder() throws IOException {
+        File file = Files.createTempFile("notus", ".log").toFile();
+        file.deleteOnExit();
+
+        AsyncLogHandler handler = new AsyncLogHandler(file);
+        handler.setLevel(Level.INFO);
+        for (int i = 0; i < 100; i++) {
+            LogRecord record = new LogRecord(Level.INFO, "Record " + i);
+            record.setLoggerName("Test");
+            handler.publish(record);
+        }
+        handler.publish(new LogRecord(Level.FINE, "Not logged"));
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "Closed"));
+
+        List<String> lines = Files.readAllLines(file.toPath());
+        assertEquals(100, lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            assertTrue(lines.get(i).endsWith("INFO Test: Record " + i));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.notus.util.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogRingBufferTest {
+
+    @Test
+    void offer_fullBuffer_rejectsUntilPolled() {
+        LogRingBuffer buffer = new LogRingBuffer(3);
+        assertEquals(4, buffer.getCapacity());
+
+        LogRecord[] records = new LogRecord[4];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = new LogRecord(Level.INFO, "Record " + i);
+            assertTrue(buffer.offer(records[i]));
+        }
+        LogRecord extraRecord = new LogRecord(Level.INFO, "Extra");
+        assertFalse(buffer.offer(extraRecord));
+
+        assertSame(records[0], buffer.poll());
+        assertTrue(buffer.offer(extraRecord));
+    }
+
+    @Test
+    void poll_wrapsAround_keepsOrder() {
+        LogRingBuffer buffer = new LogRingBuffer(2);
+        assertNull(buffer.poll());
+
+        for (int i = 0; i < 10; i++) {
+            LogRecord record = new LogRecord(Level.INFO, "Record " + i);
+            assertTrue(buffer.offer(record));
+            assertSame(record, buffer.poll());
+        }
+        assertTrue(buffer.isEmpty());
+        assertNull(buffer.poll());
+    }
+}
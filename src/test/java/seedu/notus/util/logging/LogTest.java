@@ -0,0 +1,60 @@
+package seedu.notus.util.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogTest {
+    private final ArrayList<LogRecord> records = new ArrayList<>();
+
+    private Logger createLogger(Level level) {
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.setLevel(level);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        return logger;
+    }
+
+    @Test
+    void info_infoDisabled_logsNothing() {
+        Log log = new Log(createLogger(Level.WARNING));
+        assertFalse(log.isInfoEnabled());
+
+        log.info("Found file: {0}", "data/notebook.txt");
+        log.info("Transaction started.");
+        assertTrue(records.isEmpty());
+    }
+
+    @Test
+    void info_infoEnabled_formatsMessageLater() {
+        Log log = new Log(createLogger(Level.INFO));
+        Object argument = new Object();
+
+        log.info("Adding tag to object: {0}", argument);
+        assertEquals(1, records.size());
+        assertEquals("Adding tag to object: {0}", records.get(0).getMessage());
+        assertSame(argument, records.get(0).getParameters()[0]);
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.notus.util.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import seedu.notus.data.timetable.DailyEvent;
+import seedu.notus.data.timetable.RecurringEvent;
+import seedu.notus.util.parser.ParserManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class FlightEventsTest {
+
+    @Test
+    void parseAndExpand_whileRecording_committedWithSizes() throws IOException {
+        Path file = Files.createTempFile("notus", ".jfr");
+        file.toFile().deleteOnExit();
+
+        try (Recording recording = new Recording()) {
+            recording.enable("seedu.notus.ParseCommand");
+            recording.enable("seedu.notus.ExpandRecurrences");
+            recording.start();
+
+            new ParserManager().parseCommand("list-n /sort up");
+            RecurringEvent event = new DailyEvent("Lecture", LocalDateTime.of(2020, 1, 1, 10, 0),
+                    LocalDateTime.of(2020, 1, 1, 12, 0), false, RecurringEvent.DEFAULT_END_RECURRENCE,
+                    new HashMap<>(), new ArrayList<>());
+            event.getRecurrences(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 10));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertEquals(2, events.size());
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals("seedu.notus.ParseCommand")) {
+                assertEquals("list-n", event.getString("commandWord"));
+                assertEquals(15, event.getInt("inputLength"));
+                assertFalse(event.getBoolean("isFailed"));
+            } else {
+                assertEquals("Lecture", event.getString("title"));
+                assertEquals(10, event.getLong("days"));
+                assertEquals(10, event.getInt("occurrences"));
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.notus.util.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void getValueAtPercentile_noLatencies_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        assertEquals(0, histogram.getMin());
+    }
+
+    @Test
+    void getValueAtPercentile_uniformLatencies_withinThreePercent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos * 1_000);
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(1_000, histogram.getMin());
+        assertEquals(100_000_000, histogram.getMax());
+        for (double percentile : new double[] {50, 90, 99, 99.9}) {
+            double expected = percentile * 1_000_000;
+            double actual = histogram.getValueAtPercentile(percentile);
+            assertTrue(Math.abs(actual - expected) <= expected * 0.03, percentile + "th percentile: " + actual);
+        }
+        assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void record_smallLatencies_keptExactly() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(5);
+        histogram.record(63);
+        histogram.record(-1);
+
+        assertEquals(0, histogram.getValueAtPercentile(10));
+        assertEquals(5, histogram.getValueAtPercentile(50));
+        assertEquals(63, histogram.getValueAtPercentile(100));
+        assertEquals(22, histogram.getMean());
+    }
+}
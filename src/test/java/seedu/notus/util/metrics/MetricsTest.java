@@ -0,0 +1,53 @@
+package seedu.notus.util.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsTest {
+
+    @BeforeEach
+    void setUp() {
+        Metrics.reset();
+    }
+
+    @Test
+    void dump_recordedMetrics_readableAsProperties() throws IOException {
+        Metrics.recordParse(2_000, false);
+        Metrics.recordParse(4_000, true);
+        Metrics.recordCommand("AddNoteCommand", 3_000_000);
+        Metrics.recordSave("notebook", 1_000_000, 120);
+        Metrics.recordSave("timetable", 1_000_000, 30);
+
+        StringWriter writer = new StringWriter();
+        Metrics.dump(writer);
+        Properties properties = new Properties();
+        properties.load(new StringReader(writer.toString()));
+
+        assertEquals("2", properties.getProperty("parse.count"));
+        assertEquals("1", properties.getProperty("parse.failures"));
+        assertEquals("1", properties.getProperty("command.AddNoteCommand.count"));
+        assertEquals("3000", properties.getProperty("command.AddNoteCommand.max_us"));
+        assertEquals("1", properties.getProperty("save.notebook.count"));
+        assertEquals("150", properties.getProperty("io.bytes_written"));
+    }
+
+    @Test
+    void getSummary_startupPhase_listedAfterLatencies() {
+        long phaseStart = System.nanoTime();
+        long phaseEnd = Metrics.recordStartupPhase("load_notes", phaseStart);
+        Metrics.recordCommand("ListNoteCommand", 1_000);
+
+        assertTrue(phaseEnd >= phaseStart);
+        assertEquals(5, Metrics.getSummary().size());
+        assertTrue(Metrics.getSummary().get(2).startsWith("command.ListNoteCommand: 1 run(s)"));
+        assertTrue(Metrics.getSummary().get(4).startsWith("Startup load_notes: "));
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.notus.util.parser;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.notus.command.Command;
+import seedu.notus.command.ExitCommand;
+import seedu.notus.command.HelpCommand;
+import seedu.notus.command.ListEventCommand;
+import seedu.notus.command.ListNoteCommand;
+import seedu.notus.command.ListTagCommand;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Chongjx
+class CommandRegistryTest {
+
+    private CommandRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new CommandRegistry();
+        registry.register(ListNoteCommand.COMMAND_WORD, new ParseListNoteCommand());
+        registry.register(ListEventCommand.COMMAND_WORD, new ParseListEventCommand());
+        registry.register(ListTagCommand.COMMAND_WORD, userMessage -> new ListTagCommand());
+        registry.register(HelpCommand.COMMAND_WORD, userMessage -> new HelpCommand());
+        registry.register(ExitCommand.COMMAND_WORD, userMessage -> new ExitCommand(), ExitCommand.COMMAND_ALIAS);
+    }
+
+    @Test
+    void getParser_upperCaseCommandWord_returnsParser() throws Exception {
+        Command command = registry.getParser("HELP").parse(null);
+        assertTrue(command instanceof HelpCommand);
+    }
+
+    @Test
+    void getParser_alias_returnsSameCommand() throws Exception {
+        assertTrue(registry.getParser(ExitCommand.COMMAND_ALIAS).parse(null) instanceof ExitCommand);
+        assertEquals(registry.getParser(ExitCommand.COMMAND_WORD), registry.getParser(ExitCommand.COMMAND_ALIAS));
+        assertEquals(6, registry.getSize());
+    }
+
+    @Test
+    void getParser_unknownCommandWord_returnsNull() {
+        assertNull(registry.getParser("hello"));
+        assertNull(registry.getParser("list"));
+    }
+
+    @Test
+    void complete_commonPrefix_returnsMatchesInOrder() {
+        ArrayList<String> matches = registry.complete("li");
+        assertEquals(List.of("list-e", "list-n", "list-t"), matches);
+
+        assertEquals(List.of("exit"), registry.complete("EX"));
+        assertTrue(registry.complete("zzz").isEmpty());
+    }
+}
@@ -175,4 +175,32 @@ class ParseArchiveOrUnarchiveNoteCommandTest {
         actualMessage = exception.getMessage();
         assertTrue(actualMessage.contains(expectedMessage));
     }
-}
\ No newline at end of file
+
+    //@@author Chongjx
+    @Test
+    void parseCommand_rangeOrTagSelector_returnNewCommand() throws SystemException {
+        parser = new ParseArchiveOrUnarchiveNoteCommand(true);
+        assertTrue(parser.parse("/i 1-500") instanceof ArchiveNoteCommand);
+        assertTrue(parser.parse("/tag old") instanceof ArchiveNoteCommand);
+
+        parser = new ParseArchiveOrUnarchiveNoteCommand(false);
+        assertTrue(parser.parse("/i 2 - 3") instanceof UnarchiveNoteCommand);
+    }
+
+    @Test
+    void parseCommand_invalidRange_throwException() {
+        parser = new ParseArchiveOrUnarchiveNoteCommand(true);
+
+        exception = assertThrows(SystemException.class, () -> parser.parse("/i 5-2"));
+        assertTrue(exception.getMessage().contains(ExceptionType.EXCEPTION_INVALID_INDEX_VALUE.toString()));
+
+        exception = assertThrows(SystemException.class, () -> parser.parse("/i 0-2"));
+        assertTrue(exception.getMessage().contains(ExceptionType.EXCEPTION_INVALID_INDEX_VALUE.toString()));
+
+        exception = assertThrows(SystemException.class, () -> parser.parse("/i 1-a"));
+        assertTrue(exception.getMessage().contains(ExceptionType.EXCEPTION_INVALID_INDEX_FORMAT.toString()));
+
+        exception = assertThrows(SystemException.class, () -> parser.parse("/tag"));
+        assertTrue(exception.getMessage().contains(ExceptionType.EXCEPTION_MISSING_TAG.toString()));
+    }
+}
@@ -9,6 +9,8 @@ import seedu.notus.command.DeleteTagCommand;
 import seedu.notus.command.FindCommand;
 import seedu.notus.data.exception.SystemException;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -43,4 +45,24 @@ class ParseFindCommandTest {
         assertTrue(actualMessage.contains(expectedMessage));
     }
 
-}
\ No newline at end of file
+    //@@author Chongjx
+    @Test
+    void parseCommand_keywordsWithPageOptions_returnsPagedCommand() throws SystemException {
+        FindCommand command = (FindCommand) new ParseFindCommand().parse("java /notes /page 3 /limit 5");
+
+        assertEquals(3, command.getPage().getPageNumber());
+        assertEquals(5, command.getPage().getPageSize());
+        assertNull(((FindCommand) new ParseFindCommand().parse("java /notes")).getPage());
+    }
+
+    @Test
+    void parseCommand_invalidPageOptions_throwException() {
+        parser = new ParseFindCommand();
+        String expected = SystemException.ExceptionType.EXCEPTION_INVALID_PAGE_VALUE.toString();
+
+        assertEquals(expected, assertThrows(SystemException.class, () -> parser.parse("java /page 0")).getMessage());
+        assertEquals(expected, assertThrows(SystemException.class, () -> parser.parse("java /limit")).getMessage());
+        expected = SystemException.ExceptionType.EXCEPTION_MISSING_KEYWORD.toString();
+        assertEquals(expected, assertThrows(SystemException.class, () -> parser.parse("/page 2")).getMessage());
+    }
+}